@@ -1,5 +1,11 @@
 package app.pickmaven.businessdays;
 
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+import app.pickmaven.businessdays.rules.HolidayRuleSet;
+import app.pickmaven.businessdays.time.DateFormatters;
+import app.pickmaven.businessdays.time.IsoDates;
+import app.pickmaven.businessdays.time.Today;
+import app.pickmaven.businessdays.time.ZoneConverter;
 import app.pickmaven.businessdays.utils.HolidayUtils;
 
 import java.time.*;
@@ -31,10 +37,20 @@ public class BusinessDay {
      */
     private Holidays holidays;
 
+    /**
+     * Recurring holidays, expanded per year on demand; default none.
+     */
+    private HolidayRuleSet holidayRules;
+
+    /**
+     * The source of the current date for relative queries, default the system clock.
+     */
+    private Today today = Today.systemDefault();
+
     /**
      * The starting date, default today.
      */
-    private LocalDate startingDate = LocalDate.now();
+    private LocalDate startingDate = today.date();
 
     /**
      * Date of the next business day.
@@ -125,15 +141,25 @@ public class BusinessDay {
      * @return true if one of the following conditions are not met
      */
     private boolean conditionsAreMet() {
-        return !( isHolidayOnSaturday() || isHolidayOnSunday() || isHolidayOnWeekDays() || isHoliday() );
+        return conditionsAreMet(startingDate);
+    }
+
+    /**
+     * Checks if date is not an holiday or an holiday on saturday, sunday or another weekday.
+     *
+     * @param date to check
+     * @return true if one of the following conditions are not met
+     */
+    private boolean conditionsAreMet(LocalDate date) {
+        return !( isHolidayOnSaturday(date) || isHolidayOnSunday(date) || isHolidayOnWeekDays(date) || isHoliday(date) );
     }
 
     /**
      * @return true if is not a business saturday
      */
-    private boolean isHolidayOnSaturday() {
+    private boolean isHolidayOnSaturday(LocalDate date) {
         if (!isBusinessSaturday ) {
-            return startingDate.getDayOfWeek() == DayOfWeek.SATURDAY;
+            return date.getDayOfWeek() == DayOfWeek.SATURDAY;
         }
 
         return false;
@@ -142,36 +168,35 @@ public class BusinessDay {
     /**
      * @return true if is not a business sunday
      */
-    private boolean isHolidayOnSunday() {
+    private boolean isHolidayOnSunday(LocalDate date) {
         if (!isBusinessSunday) {
-            return startingDate.getDayOfWeek() == DayOfWeek.SUNDAY;
+            return date.getDayOfWeek() == DayOfWeek.SUNDAY;
         }
 
         return false;
     }
 
     /**
-     * Checks if the dayOfWeek of starting date is in list of holiday-weekdays stored in holidayOnWeekDays.
+     * Checks if the dayOfWeek of date is in list of holiday-weekdays stored in holidayOnWeekDays.
      *
      * @return true if is holiday on week day
      */
-    private boolean isHolidayOnWeekDays() {
-        if (checkYears()) {
+    private boolean isHolidayOnWeekDays(LocalDate date) {
+        if (checkYears(date)) {
             return holidayOnWeekDays.stream()
-                    .anyMatch(day -> startingDate.getDayOfWeek() == day);
+                    .anyMatch(day -> date.getDayOfWeek() == day);
         }
         return false;
     }
 
     /**
-     * Checks if starting date is in holidays list.
+     * Checks if date is in holidays list.
      *
-     * @return true if starting date is holiday
+     * @return true if date is holiday
      */
-    private boolean isHoliday() {
-        if (checkYears()) {
-            return holidays.stream()
-                    .anyMatch(hol -> hol.getDate().isEqual(startingDate));
+    private boolean isHoliday(LocalDate date) {
+        if (checkYears(date)) {
+            return holidays.contains(date) || (holidayRules != null && holidayRules.isHoliday(date));
         }
 
         return false;
@@ -179,20 +204,65 @@ public class BusinessDay {
 
     /**
      *
-     * @return true if starting date is in years list; true if years is empty
+     * @return true if date is in years list; true if years is empty
      */
-    private boolean checkYears() {
+    private boolean checkYears(LocalDate date) {
         if (years.isEmpty()) {
             return true;
         }
 
         return years.stream()
-                .anyMatch(y -> y.equals(startingDate.getYear()));
+                .anyMatch(y -> y.equals(date.getYear()));
+    }
+
+    // COMPILING METHODS
+
+    /**
+     * Compiles the business-day rules of this object into a {@code app.pickmaven.businessdays.calendar.CompiledCalendar}
+     * covering the given dates.
+     * <p>
+     *     The compiled calendar answers the same question as {@code nextBusinessDay(int)} for any starting date in the
+     *     range, working on primitive epoch days; it does not depend on nor change the starting date of this object.
+     *     The early closes of the holidays are compiled into its side table of partial days.
+     * </p>
+     *
+     * @param from first date to compile, not null
+     * @param to last date to compile, inclusive, not null
+     * @return compiled calendar
+     */
+    public CompiledCalendar compile(LocalDate from, LocalDate to) {
+        return CompiledCalendar.of(from, to, epochDay -> conditionsAreMet(LocalDate.ofEpochDay(epochDay)),
+                holidays.partialDays().length == 0 ? null : holidays::closingSecondOfEpochDay);
+    }
+
+    /**
+     * Measures the business time between two instants: each business day counts from midnight to its closing time,
+     * the whole day unless it closes early, and other days do not count.
+     *
+     * @param from first instant, not null
+     * @param to second instant, not null
+     * @return business time between from and to, negative if to precedes from
+     */
+    public Duration businessDuration(LocalDateTime from, LocalDateTime to) {
+        assert from != null && to != null : "instants must not be null";
+        LocalDate first = from.isAfter(to) ? to.toLocalDate() : from.toLocalDate();
+        LocalDate last = from.isAfter(to) ? from.toLocalDate() : to.toLocalDate();
+        CompiledCalendar calendar = compile(first, last);
+        return Duration.ofSeconds(calendar.businessSeconds(
+                Math.toIntExact(from.toLocalDate().toEpochDay()), from.toLocalTime().toSecondOfDay(),
+                Math.toIntExact(to.toLocalDate().toEpochDay()), to.toLocalTime().toSecondOfDay()));
     }
 
 
     // FORMATTING NEXT BUSINESS DAY METHODS
 
+    /**
+     * @return closing time of the next business day if it closes early, null otherwise
+     */
+    public LocalTime getEarlyClose() {
+        return holidays.getEarlyClose(nextBusinessDay);
+    }
+
     /**
      * @return next business day as {@code LocalDate}
      */
@@ -204,9 +274,7 @@ public class BusinessDay {
      * @return next business day as {@code Date}
      */
     public Date asDate() {
-        return Date.from(nextBusinessDay.atStartOfDay()
-                .atZone(ZoneId.systemDefault())
-                .toInstant());
+        return zoneConverter().toDate(nextBusinessDay);
     }
 
     /**
@@ -220,10 +288,8 @@ public class BusinessDay {
         int minutes = hoursMinutesSecondsCommaSeparated.length > 1 ? hoursMinutesSecondsCommaSeparated[1] : 0;
         int seconds = hoursMinutesSecondsCommaSeparated.length == 3 ? hoursMinutesSecondsCommaSeparated[2] : 0;
 
-        ZonedDateTime zdt = ZonedDateTime.of(
-                nextBusinessDay, LocalTime.of(hours, minutes, seconds), ZoneId.systemDefault()
-        );
-        return zdt.toEpochSecond();
+        int secondOfDay = LocalTime.of(hours, minutes, seconds).toSecondOfDay();
+        return zoneConverter().toEpochSecond(Math.toIntExact(nextBusinessDay.toEpochDay()), secondOfDay);
     }
 
     /**
@@ -243,19 +309,24 @@ public class BusinessDay {
      * @return next business day as formatted string
      */
     public String asString(String pattern) {
-        return nextBusinessDay.format(DateTimeFormatter.ofPattern(pattern));
+        int year = nextBusinessDay.getYear();
+        // years 1 to 9999 print the same with yyyy, uuuu and the fast path
+        if (year >= 1 && year <= 9999 && DateFormatters.isIsoLocalDate(pattern)) {
+            return IsoDates.format(nextBusinessDay);
+        }
+        return nextBusinessDay.format(DateFormatters.ofPattern(pattern));
     }
 
     /**
      * @return next business day as {@code Period}
      */
     public Period asPeriod() {
-        LocalDate today = LocalDate.now();
-        return Period.between(today, nextBusinessDay);
+        return Period.between(today.date(), nextBusinessDay);
     }
 
     /**
-     * Prints the {@code Duration} between current date and the next business day.
+     * Prints the {@code Duration} between current date and the next business day; when the next business day
+     * closes early, the time is brought back to its closing time.
      *
      * @param hoursMinutesCommaSeparated hours and minutes comma separated, default '00'
      * @return interval between today and next business day as {@code Duration}
@@ -267,12 +338,13 @@ public class BusinessDay {
         String hours = hoursMinutesCommaSeparated.length > 0 ? hoursMinutesCommaSeparated[0] : "00";
         String minutes = hoursMinutesCommaSeparated.length == 2 ? hoursMinutesCommaSeparated[1] : "00";
 
-        hours = hours.length() == 1 ? "0" + hours : hours;
-        minutes = minutes.length() == 1 ? "0" + minutes : minutes;
-
-        LocalDateTime oggi = LocalDateTime.now();
-        LocalDateTime dataNextWorkingDay = LocalDateTime.parse(asString("yyyy-MM-dd") + " " + hours + ":" + minutes,
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        LocalDateTime oggi = today.dateTime();
+        LocalTime time = LocalTime.of(Integer.parseInt(hours), Integer.parseInt(minutes));
+        LocalTime earlyClose = holidays.getEarlyClose(nextBusinessDay);
+        if (earlyClose != null && time.isAfter(earlyClose)) {
+            time = earlyClose;
+        }
+        LocalDateTime dataNextWorkingDay = nextBusinessDay.atTime(time);
 
         return Duration.between(oggi, dataNextWorkingDay);
     }
@@ -304,18 +376,11 @@ public class BusinessDay {
      */
     public Holidays getHolidays(Integer... years) {
         HolidayUtils.checkYearsValidity(years);
-        List<LocalDate> holidayList;
         if (years.length == 0) {
-            holidayList = holidays.stream().map(Holiday::getDate).collect(Collectors.toList());
-            return new Holidays(holidayList);
+            return new Holidays(holidays);
         }
 
-        holidayList =  holidays.getHolidays().stream()
-                .filter(y -> Arrays.asList(years).contains(y.getYear()))
-                .map(Holiday::getDate)
-                .collect(Collectors.toList());
-
-        return new Holidays(holidayList);
+        return holidays.ofYears(toInts(years));
     }
 
     /**
@@ -326,24 +391,13 @@ public class BusinessDay {
      * @return {@code app.pickmaven.businessdays.Holidays}
      */
     public Holidays getHolidaysFromNow(Integer... years) {
-        List<LocalDate> holidayList;
+        Holidays holidayList = holidays.tailSet(today.date(), false);
         if (years.length > 0) {
             HolidayUtils.checkYearsValidity(years);
-            holidayList = holidays.stream()
-                    .filter( y -> y.getDate().isAfter(LocalDate.now())
-                            && Arrays.asList(years).contains(y.getYear()) )
-                    .map(Holiday::getDate)
-                    .collect(Collectors.toList());
-
-            return new Holidays(holidayList);
+            return holidayList.ofYears(toInts(years));
         }
 
-        holidayList =  holidays.stream()
-                .filter(y -> y.getDate().isAfter(LocalDate.now()) )
-                .map(Holiday::getDate)
-                .collect(Collectors.toList());
-
-        return new Holidays(holidayList);
+        return holidayList;
     }
 
     /**
@@ -354,23 +408,13 @@ public class BusinessDay {
      * @return {@code app.pickmaven.businessdays.Holidays}
      */
     public Holidays getHolidaysFromStartingDate(Integer... years) {
-        List<LocalDate> holidayList;
+        Holidays holidayList = holidays.tailSet(startingDate, false);
         if (years.length > 0) {
             HolidayUtils.checkYearsValidity(years);
-            holidayList = holidays.stream()
-                    .filter( y -> y.getDate().isAfter(startingDate)
-                            && Arrays.asList(years).contains(y.getYear()) )
-                    .map(Holiday::getDate)
-                    .collect(Collectors.toList());
-            return new Holidays(holidayList);
+            return holidayList.ofYears(toInts(years));
         }
 
-        holidayList =  holidays.stream()
-                .filter(y -> y.getDate().isAfter(startingDate) )
-                .map(Holiday::getDate)
-                .collect(Collectors.toList());
-
-        return new Holidays(holidayList);
+        return holidayList;
     }
 
     /**
@@ -380,13 +424,19 @@ public class BusinessDay {
      * @return {@code app.pickmaven.businessdays.Holidays}
      */
     public Holidays getHolidaysForTemporalRange(TemporalRange range) {
-        List<LocalDate> holidayList =  holidays.stream()
-                .filter(holiday -> holiday.getDate().isAfter(range.getStartingDate()) &&
-                        holiday.getDate().isBefore(range.getEndingDate()))
-                .map(Holiday::getDate)
-                .collect(Collectors.toList());
+        return holidays.subSet(range.getStartingDate(), false, range.getEndingDate(), false);
+    }
 
-        return new Holidays(holidayList);
+    /**
+     * @param years years to convert
+     * @return years as int[]
+     */
+    private static int[] toInts(Integer[] years) {
+        int[] result = new int[years.length];
+        for (int i = 0; i < years.length; i++) {
+            result[i] = years[i];
+        }
+        return result;
     }
 
 
@@ -400,6 +450,15 @@ public class BusinessDay {
         return holidays;
     }
 
+    /**
+     * Sets the recurring holidays.
+     *
+     * @param holidayRules
+     */
+    private void setHolidayRules(HolidayRuleSet holidayRules) {
+        this.holidayRules = holidayRules;
+    }
+
     /**
      * Sets {@code app.pickmaven.businessdays.Holidays}
      *
@@ -475,6 +534,29 @@ public class BusinessDay {
         this.startingDate = startingDate;
     }
 
+    /**
+     * @return the source of the current date
+     */
+    private Today getToday() {
+        return today;
+    }
+
+    /**
+     * Sets the source of the current date.
+     *
+     * @param today
+     */
+    private void setToday(Today today) {
+        this.today = today;
+    }
+
+    /**
+     * @return the converter of the zone the current date is read in
+     */
+    private ZoneConverter zoneConverter() {
+        return ZoneConverter.of(today.getClock().getZone());
+    }
+
     /**
      * Sets weekdays to be treated as {@code app.pickmaven.businessdays.Holiday}.
      *
@@ -506,6 +588,11 @@ public class BusinessDay {
          */
         private BusinessDay businessDay;
 
+        /**
+         * True once the starting date has been set explicitly.
+         */
+        private boolean startingDateSet;
+
         /**
          * Constructor. It sets by default an empty {@code app.pickmaven.businessdays.Holidays} object.
          */
@@ -522,17 +609,59 @@ public class BusinessDay {
         }
 
         /**
-         * Sets the {@code app.pickmaven.businessdays.Holidays} object in the {@code app.pickmaven.businessdays.BusinessDay} object.
+         * Sets the {@code app.pickmaven.businessdays.Holidays} object in the {@code app.pickmaven.businessdays.BusinessDay} object,
+         * merged with the holidays already given into one set without duplicates.
          *
          * @param holidays to assign to {@code app.pickmaven.businessdays.BusinessDay}
          * @return this
          */
         public Builder givenHolidays(Holidays holidays) {
             assert holidays != null : "app.pickmaven.businessdays.Holidays must not be null";
-            Holidays hol = businessDay.getHolidays();
-            if ( hol.addAll(holidays) ) {
-                businessDay.setHolidays(hol);
+            return givenHolidays(holidays, new Holidays[0]);
+        }
+
+        /**
+         * Sets the {@code app.pickmaven.businessdays.Holidays} objects in the {@code app.pickmaven.businessdays.BusinessDay} object,
+         * merged with the holidays already given into one set without duplicates.
+         *
+         * @param first first holidays to assign to {@code app.pickmaven.businessdays.BusinessDay}
+         * @param more other holidays to assign to {@code app.pickmaven.businessdays.BusinessDay}
+         * @return this
+         */
+        public Builder givenHolidays(Holidays first, Holidays... more) {
+            assert first != null : "app.pickmaven.businessdays.Holidays must not be null";
+            assert more != null : "app.pickmaven.businessdays.Holidays must not be null";
+            HolidaysMerge.Builder merge = HolidaysMerge.Builder.aHolidaysMerge().add(businessDay.getHolidays()).add(first);
+            for (Holidays source : more) {
+                assert source != null : "app.pickmaven.businessdays.Holidays must not be null";
+                merge.add(source);
             }
+            businessDay.setHolidays(merge.build().getHolidays());
+            return this;
+        }
+
+        /**
+         * Adds the holidays of the given categories, merged with the holidays already given.
+         *
+         * @param holidays tagged holidays, not null
+         * @param categories categories to add
+         * @return this
+         */
+        public Builder givenHolidays(CategorizedHolidays holidays, HolidayCategory... categories) {
+            assert holidays != null : "app.pickmaven.businessdays.CategorizedHolidays must not be null";
+            return givenHolidays(holidays.getHolidays(categories));
+        }
+
+        /**
+         * Sets recurring holidays, checked in addition to the given {@code app.pickmaven.businessdays.Holidays}; each
+         * year is expanded from the rules the first time it is needed.
+         *
+         * @param holidayRules the rules, not null
+         * @return this
+         */
+        public Builder givenHolidayRules(HolidayRuleSet holidayRules) {
+            assert holidayRules != null : "app.pickmaven.businessdays.rules.HolidayRuleSet must not be null";
+            businessDay.setHolidayRules(holidayRules);
             return this;
         }
 
@@ -542,7 +671,7 @@ public class BusinessDay {
          * @return this
          */
         public Builder computingEaster() {
-            Holiday easter = Holiday.EASTER;
+            Holiday easter = new Holiday(HolidayUtils.getEaster(businessDay.getToday().year()));
             if (!businessDay.getHolidays().contains(easter)) {
                 businessDay.getHolidays().add(easter);
             }
@@ -550,21 +679,32 @@ public class BusinessDay {
         }
 
         /**
-         * Adds the Easter Monday as {@code app.pickmaven.businessdays.Holiday} if is not already present in {@code app.pickmaven.businessdays.Holidays}.
+         * Adds the Easter Monday as {@code app.pickmaven.businessdays.Holiday} of the year of the starting date if is not
+         * already present in {@code app.pickmaven.businessdays.Holidays}.
          *
-         * @return
+         * @return this
          */
         public Builder computingEasterMonday() {
-            Holiday easterMonday = null;
-            easterMonday = Holiday.EASTER_MONDAY;
+            return computingEasterMonday(businessDay.getStartingDate().getYear());
+        }
 
-            if (businessDay.getStartingDate().getYear() != LocalDate.now().getYear() ) {
-                easterMonday = Holiday.getEasterMonday(businessDay.getStartingDate().getYear());
+        /**
+         * Adds Easter Monday as {@code app.pickmaven.businessdays.Holiday} for each of the given years, if not already
+         * present in {@code app.pickmaven.businessdays.Holidays}.
+         *
+         * @param years 4-digit years for which adding Easter Monday
+         * @return this
+         */
+        public Builder computingEasterMonday(int... years) {
+            assert years != null : "years must not be null";
+            for (int year : years) {
+                assert year >= 1000 && year <= 9999 : "Number of digits must be equal to 4";
             }
-
-            if (!businessDay.getHolidays().contains(easterMonday)) {
-                businessDay.getHolidays().add(easterMonday);
+            int[] easterMondays = new int[years.length];
+            for (int i = 0; i < years.length; i++) {
+                easterMondays[i] = HolidayUtils.getEasterEpochDay(years[i]) + 1;
             }
+            businessDay.getHolidays().addEpochDays(easterMondays);
             return this;
         }
 
@@ -574,7 +714,7 @@ public class BusinessDay {
          * @return
          */
         public Builder computingChristmas() {
-            Holiday christmas = Holiday.CHRISTMAS;
+            Holiday christmas = Holiday.of(businessDay.getToday().year(), 12, 25);
             if (!businessDay.getHolidays().contains(christmas)) {
                 businessDay.getHolidays().add(christmas);
             }
@@ -629,6 +769,18 @@ public class BusinessDay {
             return this;
         }
 
+        /**
+         * Sets a business day closing early, such as Christmas Eve on an exchange.
+         *
+         * @param date the day, not null
+         * @param closingTime closing time, after midnight, not null
+         * @return this
+         */
+        public Builder withEarlyClose(LocalDate date, LocalTime closingTime) {
+            businessDay.getHolidays().addEarlyClose(date, closingTime);
+            return this;
+        }
+
         /**
          * Sets weekdays as holiday. This method takes precedence over 'withBusinessSaturday()' and 'withBusinessSunday()' ones.
          *
@@ -665,6 +817,23 @@ public class BusinessDay {
          */
         public Builder fromStartingDate(LocalDate startingDate) {
             businessDay.setStartingDate(startingDate);
+            startingDateSet = true;
+            return this;
+        }
+
+        /**
+         * Sets the clock relative queries such as {@code asPeriod()} and {@code getHolidaysFromNow()} read the current
+         * date from; unless a starting date has been set, the starting date becomes the current date of this clock.
+         *
+         * @param clock the clock, not null
+         * @return this
+         */
+        public Builder withClock(Clock clock) {
+            assert clock != null : "Clock must not be null";
+            businessDay.setToday(Today.of(clock));
+            if (!startingDateSet) {
+                businessDay.setStartingDate(businessDay.getToday().date());
+            }
             return this;
         }
 
@@ -0,0 +1,249 @@
+package app.pickmaven.businessdays;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Holidays tagged with a bitmask of {@code app.pickmaven.businessdays.HolidayCategory}.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.CategorizedHolidays} stores, once, every holiday of a source mixing bank holidays,
+ * public holidays, settlement closures and observances, as sorted epoch days with a parallel array of category
+ * bitmasks. The holidays of any combination of categories are then selected with one bitwise test per day, and
+ * {@code app.pickmaven.businessdays.calendar.CategorizedCalendar} derives compiled calendars from it with bitwise
+ * operations over whole words, so that no variant needs another fetch or a filtered copy of the source.
+ * <p>
+ *
+ * A day added with several categories, or added several times, holds the union of its categories.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class CategorizedHolidays {
+
+    /**
+     * Sorted, distinct epoch days.
+     */
+    private final int[] days;
+
+    /**
+     * masks[i] is the category bitmask of days[i], never 0.
+     */
+    private final int[] masks;
+
+    /**
+     * Private constructor
+     *
+     * @param days sorted, distinct epoch days
+     * @param masks category bitmask of each day
+     */
+    private CategorizedHolidays(int[] days, int[] masks) {
+        this.days = days;
+        this.masks = masks;
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @return number of holidays of every category
+     */
+    public int size() {
+        return days.length;
+    }
+
+    /**
+     * @param i index of the holiday, in date order
+     * @return epoch day of the i-th holiday
+     */
+    public int epochDayAt(int i) {
+        return days[i];
+    }
+
+    /**
+     * @param i index of the holiday, in date order
+     * @return category bitmask of the i-th holiday
+     */
+    public int categoriesAt(int i) {
+        return masks[i];
+    }
+
+    /**
+     * @param date the day, not null
+     * @return category bitmask of date, 0 if it is not a holiday
+     */
+    public int categoriesOf(LocalDate date) {
+        assert Objects.nonNull(date) : "date must be non null";
+        int i = SortedEpochDays.indexOf(days, Math.toIntExact(date.toEpochDay()));
+        return i < 0 ? 0 : masks[i];
+    }
+
+    /**
+     * @param date the day, not null
+     * @return categories of date, empty if it is not a holiday
+     */
+    public EnumSet<HolidayCategory> getCategories(LocalDate date) {
+        int mask = categoriesOf(date);
+        EnumSet<HolidayCategory> categories = EnumSet.noneOf(HolidayCategory.class);
+        for (HolidayCategory category : HolidayCategory.values()) {
+            if ((mask & category.mask()) != 0) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * @param categories categories to select
+     * @return the holidays having at least one of the categories
+     */
+    public Holidays getHolidays(HolidayCategory... categories) {
+        return getHolidays(HolidayCategory.maskOf(categories));
+    }
+
+    /**
+     * @param mask category bitmask to select
+     * @return the holidays having at least one of the categories of mask
+     */
+    public Holidays getHolidays(int mask) {
+        int[] selected = new int[days.length];
+        int n = 0;
+        for (int i = 0; i < days.length; i++) {
+            if ((masks[i] & mask) != 0) {
+                selected[n++] = days[i];
+            }
+        }
+        if (n == days.length) {
+            return Holidays.ofSortedEpochDays(days);
+        }
+        return Holidays.ofSortedEpochDays(n == 0 ? SortedEpochDays.EMPTY : Arrays.copyOf(selected, n));
+    }
+
+    /**
+     * Outputs the number of holidays.
+     *
+     * @return string representing {@code CategorizedHolidays}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.CategorizedHolidays{" +
+                "size=" + days.length +
+                '}';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Builder collecting tagged holidays.
+     */
+    public static final class Builder {
+
+        /**
+         * Tagged days packed as (epoch day &lt;&lt; 32 | mask).
+         */
+        private long[] tagged = new long[16];
+
+        /**
+         * Number of tagged days.
+         */
+        private int size;
+
+        /**
+         * Private constructor
+         */
+        private Builder() { }
+
+        /**
+         * @return a new builder
+         */
+        public static Builder aCategorizedHolidays() {
+            return new Builder();
+        }
+
+        /**
+         * Adds every holiday of a {@code app.pickmaven.businessdays.Holidays} with the given categories.
+         *
+         * @param holidays holidays to add, not null
+         * @param categories categories of the holidays, at least one
+         * @return this
+         */
+        public Builder add(Holidays holidays, HolidayCategory... categories) {
+            assert Objects.nonNull(holidays) : "app.pickmaven.businessdays.Holidays to add must be non null";
+            int mask = HolidayCategory.maskOf(categories);
+            for (int day : holidays.sortedEpochDays()) {
+                add(day, mask);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a list of dates with the given categories.
+         *
+         * @param dates dates to add, not null
+         * @param categories categories of the dates, at least one
+         * @return this
+         */
+        public Builder add(List<LocalDate> dates, HolidayCategory... categories) {
+            assert Objects.nonNull(dates) : "dates to add must be non null";
+            int mask = HolidayCategory.maskOf(categories);
+            for (LocalDate date : dates) {
+                add(Math.toIntExact(date.toEpochDay()), mask);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a date with the given categories.
+         *
+         * @param date date to add, not null
+         * @param categories categories of the date, at least one
+         * @return this
+         */
+        public Builder add(LocalDate date, HolidayCategory... categories) {
+            assert Objects.nonNull(date) : "date to add must be non null";
+            return add(Math.toIntExact(date.toEpochDay()), HolidayCategory.maskOf(categories));
+        }
+
+        /**
+         * Adds an epoch day with a category bitmask.
+         *
+         * @param epochDay day to add
+         * @param mask category bitmask, not 0
+         * @return this
+         */
+        public Builder add(int epochDay, int mask) {
+            if (mask == 0) {
+                throw new IllegalArgumentException("At least one category is needed for epoch day " + epochDay);
+            }
+            if (size == tagged.length) {
+                tagged = Arrays.copyOf(tagged, size * 2);
+            }
+            tagged[size++] = (long) epochDay << 32 | (mask & 0xFFFFFFFFL);
+            return this;
+        }
+
+        /**
+         * @return the tagged holidays, merging the categories of each day
+         */
+        public CategorizedHolidays build() {
+            long[] sorted = Arrays.copyOf(tagged, size);
+            Arrays.sort(sorted);
+            int[] days = new int[size];
+            int[] masks = new int[size];
+            int n = 0;
+            for (long day : sorted) {
+                int epochDay = (int) (day >> 32);
+                if (n > 0 && days[n - 1] == epochDay) {
+                    masks[n - 1] |= (int) day;
+                } else {
+                    days[n] = epochDay;
+                    masks[n++] = (int) day;
+                }
+            }
+            return new CategorizedHolidays(Arrays.copyOf(days, n), Arrays.copyOf(masks, n));
+        }
+    }
+}
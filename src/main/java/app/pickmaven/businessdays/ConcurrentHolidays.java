@@ -0,0 +1,241 @@
+package app.pickmaven.businessdays;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe {@code app.pickmaven.businessdays.Holidays} for calendars shared between threads.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.ConcurrentHolidays} publishes its holidays as an immutable snapshot through a
+ * volatile reference. Reads are wait-free: they read the reference once and query the snapshot, so they never
+ * block and never see a partial update. Updates are copy-on-write and serialized among themselves: each one copies
+ * the current snapshot, which shares its epoch-day array, applies the change and publishes the result.
+ * {@code add}, {@code remove}, {@code removeIf} and {@code addAll} keep the semantics of {@code Holidays}, and the
+ * predicate of {@code removeIf} is evaluated exactly once per holiday.
+ * <p>
+ *
+ * Lists, streams and range views are taken from the snapshot current at the call, and are not affected by later
+ * updates. Listeners are called by the updating thread while it holds the update lock, so they see the updates
+ * one at a time and in order.
+ *
+ * This class is thread-safe.
+ *
+ */
+public class ConcurrentHolidays extends Holidays {
+
+    /**
+     * The current snapshot; never modified once published.
+     */
+    private volatile Holidays current;
+
+    /**
+     * Lock serializing updates.
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * Constructor
+     */
+    public ConcurrentHolidays() {
+        this.current = new Holidays();
+    }
+
+    /**
+     * Constructor from {@code app.pickmaven.businessdays.Holidays}
+     *
+     * @param holidays from which get the holiday list
+     */
+    public ConcurrentHolidays(Holidays holidays) {
+        this.current = new Holidays(holidays);
+    }
+
+    /**
+     * Constructor from a list of {@code LocalDate}
+     *
+     * @param holidayList list of {@code Holiday}
+     */
+    public ConcurrentHolidays(List<LocalDate> holidayList) {
+        this.current = new Holidays(holidayList);
+    }
+
+    @Override
+    Holidays snapshot() {
+        return current;
+    }
+
+    /**
+     * Applies an update to a copy of the current snapshot and publishes the copy.
+     *
+     * @param update the update
+     * @param <T> result of the update
+     * @return result of the update
+     */
+    private <T> T update(Function<Holidays, T> update) {
+        synchronized (writeLock) {
+            Holidays before = beforeUpdate();
+            Holidays next = new Holidays(current);
+            T result = update.apply(next);
+            current = next;
+            fireChanged(before);
+            return result;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // UPDATES
+
+    @Override
+    public void add(Holiday holiday) {
+        assert Objects.nonNull(holiday)  : "app.pickmaven.businessdays.Holiday to add must be non null";
+        update(next -> {
+            next.add(holiday);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean remove(Holiday holiday) {
+        assert Objects.nonNull(holiday)  : "app.pickmaven.businessdays.Holiday to remove must be non null";
+        return update(next -> next.remove(holiday));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Holiday> filter) {
+        Objects.requireNonNull(filter);
+        return update(next -> next.removeIf(filter));
+    }
+
+    @Override
+    public boolean addAll(Holidays holidays) {
+        return update(next -> next.addAll(holidays));
+    }
+
+    @Override
+    public boolean addEpochDays(int... epochDays) {
+        return update(next -> next.addEpochDays(epochDays));
+    }
+
+    @Override
+    public void addEarlyClose(LocalDate date, LocalTime closingTime) {
+        update(next -> {
+            next.addEarlyClose(date, closingTime);
+            return null;
+        });
+    }
+
+    @Override
+    public void addPartialDay(LocalDate date, double fractionOfDay) {
+        update(next -> {
+            next.addPartialDay(date, fractionOfDay);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean removeEarlyClose(LocalDate date) {
+        return update(next -> next.removeEarlyClose(date));
+    }
+
+    //-----------------------------------------------------------------------
+    // READS
+
+    @Override
+    public boolean contains(Holiday holiday) {
+        return current.contains(holiday);
+    }
+
+    @Override
+    public boolean contains(LocalDate date) {
+        return current.contains(date);
+    }
+
+    @Override
+    public boolean containsEpochDay(int epochDay) {
+        return current.containsEpochDay(epochDay);
+    }
+
+    @Override
+    public boolean containsAll(Holidays holidayList) {
+        return current.containsAll(holidayList);
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public List<Holiday> getHolidays() {
+        return current.getHolidays();
+    }
+
+    @Override
+    public Holiday get(int i) {
+        return current.get(i);
+    }
+
+    @Override
+    public int epochDayAt(int i) {
+        return current.epochDayAt(i);
+    }
+
+    @Override
+    public int[] toEpochDays() {
+        return current.toEpochDays();
+    }
+
+    @Override
+    public String getAsString(int i, DateTimeFormatter formatter) {
+        return current.getAsString(i, formatter);
+    }
+
+    @Override
+    public Stream<Holiday> stream() {
+        return current.stream();
+    }
+
+    //-----------------------------------------------------------------------
+    // RANGE VIEWS
+
+    @Override
+    public Holidays subSet(LocalDate fromDate, LocalDate toDate) {
+        return current.subSet(fromDate, toDate);
+    }
+
+    @Override
+    public Holidays subSet(LocalDate fromDate, boolean fromInclusive, LocalDate toDate, boolean toInclusive) {
+        return current.subSet(fromDate, fromInclusive, toDate, toInclusive);
+    }
+
+    @Override
+    public Holidays headSet(LocalDate toDate) {
+        return current.headSet(toDate);
+    }
+
+    @Override
+    public Holidays tailSet(LocalDate fromDate) {
+        return current.tailSet(fromDate);
+    }
+
+    @Override
+    public Holidays tailSet(LocalDate fromDate, boolean inclusive) {
+        return current.tailSet(fromDate, inclusive);
+    }
+
+    @Override
+    public Holidays ofYear(int year) {
+        return current.ofYear(year);
+    }
+
+    @Override
+    public Holidays ofYears(int... years) {
+        return current.ofYears(years);
+    }
+}
@@ -1,5 +1,8 @@
 package app.pickmaven.businessdays;
 
+import app.pickmaven.businessdays.time.DateFormatters;
+import app.pickmaven.businessdays.time.IsoDates;
+import app.pickmaven.businessdays.time.Today;
 import app.pickmaven.businessdays.utils.HolidayUtils;
 
 import java.text.SimpleDateFormat;
@@ -7,7 +10,9 @@ import java.time.LocalDate;
 import java.time.MonthDay;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The base unit to refer to the holiday date.
@@ -25,29 +30,51 @@ public class Holiday {
 
     /**
      * The {@code app.pickmaven.businessdays.Holiday} represented by today.
+     *
+     * @deprecated frozen when the class is initialized; use {@code today()}
      */
-    public static final Holiday HOLIDAY_NOW = new Holiday(LocalDate.now());
+    @Deprecated
+    public static final Holiday HOLIDAY_NOW = new Holiday(Today.systemDefault().date());
 
     /**
      * The {@code app.pickmaven.businessdays.Holiday} represented by Easter.
+     *
+     * @deprecated frozen when the class is initialized; use {@code easter()}
      */
+    @Deprecated
     public static final Holiday EASTER = getEaster();
 
     /**
      * The {@code app.pickmaven.businessdays.Holiday} represented by Easter Monday.
+     *
+     * @deprecated frozen when the class is initialized; use {@code easterMonday()}
      */
+    @Deprecated
     public static final Holiday EASTER_MONDAY = getEasterMonday();
 
     /**
      * The {@code app.pickmaven.businessdays.Holiday} represented by Christmas day.
+     *
+     * @deprecated frozen when the class is initialized; use {@code christmas()}
      */
+    @Deprecated
     public static final Holiday CHRISTMAS = getChristmasDay();
 
+    /**
+     * The last {@code Holiday} returned by {@code today()}, reused until the date rolls over.
+     */
+    private static volatile Holiday today = HOLIDAY_NOW;
+
     /**
      * The {@code LocalDate} representing the holiday.
      */
     private final LocalDate date;
 
+    /**
+     * Cached hash code; 0 until first computed.
+     */
+    private int hash;
+
     //-----------------------------------------------------------------------
 
     /**
@@ -73,7 +100,7 @@ public class Holiday {
      * @param formatter
      */
     public Holiday(String date, String formatter) {
-        this.date = LocalDate.parse(date, DateTimeFormatter.ofPattern(formatter));
+        this.date = parse(date, formatter);
     }
 
     /**
@@ -82,7 +109,26 @@ public class Holiday {
      * @param formatter
      */
     public Holiday(String date, SimpleDateFormat formatter) {
-        this.date = LocalDate.parse(date, DateTimeFormatter.ofPattern(formatter.toPattern()));
+        this.date = parse(date, formatter.toPattern());
+    }
+
+    /**
+     * Parses a date through the {@code yyyy-MM-dd} fast path when the pattern allows it, otherwise through the cached
+     * formatter of the pattern, which also resolves the dates the fast path rejects.
+     *
+     * @param date the date
+     * @param pattern the formatter pattern
+     * @return the parsed date
+     */
+    private static LocalDate parse(String date, String pattern) {
+        if (DateFormatters.isIsoLocalDate(pattern) && date.length() == IsoDates.LENGTH) {
+            try {
+                return LocalDate.ofEpochDay(IsoDates.parseEpochDay(date, 0));
+            } catch (DateTimeParseException e) {
+                // fall through to the formatter and its resolver
+            }
+        }
+        return LocalDate.parse(date, DateFormatters.ofPattern(pattern));
     }
 
     /**
@@ -98,17 +144,47 @@ public class Holiday {
      * @param date
      */
     public Holiday(MonthDay date) {
-        this.date = date.atYear(LocalDate.now().getYear());
+        this.date = date.atYear(Today.systemDefault().year());
     }
 
     //-----------------------------------------------------------------------
 
     /**
-     * Return instance of @code app.pickmaven.businessdays.Holiday} with the current date.
+     * Return instance of {@code app.pickmaven.businessdays.Holiday} with the current date.
      * @return {@code Holiday} today
      */
     public static Holiday today() {
-        return HOLIDAY_NOW;
+        Holiday holiday = today;
+        LocalDate now = Today.systemDefault().date();
+        if (!holiday.getDate().isEqual(now)) {
+            holiday = new Holiday(now);
+            today = holiday;
+        }
+        return holiday;
+    }
+
+    /**
+     * Return an instance of {@code app.pickmaven.businessdays.Holiday} from the Easter date for the current year.
+     * @return Easter {@code Holiday}
+     */
+    public static Holiday easter() {
+        return getEaster();
+    }
+
+    /**
+     * Return an instance of {@code app.pickmaven.businessdays.Holiday} from the Easter Monday date for the current year.
+     * @return Easter Monday {@code Holiday}
+     */
+    public static Holiday easterMonday() {
+        return getEasterMonday();
+    }
+
+    /**
+     * Return an instance of {@code app.pickmaven.businessdays.Holiday} from the Christmas date for the current year.
+     * @return Christmas {@code Holiday}
+     */
+    public static Holiday christmas() {
+        return getChristmasDay();
     }
 
     /**
@@ -120,7 +196,29 @@ public class Holiday {
      * @return {@code Holiday}
      */
     public static Holiday of(int year, int month, int day) {
-        return new Holiday(LocalDate.of(year, month, day));
+        return of(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Returns the canonical instance of {@code app.pickmaven.businessdays.Holiday} for a date. Holidays are
+     * immutable and compared by date, so every collection can share one instance per day instead of holding
+     * duplicates; dates before 1900 or after 2201-05-22 get a new instance on each call.
+     *
+     * @param date of {@code Holiday}, not null
+     * @return the canonical {@code Holiday} of date, or a new one outside the interned range
+     */
+    public static Holiday of(LocalDate date) {
+        return Interned.of(Math.toIntExact(date.toEpochDay()), date);
+    }
+
+    /**
+     * Returns the canonical instance of {@code app.pickmaven.businessdays.Holiday} for an epoch day.
+     *
+     * @param epochDay of {@code Holiday}
+     * @return the canonical {@code Holiday} of epochDay, or a new one outside the interned range
+     */
+    public static Holiday ofEpochDay(int epochDay) {
+        return Interned.of(epochDay, null);
     }
 
     /**
@@ -128,7 +226,7 @@ public class Holiday {
      * @return Easter {@code Holiday}
      */
     private static Holiday getEaster() {
-        LocalDate easter = HolidayUtils.getEaster(LocalDate.now().getYear());
+        LocalDate easter = HolidayUtils.getEaster(Today.systemDefault().year());
         return new Holiday(easter);
     }
 
@@ -137,7 +235,7 @@ public class Holiday {
      * @return Easter Monday Holiday
      */
     private static Holiday getEasterMonday() {
-        LocalDate easterMonday = HolidayUtils.getEasterMonday(LocalDate.now().getYear());
+        LocalDate easterMonday = HolidayUtils.getEasterMonday(Today.systemDefault().year());
         return new Holiday(easterMonday);
     }
 
@@ -156,7 +254,7 @@ public class Holiday {
      * @return Christmas {@code Holiday}
      */
     private static Holiday getChristmasDay() {
-        return new Holiday(LocalDate.of(LocalDate.now().getYear(), 12, 25));
+        return new Holiday(LocalDate.of(Today.systemDefault().year(), 12, 25));
     }
 
     //-----------------------------------------------------------------------
@@ -216,7 +314,13 @@ public class Holiday {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(getDate());
+        int h = hash;
+        if (h == 0) {
+            // same value as Objects.hash(date), without the varargs array
+            h = 31 + date.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     /**
@@ -230,4 +334,44 @@ public class Holiday {
                 '}';
     }
 
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * The canonical instances, created on first request. Days from 1900-01-01 to 2201-05-22 are held in blocks of 512 days
+     * allocated on demand; other days are not interned, so that reading far-past or far-future dates does not retain
+     * them for the life of the process.
+     */
+    private static final class Interned {
+
+        private static final int FIRST_EPOCH_DAY = -25567; // 1900-01-01
+
+        private static final int BLOCK_SHIFT = 9;
+
+        private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+        private static final int BLOCKS = 215;
+
+        private static final AtomicReferenceArray<AtomicReferenceArray<Holiday>> BLOCKED = new AtomicReferenceArray<>(BLOCKS);
+
+        static Holiday of(int epochDay, LocalDate date) {
+            long index = (long) epochDay - FIRST_EPOCH_DAY;
+            if (index < 0 || index >= (long) BLOCKS << BLOCK_SHIFT) {
+                return new Holiday(date != null ? date : LocalDate.ofEpochDay(epochDay));
+            }
+            int b = (int) (index >>> BLOCK_SHIFT);
+            AtomicReferenceArray<Holiday> block = BLOCKED.get(b);
+            if (block == null) {
+                BLOCKED.compareAndSet(b, null, new AtomicReferenceArray<>(1 << BLOCK_SHIFT));
+                block = BLOCKED.get(b);
+            }
+            int i = (int) index & BLOCK_MASK;
+            Holiday holiday = block.get(i);
+            if (holiday == null) {
+                Holiday created = new Holiday(date != null ? date : LocalDate.ofEpochDay(epochDay));
+                holiday = block.compareAndSet(i, null, created) ? created : block.get(i);
+            }
+            return holiday;
+        }
+    }
 }
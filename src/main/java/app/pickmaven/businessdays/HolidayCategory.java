@@ -0,0 +1,51 @@
+package app.pickmaven.businessdays;
+
+/**
+ * The kind of closure a holiday stands for; each category is one bit of a category bitmask.
+ */
+public enum HolidayCategory {
+
+    /**
+     * Public holiday, closing offices and most businesses.
+     */
+    PUBLIC,
+
+    /**
+     * Bank holiday, closing banks and payment systems.
+     */
+    BANK,
+
+    /**
+     * Closure of settlement systems only.
+     */
+    SETTLEMENT,
+
+    /**
+     * Observance or optional holiday, not closing business by itself.
+     */
+    OBSERVANCE;
+
+    /**
+     * Bitmask holding every category.
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    /**
+     * @return the bit of this category
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * @param categories categories to combine
+     * @return bitmask of the categories, 0 if none is given
+     */
+    public static int maskOf(HolidayCategory... categories) {
+        int mask = 0;
+        for (HolidayCategory category : categories) {
+            mask |= category.mask();
+        }
+        return mask;
+    }
+}
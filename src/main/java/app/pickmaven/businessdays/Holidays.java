@@ -1,47 +1,73 @@
 package app.pickmaven.businessdays;
 
-import app.pickmaven.businessdays.utils.HolidayUtils;
+import app.pickmaven.businessdays.time.IsoDates;
+import app.pickmaven.businessdays.time.MonthDayTokenizer;
+import app.pickmaven.businessdays.time.Today;
 
 import java.time.LocalDate;
-import java.time.MonthDay;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * The collection object storing reference to the {@code app.pickmaven.businessdays.Holiday} objects.
  *
  * <p>
- * {@code app.pickmaven.businessdays.Holidays} stores a {@code List<app.pickmaven.businessdays.Holiday>} object and implements some operations of
- * {@code List} interface such as {@code Add}, {@code Remove}, {@code Contains}, {@code Get} and others.
+ * {@code app.pickmaven.businessdays.Holidays} stores the holiday dates as a sorted array of distinct epoch days and
+ * implements some operations of {@code List} interface such as {@code Add}, {@code Remove}, {@code Contains},
+ * {@code Get} and others on top of it. Holidays are therefore kept in date order without duplicates, lookups are
+ * binary searches and {@code app.pickmaven.businessdays.Holiday} objects are only created when they are read.
  * <p>
  *
- * The {@code List<app.pickmaven.businessdays.Holiday>} stored iside the {@code app.pickmaven.businessdays.Holidays} object is implemented by default as an {@code ArrayList<T>}.
- * The implemention can be set as {@code LinkedList<T>} calling the method {@code asLinkedList}.
+ * The array is never modified once built: updates replace it, so copies share it and {@code getHolidays()} returns
+ * a snapshot without copying. The range views ({@code subSet}, {@code headSet}, {@code tailSet} and {@code ofYear})
+ * share it as well, bounded by two indexes found by binary search; a view takes its own copy of the range on its
+ * first update, so it never affects the object it was taken from.
+ *
+ * Business days closing early, such as Christmas Eve on most exchanges, are kept apart from the holidays in a
+ * second sorted array holding the day and its closing time; they are carried by copies, views and merges, and
+ * compiled into the side table of {@code app.pickmaven.businessdays.calendar.CompiledCalendar}. A day being both a
+ * holiday and a partial day is a holiday.
+ *
+ * Listeners added with {@code addListener} are told the days changed by each update, so that caches built on the
+ * holidays can drop the entries overlapping them instead of being flushed; without listeners, updates pay nothing
+ * for them.
  *
  */
 public class Holidays {
     /**
-     * List of {@code app.pickmaven.businessdays.Holiday} objects.
+     * Sorted, distinct epoch days of the holidays.
      */
-    private List<Holiday> holidays;
+    private int[] days;
 
     /**
-     * Implements the list of {@code app.pickmaven.businessdays.Holiday} as {@LinkedList}; default false.
+     * Index of the first day of this object in days.
      */
-    private boolean linkedlistImpl;
+    private int from;
+
+    /**
+     * Index following the last day of this object in days.
+     */
+    private int to;
+
+    /**
+     * Partial days of this object, packed as by {@code PartialDays}.
+     */
+    private long[] partialDays = PartialDays.EMPTY;
+
+    /**
+     * Listeners of the updates of this object, null until one is added; not carried by copies and views.
+     */
+    private volatile List<HolidaysListener> listeners;
 
     /**
      * Constructor
      */
     public Holidays () {
-        if (!linkedlistImpl) {
-            this.holidays = new ArrayList<>();
-        } else {
-            this.holidays = new LinkedList<>();
-        }
+        this(SortedEpochDays.EMPTY);
     }
 
     /**
@@ -50,7 +76,11 @@ public class Holidays {
      * @param holidays from which get the holiday list
      */
     public Holidays(Holidays holidays) {
-        this.holidays = new ArrayList<>(holidays.getHolidays());
+        Holidays snapshot = holidays.snapshot();
+        this.days = snapshot.days;
+        this.from = snapshot.from;
+        this.to = snapshot.to;
+        this.partialDays = snapshot.partialDays;
     }
 
     /**
@@ -59,11 +89,12 @@ public class Holidays {
      * @param holidayList list of {@code Holiday}
      */
     public Holidays (List<LocalDate> holidayList) {
-        if (!linkedlistImpl) {
-            this.holidays = new ArrayList<Holiday>(HolidayUtils.toHolidayList(holidayList));
-        } else {
-            this.holidays = new LinkedList<Holiday>(HolidayUtils.toHolidayList(holidayList));
+        int[] epochDays = new int[holidayList.size()];
+        int n = 0;
+        for (LocalDate date : holidayList) {
+            epochDays[n++] = Math.toIntExact(date.toEpochDay());
         }
+        setDays(SortedEpochDays.of(epochDays, n));
     }
 
     /**
@@ -72,55 +103,160 @@ public class Holidays {
      *
      * @param delimiter delimiter for splitting monthAndDay dates
      * @param monthsAndDays {@code String[]} months and days
+     * @throws java.time.format.DateTimeParseException if an entry is not a valid month and day
      */
     public Holidays (String delimiter, String... monthsAndDays) {
-        List<MonthDay> holidayList = getLocalDateListByMonthAndDay(delimiter, monthsAndDays);
-        if (!linkedlistImpl) {
-            this.holidays = new ArrayList<Holiday>(HolidayUtils.toHolidayListByMonthDay(holidayList));
-        } else {
-            this.holidays = new LinkedList<Holiday>(HolidayUtils.toHolidayListByMonthDay(holidayList));
+        MonthDayTokenizer tokenizer = MonthDayTokenizer.of(delimiter);
+        int year = Today.systemDefault().year();
+        int[] epochDays = new int[monthsAndDays.length];
+        for (int i = 0; i < monthsAndDays.length; i++) {
+            epochDays[i] = tokenizer.parseEpochDay(monthsAndDays[i], year);
         }
+        setDays(SortedEpochDays.of(epochDays, epochDays.length));
     }
 
     /**
      * Constructor from list of holiday, given a date delimiter and a day-month delimiter.
+     * The year of holiday date is the current year; see {@code Holidays(String, String, String, int)}.
      *
      * @param dayMonthDelimiter delimiter for splitting day and month
      * @param dateDelimiter delimiter for splitting dates
      * @param holidayList list of holiday
+     * @throws java.time.format.DateTimeParseException if an entry is not a valid month and day
      */
     public Holidays (String dayMonthDelimiter, String dateDelimiter, String holidayList) {
-        if (!linkedlistImpl) {
-            this.holidays = new ArrayList<Holiday>(HolidayUtils.toHolidayList(dayMonthDelimiter, dateDelimiter, holidayList));
-        } else {
-            this.holidays = new LinkedList<Holiday>(HolidayUtils.toHolidayList(dayMonthDelimiter, dateDelimiter, holidayList));
+        this(dayMonthDelimiter, dateDelimiter, holidayList, Today.systemDefault().year());
+    }
+
+    /**
+     * Constructor from list of holiday of a year, given a date delimiter and a day-month delimiter.
+     * The list is read in one pass, see {@code app.pickmaven.businessdays.time.MonthDayTokenizer}; {@code 02-29} is
+     * read as February 28 in a non-leap year, so {@code "02-28|02-29"} then yields one holiday.
+     *
+     * @param dayMonthDelimiter delimiter for splitting day and month
+     * @param dateDelimiter delimiter for splitting dates
+     * @param holidayList list of holiday
+     * @param year year of holiday date
+     * @throws java.time.format.DateTimeParseException if an entry is not a valid month and day
+     */
+    public Holidays (String dayMonthDelimiter, String dateDelimiter, String holidayList, int year) {
+        int[] epochDays = MonthDayTokenizer.of(dayMonthDelimiter, dateDelimiter).parseEpochDays(holidayList, year);
+        setDays(SortedEpochDays.of(epochDays, epochDays.length));
+    }
+
+    /**
+     * Constructor over sorted, distinct epoch days.
+     *
+     * @param days the days, not modified afterwards
+     */
+    private Holidays(int[] days) {
+        this(days, 0, days.length);
+    }
+
+    /**
+     * Constructor of a view over a range of sorted, distinct epoch days.
+     *
+     * @param days the days, not modified afterwards
+     * @param from index of the first day
+     * @param to index following the last day
+     */
+    private Holidays(int[] days, int from, int to) {
+        this.days = days;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Replaces the days of this object.
+     *
+     * @param days sorted, distinct days, not modified afterwards
+     */
+    private void setDays(int[] days) {
+        this.days = days;
+        this.from = 0;
+        this.to = days.length;
+    }
+
+    /**
+     * Returns an object whose days can be read without further synchronization; this object itself, unless the
+     * class publishes its state differently.
+     *
+     * @return this object or an immutable snapshot of it
+     */
+    Holidays snapshot() {
+        return this;
+    }
+
+    /**
+     * @return the sorted days of this object, shared when possible; must not be modified
+     */
+    int[] sortedEpochDays() {
+        Holidays snapshot = snapshot();
+        if (snapshot.from == 0 && snapshot.to == snapshot.days.length) {
+            return snapshot.days;
         }
+        return Arrays.copyOfRange(snapshot.days, snapshot.from, snapshot.to);
     }
 
     /**
-     * Splits the array of month-day string and converts it in a list of {@code MonthDay}.
+     * Creates a {@code Holidays} over sorted, distinct epoch days.
      *
-     * @param delimiter delimiter for splitting dates
-     * @param monthsAndDays String[] month and day
-     * @return list of {@code MonthDay}
+     * @param days the days, not modified afterwards
+     * @return a new {@code Holidays}
+     */
+    static Holidays ofSortedEpochDays(int[] days) {
+        return new Holidays(days);
+    }
+
+    /**
+     * Creates a {@code Holidays} over sorted, distinct epoch days and sorted partial days.
+     *
+     * @param days the days, not modified afterwards
+     * @param partialDays the partial days, packed as by {@code PartialDays}, not modified afterwards
+     * @return a new {@code Holidays}
+     */
+    static Holidays ofSortedEpochDays(int[] days, long[] partialDays) {
+        Holidays holidays = new Holidays(days);
+        holidays.partialDays = partialDays;
+        return holidays;
+    }
+
+    /**
+     * @return the sorted partial days of this object, packed as by {@code PartialDays}; must not be modified
      */
-    private List<MonthDay> getLocalDateListByMonthAndDay(String delimiter, String[] monthsAndDays) {
-        List<String> holidayList = Arrays.asList(monthsAndDays);
-        return holidayList.stream()
-                .map(el -> el.trim().split(delimiter))
-                .map(el ->
-                        MonthDay.of(Integer.valueOf(el[0].trim()), Integer.valueOf(el[1].trim())))
-                .collect(Collectors.toList());
+    long[] partialDays() {
+        return snapshot().partialDays;
+    }
+
+    /**
+     * @return the days of this object as a whole array, copying the range of a view
+     */
+    private int[] ownDays() {
+        if (from != 0 || to != days.length) {
+            setDays(from == to ? SortedEpochDays.EMPTY : Arrays.copyOfRange(days, from, to));
+        }
+        return days;
     }
 
     /**
-     * Adds the {@code app.pickmaven.businessdays.Holiday} to {@code app.pickmaven.businessdays.Holidays}
+     * @param date the date
+     * @return epoch day of date
+     */
+    private static int epochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * Adds the {@code app.pickmaven.businessdays.Holiday} to {@code app.pickmaven.businessdays.Holidays}, unless
+     * a holiday with the same date is already present.
      *
      * @param holiday to add, not null
      */
     public void add(Holiday holiday) {
         assert Objects.nonNull(holiday)  : "app.pickmaven.businessdays.Holiday to add must be non null";
-        holidays.add(holiday);
+        Holidays before = beforeUpdate();
+        setDays(SortedEpochDays.insert(ownDays(), epochDay(holiday.getDate())));
+        fireChanged(before);
     }
 
     /**
@@ -131,7 +267,14 @@ public class Holidays {
      */
     public boolean remove(Holiday holiday) {
         assert Objects.nonNull(holiday)  : "app.pickmaven.businessdays.Holiday to remove must be non null";
-        return holidays.remove(holiday);
+        int i = SortedEpochDays.indexOf(days, from, to, epochDay(holiday.getDate()));
+        if (i < 0) {
+            return false;
+        }
+        Holidays before = beforeUpdate();
+        setDays(SortedEpochDays.delete(ownDays(), i - from));
+        fireChanged(before);
+        return true;
     }
 
     /**
@@ -142,7 +285,28 @@ public class Holidays {
      */
     public boolean contains(Holiday holiday) {
         assert Objects.nonNull(holiday)  : "app.pickmaven.businessdays.Holiday to verify must be non null";
-        return holidays.contains(holiday);
+        return containsEpochDay(epochDay(holiday.getDate()));
+    }
+
+    /**
+     * Checks if {@code app.pickmaven.businessdays.Holidays} contains a holiday on date.
+     *
+     * @param date to search for, not null
+     * @return true if date is a holiday
+     */
+    public boolean contains(LocalDate date) {
+        assert Objects.nonNull(date)  : "date to verify must be non null";
+        return containsEpochDay(epochDay(date));
+    }
+
+    /**
+     * Checks if {@code app.pickmaven.businessdays.Holidays} contains a holiday on the given epoch day.
+     *
+     * @param epochDay to search for
+     * @return true if epochDay is a holiday
+     */
+    public boolean containsEpochDay(int epochDay) {
+        return SortedEpochDays.indexOf(days, from, to, epochDay) >= 0;
     }
 
     /**
@@ -154,44 +318,68 @@ public class Holidays {
      */
     public boolean containsAll(Holidays holidayList) {
         assert Objects.nonNull(holidayList)  : "app.pickmaven.businessdays.Holidays to verify must be non null";
-        assert holidayList.size() <= holidays.size()  : "app.pickmaven.businessdays.Holidays to verify exceed in size";
-        return holidays.containsAll(holidayList.getHolidays());
+        assert holidayList.size() <= size()  : "app.pickmaven.businessdays.Holidays to verify exceed in size";
+        Holidays other = holidayList.snapshot();
+        return SortedEpochDays.containsAll(days, from, to, other.days, other.from, other.to);
     }
 
     /**
      * @return number of elements in {@code app.pickmaven.businessdays.Holidays}
      */
     public int size() {
-        return holidays.size();
+        return to - from;
     }
 
     /**
-     * Sets the internal implementation of list of holidas as {@code LinkedList}.
+     * Formerly set the internal implementation of list of holidays as {@code LinkedList}; holidays are now always
+     * stored as a sorted array, so this method has no effect.
      *
      * @return this
+     * @deprecated holidays are stored as a sorted array of epoch days
      */
+    @Deprecated
     public Holidays asLinkedList() {
-        this.linkedlistImpl = true;
         return this;
     }
 
     /**
-     * Gets the list of {@code app.pickmaven.businessdays.Holiday}. Side-effect free.
+     * Gets the list of {@code app.pickmaven.businessdays.Holiday} in date order. Side-effect free: the list is an
+     * unmodifiable snapshot, unaffected by later changes to this object.
      *
      * @return list of {@code app.pickmaven.businessdays.Holiday}
      */
     public List<Holiday> getHolidays() {
-        return new ArrayList<Holiday>(holidays);
+        return new HolidayList(days, from, to);
     }
 
     /**
-     * Returns the {@code app.pickmaven.businessdays.Holiday} at position i.
+     * Returns the {@code app.pickmaven.businessdays.Holiday} at position i, in date order.
      *
      * @param i position of {@code app.pickmaven.businessdays.Holiday in the list}
      * @return {@code app.pickmaven.businessdays.Holiday}
      */
     public Holiday get(int i) {
-        return holidays.get(i);
+        return Holiday.ofEpochDay(epochDayAt(i));
+    }
+
+    /**
+     * Returns the epoch day of the holiday at position i, in date order.
+     *
+     * @param i position in the list
+     * @return epoch day of the holiday
+     */
+    public int epochDayAt(int i) {
+        if (i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        }
+        return days[from + i];
+    }
+
+    /**
+     * @return the sorted, distinct epoch days of the holidays, as a new array
+     */
+    public int[] toEpochDays() {
+        return Arrays.copyOfRange(days, from, to);
     }
 
     /**
@@ -213,31 +401,349 @@ public class Holidays {
      */
     public boolean removeIf(Predicate<? super Holiday> filter) {
         Objects.requireNonNull(filter);
-        boolean removed = false;
-        final Iterator<Holiday> each = holidays.iterator();
-        while (each.hasNext()) {
-            if (filter.test(each.next())) {
-                each.remove();
-                removed = true;
+        int[] kept = new int[size()];
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            if (!filter.test(Holiday.ofEpochDay(days[i]))) {
+                kept[n++] = days[i];
             }
         }
-        return removed;
+        if (n == kept.length) {
+            return false;
+        }
+        Holidays before = beforeUpdate();
+        setDays(n == 0 ? SortedEpochDays.EMPTY : Arrays.copyOf(kept, n));
+        fireChanged(before);
+        return true;
     }
 
     /**
-     * @return a {@code Stream<app.pickmaven.businessdays.Holiday>} from the {@code app.pickmaven.businessdays.Holidays}.
+     * @return a {@code Stream<app.pickmaven.businessdays.Holiday>} from the {@code app.pickmaven.businessdays.Holidays}, in date order.
      */
     public Stream<Holiday> stream() {
-        return holidays.stream();
+        return getHolidays().stream();
     }
 
     /**
-     * Adds all {@code app.pickmaven.businessdays.Holiday} of holidays to this.
+     * Adds all {@code app.pickmaven.businessdays.Holiday} of holidays to this, merging the two sorted arrays in one pass.
      *
      * @param holidays {@code app.pickmaven.businessdays.Holidays} to add
-     * @return true if all elements in holidays has been added to this
+     * @return true if this has changed
      */
     public boolean addAll(Holidays holidays) {
-       return this.holidays.addAll(holidays.getHolidays());
+        Holidays other = holidays.snapshot();
+        Holidays before = beforeUpdate();
+        int[] own = ownDays();
+        int[] merged = SortedEpochDays.union(own, other.days, other.from, other.to);
+        setDays(merged);
+        long[] ownPartialDays = partialDays;
+        partialDays = PartialDays.merge(ownPartialDays, other.partialDays);
+        fireChanged(before);
+        return merged != own || partialDays != ownPartialDays;
+    }
+
+    /**
+     * Adds holidays on the given epoch days, in any order.
+     *
+     * @param epochDays days to add
+     * @return true if this has changed
+     */
+    public boolean addEpochDays(int... epochDays) {
+        Holidays before = beforeUpdate();
+        int[] own = ownDays();
+        int[] added = SortedEpochDays.of(epochDays, epochDays.length);
+        int[] merged = SortedEpochDays.union(own, added, 0, added.length);
+        setDays(merged);
+        fireChanged(before);
+        return merged != own;
+    }
+
+    //-----------------------------------------------------------------------
+    // PARTIAL DAYS
+
+    /**
+     * Sets a business day closing before midnight, replacing its previous closing time if any.
+     *
+     * @param date the day, not null
+     * @param closingTime closing time, after midnight, not null; truncated to the second
+     */
+    public void addEarlyClose(LocalDate date, LocalTime closingTime) {
+        assert Objects.nonNull(date) : "date must be non null";
+        assert Objects.nonNull(closingTime) : "closingTime must be non null";
+        int closingSecond = closingTime.toSecondOfDay();
+        assert closingSecond > 0 : "closingTime must be after midnight";
+        Holidays before = beforeUpdate();
+        partialDays = PartialDays.put(partialDays, epochDay(date), closingSecond);
+        fireChanged(before);
+    }
+
+    /**
+     * Sets a business day open for a fraction of the day, closing at that fraction of the 24 hours; a half day
+     * closes at noon.
+     *
+     * @param date the day, not null
+     * @param fractionOfDay fraction of the day, greater than 0 and less than 1
+     */
+    public void addPartialDay(LocalDate date, double fractionOfDay) {
+        assert fractionOfDay > 0 && fractionOfDay < 1 : "fractionOfDay must be between 0 and 1, exclusive";
+        int closingSecond = (int) Math.round(fractionOfDay * PartialDays.SECONDS_PER_DAY);
+        closingSecond = Math.max(1, Math.min(PartialDays.SECONDS_PER_DAY - 1, closingSecond));
+        addEarlyClose(date, LocalTime.ofSecondOfDay(closingSecond));
+    }
+
+    /**
+     * @param date the day, not null
+     * @return true if date was a partial day
+     */
+    public boolean removeEarlyClose(LocalDate date) {
+        assert Objects.nonNull(date) : "date must be non null";
+        long[] own = partialDays;
+        Holidays before = beforeUpdate();
+        partialDays = PartialDays.delete(own, epochDay(date));
+        fireChanged(before);
+        return partialDays != own;
+    }
+
+    /**
+     * @param date the day, not null
+     * @return true if date closes early
+     */
+    public boolean isPartialDay(LocalDate date) {
+        return PartialDays.indexOf(snapshot().partialDays, epochDay(date)) >= 0;
+    }
+
+    /**
+     * @param date the day, not null
+     * @return the closing time of date, null if it does not close early
+     */
+    public LocalTime getEarlyClose(LocalDate date) {
+        int closingSecond = closingSecondOfEpochDay(epochDay(date));
+        return closingSecond == PartialDays.SECONDS_PER_DAY ? null : LocalTime.ofSecondOfDay(closingSecond);
+    }
+
+    /**
+     * @param epochDay the day
+     * @return the closing second of day of epochDay, 86400 if it does not close early
+     */
+    public int closingSecondOfEpochDay(int epochDay) {
+        return PartialDays.closingSecondOf(snapshot().partialDays, epochDay);
+    }
+
+    /**
+     * @return the partial days in date order with their closing times, as an unmodifiable snapshot
+     */
+    public SortedMap<LocalDate, LocalTime> getEarlyCloses() {
+        SortedMap<LocalDate, LocalTime> earlyCloses = new TreeMap<>();
+        for (long partialDay : snapshot().partialDays) {
+            earlyCloses.put(LocalDate.ofEpochDay(PartialDays.epochDay(partialDay)),
+                    LocalTime.ofSecondOfDay(PartialDays.closingSecond(partialDay)));
+        }
+        return Collections.unmodifiableSortedMap(earlyCloses);
+    }
+
+    //-----------------------------------------------------------------------
+    // LISTENERS
+
+    /**
+     * Adds a listener told of the days changed by each later update of this object.
+     *
+     * @param listener the listener, not null
+     */
+    public void addListener(HolidaysListener listener) {
+        assert Objects.nonNull(listener) : "app.pickmaven.businessdays.HolidaysListener must be non null";
+        synchronized (this) {
+            if (listeners == null) {
+                listeners = new CopyOnWriteArrayList<>();
+            }
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * @param listener the listener to remove
+     * @return true if listener was listening to this object
+     */
+    public boolean removeListener(HolidaysListener listener) {
+        List<HolidaysListener> current = listeners;
+        return current != null && current.remove(listener);
+    }
+
+    /**
+     * @return a snapshot of this object to compare with after an update, null when nobody listens
+     */
+    Holidays beforeUpdate() {
+        return listeners == null ? null : new Holidays(snapshot());
+    }
+
+    /**
+     * Tells the listeners the days changed since a snapshot taken by {@code beforeUpdate()}, if any.
+     *
+     * @param before the snapshot, null when nobody listened
+     */
+    void fireChanged(Holidays before) {
+        List<HolidaysListener> current = listeners;
+        if (before == null || current == null) {
+            return;
+        }
+        HolidaysChangeEvent event = HolidaysChangeEvent.of(this, before, snapshot());
+        if (event != null) {
+            for (HolidaysListener listener : current) {
+                listener.holidaysChanged(event);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // RANGE VIEWS
+
+    /**
+     * Returns a view of the holidays from fromDate, inclusive, to toDate, exclusive.
+     *
+     * @param fromDate low endpoint, inclusive, not null
+     * @param toDate high endpoint, exclusive, not null
+     * @return view of the holidays in the range
+     */
+    public Holidays subSet(LocalDate fromDate, LocalDate toDate) {
+        return subSet(fromDate, true, toDate, false);
+    }
+
+    /**
+     * Returns a view of the holidays between two dates.
+     *
+     * @param fromDate low endpoint, not null
+     * @param fromInclusive true if fromDate is included
+     * @param toDate high endpoint, not null
+     * @param toInclusive true if toDate is included
+     * @return view of the holidays in the range
+     */
+    public Holidays subSet(LocalDate fromDate, boolean fromInclusive, LocalDate toDate, boolean toInclusive) {
+        assert fromDate != null && toDate != null : "range endpoints must not be null";
+        long low = fromInclusive ? fromDate.toEpochDay() : fromDate.toEpochDay() + 1;
+        long high = toInclusive ? toDate.toEpochDay() + 1 : toDate.toEpochDay();
+        return range(low, high);
+    }
+
+    /**
+     * Returns a view of the holidays before toDate.
+     *
+     * @param toDate high endpoint, exclusive, not null
+     * @return view of the holidays before toDate
+     */
+    public Holidays headSet(LocalDate toDate) {
+        assert toDate != null : "toDate must not be null";
+        return range(Long.MIN_VALUE, toDate.toEpochDay());
+    }
+
+    /**
+     * Returns a view of the holidays from fromDate on.
+     *
+     * @param fromDate low endpoint, inclusive, not null
+     * @return view of the holidays from fromDate on
+     */
+    public Holidays tailSet(LocalDate fromDate) {
+        return tailSet(fromDate, true);
+    }
+
+    /**
+     * Returns a view of the holidays after fromDate.
+     *
+     * @param fromDate low endpoint, not null
+     * @param inclusive true if fromDate is included
+     * @return view of the holidays after fromDate
+     */
+    public Holidays tailSet(LocalDate fromDate, boolean inclusive) {
+        assert fromDate != null : "fromDate must not be null";
+        return range(inclusive ? fromDate.toEpochDay() : fromDate.toEpochDay() + 1, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a view of the holidays of one year.
+     *
+     * @param year the year
+     * @return view of the holidays in year
+     */
+    public Holidays ofYear(int year) {
+        return range(IsoDates.toEpochDay(year, 1, 1), IsoDates.toEpochDay(year + 1, 1, 1));
+    }
+
+    /**
+     * Returns the holidays of the given years: a view when the years are consecutive, otherwise a new object
+     * holding the slices of each year.
+     *
+     * @param years the years, in any order
+     * @return the holidays in years
+     */
+    public Holidays ofYears(int... years) {
+        int[] sorted = SortedEpochDays.of(years, years.length);
+        if (sorted.length == 0) {
+            return new Holidays();
+        }
+        if (sorted[sorted.length - 1] - sorted[0] == sorted.length - 1) {
+            return range(IsoDates.toEpochDay(sorted[0], 1, 1), IsoDates.toEpochDay(sorted[sorted.length - 1] + 1, 1, 1));
+        }
+        int[] slices = new int[size()];
+        long[][] partialSlices = new long[sorted.length][];
+        int n = 0;
+        for (int k = 0; k < sorted.length; k++) {
+            Holidays slice = ofYear(sorted[k]);
+            System.arraycopy(slice.days, slice.from, slices, n, slice.size());
+            n += slice.size();
+            partialSlices[k] = slice.partialDays;
+        }
+        return ofSortedEpochDays(n == 0 ? SortedEpochDays.EMPTY : Arrays.copyOf(slices, n),
+                PartialDays.merge(partialSlices));
+    }
+
+    /**
+     * @param low first epoch day, inclusive
+     * @param high last epoch day, exclusive
+     * @return view of the days in the range
+     */
+    private Holidays range(long low, long high) {
+        int i = SortedEpochDays.lowerBound(days, from, to, clamp(low));
+        int j = SortedEpochDays.lowerBound(days, i, to, clamp(high));
+        if (high > Integer.MAX_VALUE) {
+            j = to;
+        }
+        Holidays view = new Holidays(days, i, Math.max(i, j));
+        view.partialDays = PartialDays.range(partialDays, clamp(low), clamp(high));
+        return view;
+    }
+
+    private static int clamp(long epochDay) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, epochDay));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Unmodifiable list of {@code app.pickmaven.businessdays.Holiday} over an array of epoch days.
+     */
+    private static final class HolidayList extends AbstractList<Holiday> implements RandomAccess {
+
+        private final int[] days;
+
+        private final int from;
+
+        private final int to;
+
+        HolidayList(int[] days, int from, int to) {
+            this.days = days;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Holiday get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return Holiday.ofEpochDay(days[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
     }
 }
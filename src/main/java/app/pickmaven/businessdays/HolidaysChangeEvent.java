@@ -0,0 +1,174 @@
+package app.pickmaven.businessdays;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The days changed by one update of a {@code app.pickmaven.businessdays.Holidays}.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.HolidaysChangeEvent} carries the holidays added and removed by the update and
+ * the days whose early close changed, as sorted epoch days, with the range they span. A cache keyed by date ranges
+ * drops the entries for which {@code overlaps} is true and keeps the others.
+ * <p>
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class HolidaysChangeEvent {
+
+    /**
+     * The updated holidays.
+     */
+    private final Holidays source;
+
+    /**
+     * Holidays added by the update.
+     */
+    private final int[] added;
+
+    /**
+     * Holidays removed by the update.
+     */
+    private final int[] removed;
+
+    /**
+     * Every day changed by the update, including the days whose early close changed; never empty.
+     */
+    private final int[] changed;
+
+    /**
+     * Private constructor
+     */
+    private HolidaysChangeEvent(Holidays source, int[] added, int[] removed, int[] changed) {
+        this.source = source;
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    /**
+     * Compares the state of holidays before and after an update.
+     *
+     * @param source the updated holidays
+     * @param before snapshot taken before the update
+     * @param after snapshot taken after the update
+     * @return the event, null if the update changed nothing
+     */
+    static HolidaysChangeEvent of(Holidays source, Holidays before, Holidays after) {
+        int[] beforeDays = before.sortedEpochDays();
+        int[] afterDays = after.sortedEpochDays();
+        int[] added = SortedEpochDays.difference(afterDays, beforeDays);
+        int[] removed = SortedEpochDays.difference(beforeDays, afterDays);
+        int[] earlyCloses = PartialDays.changedDays(before.partialDays(), after.partialDays());
+        if (added.length == 0 && removed.length == 0 && earlyCloses.length == 0) {
+            return null;
+        }
+        int[] all = new int[added.length + removed.length + earlyCloses.length];
+        System.arraycopy(added, 0, all, 0, added.length);
+        System.arraycopy(removed, 0, all, added.length, removed.length);
+        System.arraycopy(earlyCloses, 0, all, added.length + removed.length, earlyCloses.length);
+        return new HolidaysChangeEvent(source, added, removed, SortedEpochDays.of(all, all.length));
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @return the updated holidays
+     */
+    public Holidays getSource() {
+        return source;
+    }
+
+    /**
+     * @return sorted epoch days of the holidays added
+     */
+    public int[] getAddedEpochDays() {
+        return added.clone();
+    }
+
+    /**
+     * @return sorted epoch days of the holidays removed
+     */
+    public int[] getRemovedEpochDays() {
+        return removed.clone();
+    }
+
+    /**
+     * @return sorted epoch days of every day changed, holidays added or removed and early closes changed
+     */
+    public int[] getChangedEpochDays() {
+        return changed.clone();
+    }
+
+    /**
+     * @return first changed epoch day
+     */
+    public int getFromEpochDay() {
+        return changed[0];
+    }
+
+    /**
+     * @return last changed epoch day, inclusive
+     */
+    public int getToEpochDay() {
+        return changed[changed.length - 1];
+    }
+
+    /**
+     * @return first changed day
+     */
+    public LocalDate getFrom() {
+        return LocalDate.ofEpochDay(getFromEpochDay());
+    }
+
+    /**
+     * @return last changed day, inclusive
+     */
+    public LocalDate getTo() {
+        return LocalDate.ofEpochDay(getToEpochDay());
+    }
+
+    /**
+     * @param fromEpochDay first day of the range
+     * @param toEpochDay last day of the range, inclusive
+     * @return true if a changed day falls in the range
+     */
+    public boolean overlaps(int fromEpochDay, int toEpochDay) {
+        int i = Arrays.binarySearch(changed, fromEpochDay);
+        if (i >= 0) {
+            return true;
+        }
+        i = -i - 1;
+        return i < changed.length && changed[i] <= toEpochDay;
+    }
+
+    /**
+     * @param from first day of the range, not null
+     * @param to last day of the range, inclusive, not null
+     * @return true if a changed day falls in the range
+     */
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        assert Objects.nonNull(from) : "from must be non null";
+        assert Objects.nonNull(to) : "to must be non null";
+        return overlaps(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()));
+    }
+
+    /**
+     * Outputs the number of days added, removed and changed, and their range.
+     *
+     * @return string representing {@code HolidaysChangeEvent}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.HolidaysChangeEvent{" +
+                "added=" + added.length +
+                ", removed=" + removed.length +
+                ", changed=" + changed.length +
+                ", from=" + getFrom() +
+                ", to=" + getTo() +
+                '}';
+    }
+}
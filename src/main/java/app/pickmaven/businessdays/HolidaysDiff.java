@@ -0,0 +1,101 @@
+package app.pickmaven.businessdays;
+
+import java.util.Objects;
+
+/**
+ * The holidays added and removed between two versions of a holiday list.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.HolidaysDiff} compares the sorted epoch days of two
+ * {@code app.pickmaven.businessdays.Holidays} objects, such as the results of two refreshes of a
+ * {@code HolidaySearcher}, in one linear pass over each of them, so that the structures built on the older list
+ * can apply the change instead of being rebuilt.
+ * <p>
+ *
+ * Only the days are compared; a change of early close on a day present in both versions is not reported.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class HolidaysDiff {
+
+    /**
+     * Days of the newer version missing from the older one.
+     */
+    private final Holidays added;
+
+    /**
+     * Days of the older version missing from the newer one.
+     */
+    private final Holidays removed;
+
+    /**
+     * Private constructor
+     *
+     * @param added days added
+     * @param removed days removed
+     */
+    private HolidaysDiff(Holidays added, Holidays removed) {
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * Compares two versions of a holiday list.
+     *
+     * @param older the older version, not null
+     * @param newer the newer version, not null
+     * @return the days added and removed from older to newer
+     */
+    public static HolidaysDiff of(Holidays older, Holidays newer) {
+        assert Objects.nonNull(older) : "older app.pickmaven.businessdays.Holidays must be non null";
+        assert Objects.nonNull(newer) : "newer app.pickmaven.businessdays.Holidays must be non null";
+        int[] olderDays = older.sortedEpochDays();
+        int[] newerDays = newer.sortedEpochDays();
+        return new HolidaysDiff(Holidays.ofSortedEpochDays(SortedEpochDays.difference(newerDays, olderDays)),
+                Holidays.ofSortedEpochDays(SortedEpochDays.difference(olderDays, newerDays)));
+    }
+
+    /**
+     * @return the days of the newer version missing from the older one, as a new
+     * {@code app.pickmaven.businessdays.Holidays}
+     */
+    public Holidays getAdded() {
+        return new Holidays(added);
+    }
+
+    /**
+     * @return the days of the older version missing from the newer one, as a new
+     * {@code app.pickmaven.businessdays.Holidays}
+     */
+    public Holidays getRemoved() {
+        return new Holidays(removed);
+    }
+
+    /**
+     * @return number of days added or removed
+     */
+    public int size() {
+        return added.size() + removed.size();
+    }
+
+    /**
+     * @return true if both versions hold the same days
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Outputs the number of days added and removed.
+     *
+     * @return string representing {@code HolidaysDiff}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.HolidaysDiff{" +
+                "added=" + added.size() +
+                ", removed=" + removed.size() +
+                '}';
+    }
+}
@@ -0,0 +1,19 @@
+package app.pickmaven.businessdays;
+
+/**
+ * Listener of the changes of a {@code app.pickmaven.businessdays.Holidays}.
+ *
+ * <p>
+ * Listeners are registered with {@code Holidays.addListener(HolidaysListener)} and called on the thread updating
+ * the holidays, once per update changing at least one day, after the change is visible to readers.
+ * <p>
+ *
+ */
+@FunctionalInterface
+public interface HolidaysListener {
+
+    /**
+     * @param event the days changed by an update
+     */
+    void holidaysChanged(HolidaysChangeEvent event);
+}
@@ -0,0 +1,234 @@
+package app.pickmaven.businessdays;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of merging several holiday sources into one sorted set without duplicates.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.HolidaysMerge} merges {@code app.pickmaven.businessdays.Holidays} objects and
+ * lists of {@code LocalDate}, such as the results of different {@code HolidaySearcher} implementations, with a
+ * k-way merge of their sorted epoch days in O(total log k). For each source it reports how many of its days are
+ * also found in other sources: a source whose days are all shared adds nothing to the merged calendar.
+ * <p>
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class HolidaysMerge {
+
+    /**
+     * The merged holidays.
+     */
+    private final Holidays holidays;
+
+    /**
+     * Statistics of each source, in the order the sources were added.
+     */
+    private final List<SourceStatistics> sources;
+
+    /**
+     * Private constructor
+     *
+     * @param holidays merged holidays
+     * @param sources statistics of the sources
+     */
+    private HolidaysMerge(Holidays holidays, List<SourceStatistics> sources) {
+        this.holidays = holidays;
+        this.sources = Collections.unmodifiableList(sources);
+    }
+
+    /**
+     * Merges {@code app.pickmaven.businessdays.Holidays} objects.
+     *
+     * @param sources holidays to merge, not null
+     * @return the merge
+     */
+    public static HolidaysMerge of(Holidays... sources) {
+        Builder builder = Builder.aHolidaysMerge();
+        for (Holidays source : sources) {
+            builder.add(source);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the merged holidays, as a new {@code app.pickmaven.businessdays.Holidays}
+     */
+    public Holidays getHolidays() {
+        return new Holidays(holidays);
+    }
+
+    /**
+     * @return statistics of each source, in the order the sources were added
+     */
+    public List<SourceStatistics> getSources() {
+        return sources;
+    }
+
+    /**
+     * @return number of days dropped as duplicates across sources
+     */
+    public int getDuplicates() {
+        int total = 0;
+        for (SourceStatistics source : sources) {
+            total += source.getSize();
+        }
+        return total - holidays.size();
+    }
+
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.HolidaysMerge{" +
+                "size=" + holidays.size() +
+                ", duplicates=" + getDuplicates() +
+                ", sources=" + sources +
+                '}';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Overlap statistics of one source of a merge.
+     */
+    public static final class SourceStatistics {
+
+        private final int index;
+
+        private final int size;
+
+        private final int overlapping;
+
+        private SourceStatistics(int index, int size, int overlapping) {
+            this.index = index;
+            this.size = size;
+            this.overlapping = overlapping;
+        }
+
+        /**
+         * @return position of the source among the merged sources
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return number of distinct days of the source
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return number of days of the source also found in other sources
+         */
+        public int getOverlapping() {
+            return overlapping;
+        }
+
+        /**
+         * @return number of days found only in this source
+         */
+        public int getExclusive() {
+            return size - overlapping;
+        }
+
+        /**
+         * @return true if every day of the source is found in other sources
+         */
+        public boolean isRedundant() {
+            return overlapping == size;
+        }
+
+        @Override
+        public String toString() {
+            return "app.pickmaven.businessdays.HolidaysMerge.SourceStatistics{" +
+                    "index=" + index +
+                    ", size=" + size +
+                    ", overlapping=" + overlapping +
+                    '}';
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Builder collecting the sources of a merge.
+     */
+    public static final class Builder {
+
+        /**
+         * Sorted, distinct epoch days of each source.
+         */
+        private final List<int[]> sources = new ArrayList<>();
+
+        /**
+         * Partial days of each source; a day closing early in several sources keeps the earliest closing time.
+         */
+        private final List<long[]> partialDays = new ArrayList<>();
+
+        /**
+         * Private constructor
+         */
+        private Builder() { }
+
+        /**
+         * @return a new builder
+         */
+        public static Builder aHolidaysMerge() {
+            return new Builder();
+        }
+
+        /**
+         * Adds a {@code app.pickmaven.businessdays.Holidays} source.
+         *
+         * @param holidays source to add, not null
+         * @return this
+         */
+        public Builder add(Holidays holidays) {
+            assert Objects.nonNull(holidays) : "app.pickmaven.businessdays.Holidays to merge must be non null";
+            Holidays snapshot = holidays.snapshot();
+            sources.add(snapshot.sortedEpochDays());
+            partialDays.add(snapshot.partialDays());
+            return this;
+        }
+
+        /**
+         * Adds a list of dates as source, in any order and possibly with duplicates.
+         *
+         * @param dates source to add, not null
+         * @return this
+         */
+        public Builder add(List<LocalDate> dates) {
+            assert Objects.nonNull(dates) : "dates to merge must be non null";
+            int[] days = new int[dates.size()];
+            int n = 0;
+            for (LocalDate date : dates) {
+                days[n++] = Math.toIntExact(date.toEpochDay());
+            }
+            sources.add(SortedEpochDays.of(days, n));
+            return this;
+        }
+
+        /**
+         * Merges the sources.
+         *
+         * @return the merge
+         */
+        public HolidaysMerge build() {
+            int[][] arrays = sources.toArray(new int[0][]);
+            int[] overlapping = new int[arrays.length];
+            int[] merged = SortedEpochDays.merge(arrays, overlapping);
+            List<SourceStatistics> statistics = new ArrayList<>(arrays.length);
+            for (int i = 0; i < arrays.length; i++) {
+                statistics.add(new SourceStatistics(i, arrays[i].length, overlapping[i]));
+            }
+            long[] mergedPartialDays = PartialDays.merge(partialDays.toArray(new long[0][]));
+            return new HolidaysMerge(Holidays.ofSortedEpochDays(merged, mergedPartialDays), statistics);
+        }
+    }
+}
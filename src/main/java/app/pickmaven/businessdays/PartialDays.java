@@ -0,0 +1,223 @@
+package app.pickmaven.businessdays;
+
+import java.util.Arrays;
+
+/**
+ * Operations on sorted arrays of partial days.
+ *
+ * <p>
+ * A partial day is a business day closing before midnight, such as an exchange closing early on Christmas Eve. Each
+ * one is packed into a {@code long} holding the epoch day in the high 32 bits and the closing second of day in the
+ * low 32 bits, so that an array sorted by value is sorted by day and a partial day costs eight bytes.
+ * <p>
+ *
+ * As for {@code app.pickmaven.businessdays.SortedEpochDays}, the arrays are never modified once built: every update
+ * returns a new array, or the same array when nothing changes.
+ *
+ */
+final class PartialDays {
+
+    /**
+     * The empty array.
+     */
+    static final long[] EMPTY = new long[0];
+
+    /**
+     * Seconds in a day; the closing second of a day without early close.
+     */
+    static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * Private constructor
+     */
+    private PartialDays() { }
+
+    /**
+     * @param epochDay the day
+     * @param closingSecond closing second of day, between 1 and SECONDS_PER_DAY - 1
+     * @return the packed partial day
+     */
+    static long of(int epochDay, int closingSecond) {
+        return (long) epochDay << 32 | closingSecond;
+    }
+
+    /**
+     * @param partialDay packed partial day
+     * @return its epoch day
+     */
+    static int epochDay(long partialDay) {
+        return (int) (partialDay >> 32);
+    }
+
+    /**
+     * @param partialDay packed partial day
+     * @return its closing second of day
+     */
+    static int closingSecond(long partialDay) {
+        return (int) partialDay;
+    }
+
+    /**
+     * @param partialDays sorted partial days
+     * @param epochDay day to search for
+     * @return index of the partial day on epochDay, or {@code -(insertion point) - 1}
+     */
+    static int indexOf(long[] partialDays, int epochDay) {
+        int i = lowerBound(partialDays, epochDay);
+        return i < partialDays.length && epochDay(partialDays[i]) == epochDay ? i : -i - 1;
+    }
+
+    /**
+     * @param partialDays sorted partial days
+     * @param epochDay the day
+     * @return closing second of epochDay, SECONDS_PER_DAY if it is not a partial day
+     */
+    static int closingSecondOf(long[] partialDays, int epochDay) {
+        int i = indexOf(partialDays, epochDay);
+        return i < 0 ? SECONDS_PER_DAY : closingSecond(partialDays[i]);
+    }
+
+    /**
+     * Sets the closing second of a day, replacing the previous one.
+     *
+     * @param partialDays sorted partial days
+     * @param epochDay the day
+     * @param closingSecond closing second of day
+     * @return the updated array, partialDays itself if nothing changed
+     */
+    static long[] put(long[] partialDays, int epochDay, int closingSecond) {
+        long partialDay = of(epochDay, closingSecond);
+        int i = indexOf(partialDays, epochDay);
+        if (i >= 0) {
+            if (partialDays[i] == partialDay) {
+                return partialDays;
+            }
+            long[] updated = partialDays.clone();
+            updated[i] = partialDay;
+            return updated;
+        }
+        i = -i - 1;
+        long[] updated = new long[partialDays.length + 1];
+        System.arraycopy(partialDays, 0, updated, 0, i);
+        updated[i] = partialDay;
+        System.arraycopy(partialDays, i, updated, i + 1, partialDays.length - i);
+        return updated;
+    }
+
+    /**
+     * @param partialDays sorted partial days
+     * @param epochDay the day to remove
+     * @return the updated array, partialDays itself if epochDay was not a partial day
+     */
+    static long[] delete(long[] partialDays, int epochDay) {
+        int i = indexOf(partialDays, epochDay);
+        if (i < 0) {
+            return partialDays;
+        }
+        if (partialDays.length == 1) {
+            return EMPTY;
+        }
+        long[] updated = new long[partialDays.length - 1];
+        System.arraycopy(partialDays, 0, updated, 0, i);
+        System.arraycopy(partialDays, i + 1, updated, i, updated.length - i);
+        return updated;
+    }
+
+    /**
+     * Merges sorted arrays of partial days; a day found in several arrays keeps its earliest closing second.
+     *
+     * @param sources sorted partial days
+     * @return merged array, one of the sources when the others are empty
+     */
+    static long[] merge(long[]... sources) {
+        long[] only = EMPTY;
+        int total = 0;
+        for (long[] source : sources) {
+            if (source.length > 0) {
+                only = total == 0 ? source : null;
+                total += source.length;
+            }
+        }
+        if (only != null) {
+            return only;
+        }
+        long[] merged = new long[total];
+        int n = 0;
+        for (long[] source : sources) {
+            System.arraycopy(source, 0, merged, n, source.length);
+            n += source.length;
+        }
+        Arrays.sort(merged);
+        n = 1;
+        for (int i = 1; i < total; i++) {
+            if (epochDay(merged[i]) != epochDay(merged[n - 1])) {
+                merged[n++] = merged[i];
+            }
+        }
+        return n == total ? merged : Arrays.copyOf(merged, n);
+    }
+
+    /**
+     * Finds the days whose closing second differs between two arrays, in one linear pass; a day found in one array
+     * only differs.
+     *
+     * @param a sorted partial days
+     * @param b sorted partial days
+     * @return sorted epoch days differing
+     */
+    static int[] changedDays(long[] a, long[] b) {
+        if (a == b) {
+            return SortedEpochDays.EMPTY;
+        }
+        int[] changed = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && epochDay(a[i]) < epochDay(b[j]))) {
+                changed[n++] = epochDay(a[i++]);
+            } else if (i == a.length || epochDay(b[j]) < epochDay(a[i])) {
+                changed[n++] = epochDay(b[j++]);
+            } else {
+                if (a[i] != b[j]) {
+                    changed[n++] = epochDay(a[i]);
+                }
+                i++;
+                j++;
+            }
+        }
+        return n == 0 ? SortedEpochDays.EMPTY : Arrays.copyOf(changed, n);
+    }
+
+    /**
+     * @param partialDays sorted partial days
+     * @param low first epoch day, inclusive
+     * @param high last epoch day, exclusive
+     * @return the partial days in the range, partialDays itself if all of them are
+     */
+    static long[] range(long[] partialDays, int low, int high) {
+        int i = lowerBound(partialDays, low);
+        int j = Math.max(i, lowerBound(partialDays, high));
+        if (i == 0 && j == partialDays.length) {
+            return partialDays;
+        }
+        return i == j ? EMPTY : Arrays.copyOfRange(partialDays, i, j);
+    }
+
+    /**
+     * @param partialDays sorted partial days
+     * @param epochDay the day
+     * @return index of the first partial day on or after epochDay
+     */
+    static int lowerBound(long[] partialDays, int epochDay) {
+        int lo = 0;
+        int hi = partialDays.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDay(partialDays[mid]) < epochDay) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
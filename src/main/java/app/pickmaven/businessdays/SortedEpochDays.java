@@ -0,0 +1,312 @@
+package app.pickmaven.businessdays;
+
+import java.util.Arrays;
+
+/**
+ * Operations on sorted arrays of distinct epoch days.
+ *
+ * <p>
+ * The arrays handled here back {@code app.pickmaven.businessdays.Holidays}. They are never modified once built:
+ * every update returns a new array, or the same array when nothing changes, so an array can be shared freely
+ * between copies of a {@code Holidays} object.
+ * <p>
+ *
+ */
+final class SortedEpochDays {
+
+    /**
+     * The empty array.
+     */
+    static final int[] EMPTY = new int[0];
+
+    /**
+     * Private constructor
+     */
+    private SortedEpochDays() { }
+
+    /**
+     * Sorts and deduplicates the first length days of an array, which is left untouched.
+     *
+     * @param days epoch days in any order
+     * @param length number of days to read
+     * @return sorted array of the distinct days
+     */
+    static int[] of(int[] days, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        int[] sorted = Arrays.copyOf(days, length);
+        Arrays.sort(sorted);
+        int n = 1;
+        for (int i = 1; i < length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    /**
+     * @param days sorted days
+     * @param day day to search for
+     * @return index of day, or {@code -(insertion point) - 1}
+     */
+    static int indexOf(int[] days, int day) {
+        return Arrays.binarySearch(days, day);
+    }
+
+    /**
+     * @param days sorted days
+     * @param from index of the first day to search
+     * @param to index following the last day to search
+     * @param day day to search for
+     * @return index of day, or {@code -(insertion point) - 1}
+     */
+    static int indexOf(int[] days, int from, int to, int day) {
+        return Arrays.binarySearch(days, from, to, day);
+    }
+
+    /**
+     * @param days sorted days
+     * @param from index of the first day to search
+     * @param to index following the last day to search
+     * @param day day to search for
+     * @return index of the first day not before day, to if none
+     */
+    static int lowerBound(int[] days, int from, int to, int day) {
+        int i = Arrays.binarySearch(days, from, to, day);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /**
+     * @param days sorted days
+     * @param day day to insert
+     * @return days with day inserted, or days itself if already present
+     */
+    static int[] insert(int[] days, int day) {
+        int i = indexOf(days, day);
+        if (i >= 0) {
+            return days;
+        }
+        i = -i - 1;
+        int[] result = new int[days.length + 1];
+        System.arraycopy(days, 0, result, 0, i);
+        result[i] = day;
+        System.arraycopy(days, i, result, i + 1, days.length - i);
+        return result;
+    }
+
+    /**
+     * @param days sorted days
+     * @param index index of the day to delete
+     * @return days without the day at index
+     */
+    static int[] delete(int[] days, int index) {
+        if (days.length == 1) {
+            return EMPTY;
+        }
+        int[] result = new int[days.length - 1];
+        System.arraycopy(days, 0, result, 0, index);
+        System.arraycopy(days, index + 1, result, index, days.length - index - 1);
+        return result;
+    }
+
+    /**
+     * Computes the days of a sorted array missing from another in one linear pass.
+     *
+     * @param a sorted days
+     * @param b sorted days
+     * @return the sorted days of a not in b, which is a itself when b removes nothing
+     */
+    static int[] difference(int[] a, int[] b) {
+        if (a == b) {
+            return EMPTY;
+        }
+        int[] result = null;
+        int i = 0, j = 0, n = 0;
+        while (i < a.length) {
+            int x = a[i];
+            while (j < b.length && b[j] < x) {
+                j++;
+            }
+            if (j < b.length && b[j] == x) {
+                if (result == null) {
+                    result = new int[a.length - 1];
+                    System.arraycopy(a, 0, result, 0, i);
+                    n = i;
+                }
+            } else if (result != null) {
+                result[n++] = x;
+            }
+            i++;
+        }
+        if (result == null) {
+            return a;
+        }
+        return n == 0 ? EMPTY : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Merges a sorted array with a range of another in one linear pass.
+     *
+     * @param a sorted days
+     * @param b sorted days
+     * @param bFrom index of the first day of b
+     * @param bTo index following the last day of b
+     * @return the sorted union, which is a itself when b adds nothing
+     */
+    static int[] union(int[] a, int[] b, int bFrom, int bTo) {
+        if (bFrom == bTo || (a == b && bFrom == 0 && bTo == b.length)) {
+            return a;
+        }
+        if (a.length == 0) {
+            return bFrom == 0 && bTo == b.length ? b : Arrays.copyOfRange(b, bFrom, bTo);
+        }
+        int[] result = new int[a.length + bTo - bFrom];
+        int i = 0, j = bFrom, n = 0;
+        while (i < a.length && j < bTo) {
+            int x = a[i], y = b[j];
+            if (x <= y) {
+                result[n++] = x;
+                i++;
+                if (x == y) {
+                    j++;
+                }
+            } else {
+                result[n++] = y;
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[n++] = a[i++];
+        }
+        while (j < bTo) {
+            result[n++] = b[j++];
+        }
+        if (n == a.length) {
+            return a;
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+
+    /**
+     * @param a sorted days
+     * @param aFrom index of the first day of a
+     * @param aTo index following the last day of a
+     * @param b sorted days
+     * @param bFrom index of the first day of b
+     * @param bTo index following the last day of b
+     * @return true if every day of the range of b is in the range of a
+     */
+    static boolean containsAll(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo) {
+        int i = aFrom;
+        for (int j = bFrom; j < bTo; j++) {
+            int day = b[j];
+            while (i < aTo && a[i] < day) {
+                i++;
+            }
+            if (i == aTo || a[i] != day) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges any number of sorted arrays with a binary heap of cursors, in O(total log k) for k arrays, and counts
+     * for each array the days it shares with at least one other array.
+     *
+     * @param sources sorted arrays of distinct days
+     * @param overlapping receives, for each source, the number of its days found in other sources
+     * @return the sorted union
+     */
+    static int[] merge(int[][] sources, int[] overlapping) {
+        int k = sources.length;
+        int total = 0;
+        for (int[] source : sources) {
+            total += source.length;
+        }
+        int[] result = new int[total];
+        int[] cursor = new int[k];
+        // heap of source indexes, ordered by the day under their cursor
+        int[] heap = new int[k];
+        int size = 0;
+        for (int s = 0; s < k; s++) {
+            if (sources[s].length > 0) {
+                heap[size] = s;
+                siftUp(heap, size++, sources, cursor);
+            }
+        }
+
+        int[] sharing = new int[k];
+        int n = 0;
+        while (size > 0) {
+            int day = sources[heap[0]][cursor[heap[0]]];
+            int count = 0;
+            while (size > 0 && sources[heap[0]][cursor[heap[0]]] == day) {
+                int s = heap[0];
+                sharing[count++] = s;
+                if (++cursor[s] < sources[s].length) {
+                    siftDown(heap, size, sources, cursor);
+                } else {
+                    heap[0] = heap[--size];
+                    siftDown(heap, size, sources, cursor);
+                }
+            }
+            if (count > 1) {
+                for (int i = 0; i < count; i++) {
+                    overlapping[sharing[i]]++;
+                }
+            }
+            result[n++] = day;
+        }
+        if (n == 0) {
+            return EMPTY;
+        }
+        return n == total ? result : Arrays.copyOf(result, n);
+    }
+
+    private static void siftUp(int[] heap, int i, int[][] sources, int[] cursor) {
+        int s = heap[i];
+        int day = sources[s][cursor[s]];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if (sources[p][cursor[p]] <= day) {
+                break;
+            }
+            heap[i] = p;
+            i = parent;
+        }
+        heap[i] = s;
+    }
+
+    private static void siftDown(int[] heap, int size, int[][] sources, int[] cursor) {
+        if (size == 0) {
+            return;
+        }
+        int i = 0;
+        int s = heap[0];
+        int day = sources[s][cursor[s]];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            int c = heap[child];
+            if (child + 1 < size) {
+                int r = heap[child + 1];
+                if (sources[r][cursor[r]] < sources[c][cursor[c]]) {
+                    child++;
+                    c = r;
+                }
+            }
+            if (sources[c][cursor[c]] >= day) {
+                break;
+            }
+            heap[i] = c;
+            i = child;
+        }
+        heap[i] = s;
+    }
+}
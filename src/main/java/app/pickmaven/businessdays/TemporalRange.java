@@ -1,5 +1,7 @@
 package app.pickmaven.businessdays;
 
+import app.pickmaven.businessdays.time.DateFormatters;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
@@ -186,7 +188,7 @@ public class TemporalRange {
             assert date != null : "date must not be null";
             assert pattern != null : "pattern must not be null";
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            DateTimeFormatter formatter = DateFormatters.ofPattern(pattern);
             tRange.setStartingDate(LocalDate.parse(date, formatter));
             return this;
         }
@@ -210,7 +212,7 @@ public class TemporalRange {
          * @return this
          */
         public Builder to(String date, String pattern) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            DateTimeFormatter formatter = DateFormatters.ofPattern(pattern);
             tRange.setEndingDate(LocalDate.parse(date, formatter));
             return this;
         }
@@ -1,5 +1,8 @@
 package app.pickmaven.businessdays.api;
 
+import app.pickmaven.businessdays.time.IsoDates;
+import app.pickmaven.businessdays.time.Today;
+
 import com.google.api.client.auth.oauth2.Credential;
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
@@ -15,7 +18,6 @@ import com.google.api.services.calendar.model.Events;
 import java.io.*;
 import java.security.GeneralSecurityException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -116,7 +118,7 @@ public class GoogleCalendarAPI implements HolidaySearcher {
             List<DateTime> holidays = getCalendarHolidays(countryCode);
             return holidays.stream()
                     .map(DateTime::toString)
-                    .map(e -> LocalDate.parse(e, DateTimeFormatter.ISO_DATE))
+                    .map(IsoDates::parseIsoDate)
                     .collect(Collectors.toList());
     }
 
@@ -140,6 +142,7 @@ public class GoogleCalendarAPI implements HolidaySearcher {
 
         List<DateTime> holidays = null;
         String pageToken = null;
+        String currentYear = String.valueOf(Today.systemDefault().year());
         do {
             Events events = service.events().list(countryCode + "#holiday@group.v.calendar.google.com").setPageToken(pageToken).execute();
             List<Event> distinctEvents = events.getItems().stream()
@@ -153,7 +156,7 @@ public class GoogleCalendarAPI implements HolidaySearcher {
             holidays = distinctEvents.stream()
                     .filter(predicate)
                     .map(p -> p.getStart().getDate()).distinct()
-                    .filter(e -> e.toString().contains(String.valueOf(LocalDate.now().getYear())))
+                    .filter(e -> e.toString().contains(currentYear))
                     .collect(Collectors.toList());
             pageToken = events.getNextPageToken();
         } while (pageToken != null);
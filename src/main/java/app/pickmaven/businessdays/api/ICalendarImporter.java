@@ -0,0 +1,626 @@
+package app.pickmaven.businessdays.api;
+
+import app.pickmaven.businessdays.Holiday;
+import app.pickmaven.businessdays.Holidays;
+import app.pickmaven.businessdays.rules.HolidayRule;
+import app.pickmaven.businessdays.time.IsoDates;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This class implements {@code app.pickmaven.businessdays.api.HolidaySearcher} interface reading holidays from
+ * iCalendar ({@code .ics}) files, such as the holiday calendars exported by Google, instead of calling a live API.
+ *
+ * <p>
+ * The calendar is streamed from a {@code ReadableByteChannel} through one fixed-size buffer and parsed byte by byte:
+ * folded lines are joined on the fly, properties other than {@code BEGIN}, {@code END}, {@code DTSTART},
+ * {@code DTEND} and {@code RRULE} are skipped without being stored, and each {@code VEVENT} is turned into epoch days
+ * as soon as it ends. Memory therefore stays flat whatever the size of the file, apart from the days read.
+ * <p>
+ *
+ * Each event covers the days from {@code DTSTART} to {@code DTEND}, exclusive, or the day of {@code DTSTART} alone.
+ * Yearly recurrences ({@code RRULE:FREQ=YEARLY}) are expanded with their {@code INTERVAL}, {@code COUNT} and
+ * {@code UNTIL}, on a fixed day or, with {@code BYDAY}, on the nth or last day of week of the month, as in
+ * {@code BYMONTH=11;BYDAY=4TH}. Other recurrences, including yearly ones with lists, negative month days or other
+ * {@code BY} parts, {@code EXDATE} and {@code RDATE} are ignored, so such an event only yields its first occurrence.
+ * Only the days of the years between fromYear and toYear are kept.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public class ICalendarImporter implements HolidaySearcher {
+
+    /**
+     * Default size of the read buffer, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Maximum length of a property kept for parsing, after its name.
+     */
+    private static final int MAX_VALUE_LENGTH = 1024;
+
+    /**
+     * Maximum length of a property name.
+     */
+    private static final int MAX_NAME_LENGTH = 16;
+
+    /**
+     * First year kept.
+     */
+    private final int fromYear;
+
+    /**
+     * Last year kept.
+     */
+    private final int toYear;
+
+    /**
+     * Size of the read buffer.
+     */
+    private final int bufferSize;
+
+    /**
+     * Directory holding one {@code <countryCode>.ics} file per country, null if not set.
+     */
+    private final Path directory;
+
+    /**
+     * Constructor
+     *
+     * @param fromYear first year of the holidays kept
+     * @param toYear last year of the holidays kept, inclusive
+     */
+    public ICalendarImporter(int fromYear, int toYear) {
+        this(fromYear, toYear, DEFAULT_BUFFER_SIZE, null);
+    }
+
+    private ICalendarImporter(int fromYear, int toYear, int bufferSize, Path directory) {
+        if (toYear < fromYear) {
+            throw new IllegalArgumentException("toYear must not precede fromYear, but was called with "
+                    + fromYear + " and " + toYear);
+        }
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("bufferSize must be at least 16, but was " + bufferSize);
+        }
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.bufferSize = bufferSize;
+        this.directory = directory;
+    }
+
+    /**
+     * @param bufferSize size of the read buffer, at least 16 bytes
+     * @return an importer reading through a buffer of the given size
+     */
+    public ICalendarImporter withBufferSize(int bufferSize) {
+        return new ICalendarImporter(fromYear, toYear, bufferSize, directory);
+    }
+
+    /**
+     * @param directory directory holding one {@code <countryCode>.ics} file per country, not null
+     * @return an importer searching holidays in directory
+     */
+    public ICalendarImporter fromDirectory(Path directory) {
+        assert Objects.nonNull(directory) : "directory must be non null";
+        return new ICalendarImporter(fromYear, toYear, bufferSize, directory);
+    }
+
+    //-----------------------------------------------------------------------
+    // IMPORT METHODS
+
+    /**
+     * Returns a list of {@code LocalDate} representing the holidays of the file {@code <countryCode>.ics} of the
+     * directory of this importer.
+     *
+     * @param countryCode the code of country you are searching for
+     * @return a list of holiday dates, in date order
+     * @throws IOException if the file cannot be read or is not a valid calendar
+     */
+    @Override
+    public List<LocalDate> searchHolidaysFor(String countryCode) throws IOException {
+        if (directory == null) {
+            throw new IllegalStateException("No directory set, see fromDirectory(Path)");
+        }
+        return importHolidays(directory.resolve(countryCode + ".ics")).stream()
+                .map(Holiday::getDate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the holidays of an iCalendar file.
+     *
+     * @param file the file, not null
+     * @return the holidays
+     * @throws IOException if the file cannot be read or is not a valid calendar
+     */
+    public Holidays importHolidays(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return importHolidays(channel);
+        }
+    }
+
+    /**
+     * Reads the holidays of an iCalendar stream, up to its end; the channel is not closed.
+     *
+     * @param channel the stream, not null
+     * @return the holidays
+     * @throws IOException if the channel cannot be read or is not a valid calendar
+     */
+    public Holidays importHolidays(ReadableByteChannel channel) throws IOException {
+        Parser parser = new Parser();
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            parser.accept(buffer.array(), buffer.position(), buffer.limit());
+            buffer.clear();
+        }
+        parser.endOfInput();
+
+        Holidays holidays = new Holidays();
+        holidays.addEpochDays(Arrays.copyOf(parser.days, parser.size));
+        return holidays;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Parsing state of one stream.
+     */
+    private final class Parser {
+
+        /**
+         * Days read so far, in file order.
+         */
+        int[] days = new int[64];
+
+        int size;
+
+        /**
+         * Current physical line, counting from 1.
+         */
+        private int line = 1;
+
+        /**
+         * Physical line on which the current property starts, for error messages.
+         */
+        private int propertyLine = 1;
+
+        /**
+         * True after a line feed, until the next byte tells whether the line is folded.
+         */
+        private boolean lineFeed;
+
+        /**
+         * True once the name of the current property is complete.
+         */
+        private boolean inValue;
+
+        /**
+         * True when the rest of the current property is not needed.
+         */
+        private boolean skipping;
+
+        private final byte[] name = new byte[MAX_NAME_LENGTH];
+
+        private int nameLength;
+
+        private final byte[] value = new byte[MAX_VALUE_LENGTH];
+
+        private int valueLength;
+
+        // current event
+        private boolean inEvent;
+
+        private int start;
+
+        private int end;
+
+        private boolean yearly;
+
+        private int interval;
+
+        private int count;
+
+        private int until;
+
+        private int byMonth;
+
+        private int byMonthDay;
+
+        private int byDayOrdinal;
+
+        private DayOfWeek byDay;
+
+        /**
+         * Line of the recurrence rule of the current event, for error messages.
+         */
+        private int recurrenceLine;
+
+        /**
+         * Reads the bytes between two indexes; the lines of skipped properties are scanned for their line feed
+         * only.
+         */
+        void accept(byte[] bytes, int from, int to) throws IOException {
+            for (int i = from; i < to; i++) {
+                if (skipping && !lineFeed) {
+                    while (i < to && bytes[i] != '\n') {
+                        i++;
+                    }
+                    if (i == to) {
+                        return;
+                    }
+                }
+                accept(bytes[i]);
+            }
+        }
+
+        private void accept(byte b) throws IOException {
+            if (lineFeed) {
+                lineFeed = false;
+                if (b == ' ' || b == '\t') {
+                    return;
+                }
+                endOfLine();
+            }
+            if (b == '\n') {
+                lineFeed = true;
+                line++;
+                return;
+            }
+            if (b == '\r' || skipping) {
+                return;
+            }
+            if (inValue) {
+                if (valueLength == value.length) {
+                    throw error("Property " + new String(name, 0, nameLength, "US-ASCII") + " is too long");
+                }
+                value[valueLength++] = b;
+            } else if (b == ':' || b == ';') {
+                inValue = true;
+                skipping = !isProperty("BEGIN") && !isProperty("END")
+                        && !(inEvent && (isProperty("DTSTART") || isProperty("DTEND") || isProperty("RRULE")));
+                value[valueLength++] = b;
+            } else if (nameLength == name.length) {
+                skipping = true;
+            } else {
+                name[nameLength++] = (byte) (b >= 'a' && b <= 'z' ? b - 32 : b);
+            }
+        }
+
+        void endOfInput() throws IOException {
+            endOfLine();
+            if (inEvent) {
+                throw error("VEVENT not closed by END:VEVENT");
+            }
+        }
+
+        private void endOfLine() throws IOException {
+            if (inValue && !skipping) {
+                property();
+            }
+            nameLength = 0;
+            valueLength = 0;
+            inValue = false;
+            skipping = false;
+            propertyLine = line;
+        }
+
+        /**
+         * Handles the property whose name and value have been read; value starts with the ':' or ';' following
+         * the name.
+         */
+        private void property() throws IOException {
+            int v = valueStart();
+            if (isProperty("BEGIN")) {
+                if (isValue(v, "VEVENT")) {
+                    beginEvent();
+                }
+            } else if (isProperty("END")) {
+                if (isValue(v, "VEVENT")) {
+                    if (!inEvent) {
+                        throw error("END:VEVENT without BEGIN:VEVENT");
+                    }
+                    endEvent();
+                }
+            } else if (isProperty("DTSTART")) {
+                start = date(v);
+            } else if (isProperty("DTEND")) {
+                end = date(v);
+            } else if (isProperty("RRULE")) {
+                recurrence(v);
+            }
+        }
+
+        private void beginEvent() {
+            inEvent = true;
+            start = HolidayRule.NONE;
+            end = HolidayRule.NONE;
+            yearly = false;
+            interval = 1;
+            count = Integer.MAX_VALUE;
+            until = Integer.MAX_VALUE;
+            byMonth = 0;
+            byMonthDay = 0;
+            byDayOrdinal = 0;
+            byDay = null;
+        }
+
+        private void endEvent() throws IOException {
+            inEvent = false;
+            if (start == HolidayRule.NONE) {
+                throw error("VEVENT without DTSTART");
+            }
+            int length = end == HolidayRule.NONE || end <= start ? 1 : end - start;
+            if (!yearly) {
+                addDays(start, length);
+                return;
+            }
+            LocalDate first = LocalDate.ofEpochDay(start);
+            Month month = Month.of(byMonth != 0 ? byMonth : first.getMonthValue());
+            HolidayRule rule;
+            try {
+                if (byDay == null) {
+                    rule = HolidayRule.fixed(month, byMonthDay != 0 ? byMonthDay : first.getDayOfMonth());
+                } else if (byDayOrdinal == -1) {
+                    rule = HolidayRule.lastWeekday(byDay, month);
+                } else if (byDayOrdinal >= 1 && byDayOrdinal <= 5) {
+                    rule = HolidayRule.nthWeekday(byDayOrdinal, byDay, month);
+                } else {
+                    // every day of week of the month, or another ordinal: first occurrence only
+                    addDays(start, length);
+                    return;
+                }
+            } catch (IllegalArgumentException | DateTimeException e) {
+                throw error(e.getMessage(), recurrenceLine);
+            }
+            int occurrences = 0;
+            for (int year = first.getYear(); year <= toYear && occurrences < count; year += interval) {
+                int day = rule.epochDayIn(year);
+                if (day == HolidayRule.NONE || day < start) {
+                    continue;
+                }
+                if (day > until) {
+                    break;
+                }
+                occurrences++;
+                addDays(day, length);
+            }
+        }
+
+        private void addDays(int first, int length) {
+            for (int day = first; day < first + length; day++) {
+                int year = IsoDates.yearOf(day);
+                if (year < fromYear || year > toYear) {
+                    continue;
+                }
+                if (size == days.length) {
+                    days = Arrays.copyOf(days, size * 2);
+                }
+                days[size++] = day;
+            }
+        }
+
+        /**
+         * Reads the {@code yyyyMMdd} date opening the value, ignoring any time part.
+         */
+        private int date(int v) throws IOException {
+            if (valueLength - v < 8) {
+                throw error("Expected a yyyyMMdd date");
+            }
+            int year = digits(v, 4);
+            int month = digits(v + 4, 2);
+            int day = digits(v + 6, 2);
+            try {
+                return IsoDates.toEpochDay(year, month, day);
+            } catch (DateTimeException e) {
+                throw error(e.getMessage());
+            }
+        }
+
+        /**
+         * Reads the parts of a yearly recurrence rule, such as {@code FREQ=YEARLY;BYMONTH=11;BYDAY=4TH}; the parts
+         * of other rules are not read, and a yearly rule with parts not supported yields its first occurrence only.
+         */
+        private void recurrence(int v) throws IOException {
+            recurrenceLine = propertyLine;
+            yearly = false;
+            int frequency = partValue(v, "FREQ");
+            if (frequency < 0 || !regionIs(frequency, indexOf(';', frequency), "YEARLY")) {
+                return;
+            }
+            boolean supported = true;
+            int i = v;
+            while (i < valueLength) {
+                int equals = indexOf('=', i);
+                int semicolon = indexOf(';', i);
+                if (equals > semicolon) {
+                    throw error("Expected NAME=VALUE in RRULE");
+                }
+                int from = equals + 1;
+                if (regionIs(i, equals, "INTERVAL")) {
+                    interval = Math.max(1, number(from, semicolon));
+                } else if (regionIs(i, equals, "COUNT")) {
+                    count = number(from, semicolon);
+                } else if (regionIs(i, equals, "UNTIL")) {
+                    until = date(from);
+                } else if (regionIs(i, equals, "BYMONTH")) {
+                    if (isDigits(from, semicolon)) {
+                        byMonth = number(from, semicolon);
+                        if (byMonth < 1 || byMonth > 12) {
+                            throw error("Invalid BYMONTH " + byMonth);
+                        }
+                    } else {
+                        supported = false;
+                    }
+                } else if (regionIs(i, equals, "BYMONTHDAY")) {
+                    if (isDigits(from, semicolon)) {
+                        byMonthDay = number(from, semicolon);
+                    } else {
+                        supported = false;
+                    }
+                } else if (regionIs(i, equals, "BYDAY")) {
+                    if (indexOf(',', from) < semicolon) {
+                        supported = false;
+                    } else {
+                        byDay(from, semicolon);
+                    }
+                } else if (semicolon - i > 2 && upper(value[i]) == 'B' && upper(value[i + 1]) == 'Y') {
+                    supported = false;
+                }
+                i = semicolon + 1;
+            }
+            yearly = supported;
+        }
+
+        /**
+         * @return index of the value of the named part of a recurrence rule, -1 if the rule has no such part
+         */
+        private int partValue(int v, String part) {
+            int i = v;
+            while (i < valueLength) {
+                int equals = indexOf('=', i);
+                int semicolon = indexOf(';', i);
+                if (equals < semicolon && regionIs(i, equals, part)) {
+                    return equals + 1;
+                }
+                i = semicolon + 1;
+            }
+            return -1;
+        }
+
+        private boolean isDigits(int from, int to) {
+            if (from == to) {
+                return false;
+            }
+            for (int i = from; i < to; i++) {
+                if (value[i] < '0' || value[i] > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Reads a {@code BYDAY} part made of an optional signed ordinal and a two-letter day, such as {@code -1MO}.
+         */
+        private void byDay(int from, int to) throws IOException {
+            if (to - from < 2) {
+                throw error("Invalid BYDAY");
+            }
+            String days = "MOTUWETHFRSASU";
+            int d = -1;
+            for (int k = 0; k < days.length(); k += 2) {
+                if (upper(value[to - 2]) == days.charAt(k) && upper(value[to - 1]) == days.charAt(k + 1)) {
+                    d = k / 2;
+                }
+            }
+            if (d < 0) {
+                throw error("Invalid BYDAY");
+            }
+            byDay = DayOfWeek.of(d + 1);
+            boolean negative = value[from] == '-';
+            int digitsFrom = value[from] == '-' || value[from] == '+' ? from + 1 : from;
+            byDayOrdinal = digitsFrom == to - 2 ? 0 : number(digitsFrom, to - 2);
+            if (negative) {
+                byDayOrdinal = -byDayOrdinal;
+            }
+        }
+
+        private int valueStart() {
+            boolean quoted = false;
+            for (int i = 0; i < valueLength; i++) {
+                if (value[i] == '"') {
+                    quoted = !quoted;
+                } else if (value[i] == ':' && !quoted) {
+                    return i + 1;
+                }
+            }
+            return valueLength;
+        }
+
+        private boolean isProperty(String property) {
+            if (nameLength != property.length()) {
+                return false;
+            }
+            for (int i = 0; i < nameLength; i++) {
+                if (name[i] != property.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isValue(int from, String expected) {
+            int to = valueLength;
+            while (to > from && value[to - 1] <= ' ') {
+                to--;
+            }
+            return regionIs(from, to, expected);
+        }
+
+        private boolean regionIs(int from, int to, String expected) {
+            if (to - from != expected.length()) {
+                return false;
+            }
+            for (int i = from; i < to; i++) {
+                if (upper(value[i]) != expected.charAt(i - from)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(char c, int from) {
+            for (int i = from; i < valueLength; i++) {
+                if (value[i] == c) {
+                    return i;
+                }
+            }
+            return valueLength;
+        }
+
+        private int number(int from, int to) throws IOException {
+            if (from == to || to - from > 9) {
+                throw error("Expected a number");
+            }
+            return digits(from, to - from);
+        }
+
+        private int digits(int from, int length) throws IOException {
+            int n = 0;
+            for (int i = from; i < from + length; i++) {
+                if (value[i] < '0' || value[i] > '9') {
+                    throw error("Expected a digit");
+                }
+                n = n * 10 + value[i] - '0';
+            }
+            return n;
+        }
+
+        private int upper(byte b) {
+            return b >= 'a' && b <= 'z' ? b - 32 : b;
+        }
+
+        private IOException error(String message) {
+            return error(message, propertyLine);
+        }
+
+        private IOException error(String message, int line) {
+            return new IOException("Invalid iCalendar at line " + line + ": " + message);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package app.pickmaven.businessdays.api;
 
+import app.pickmaven.businessdays.CategorizedHolidays;
+import app.pickmaven.businessdays.HolidayCategory;
+import app.pickmaven.businessdays.time.IsoDates;
+
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -13,7 +17,6 @@ import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
@@ -134,6 +137,61 @@ public class PublicHolidayAPI implements HolidaySearcher {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns every holiday of a specific country and year tagged with its categories, read from the 'types' or
+     * 'type' field of the response: 'Public', 'Bank' and the other types, taken as observances. One call serves
+     * every combination of categories.
+     *
+     * @see <a href='https://rapidapi.com/theapiguy/api/public-holiday/details'> for more details on this API</a>
+     * @param countryCode for which search holidays
+     * @param year for which you are searching holidays
+     * @return the tagged holidays
+     * @throws IOException If connection to the api failed
+     */
+    public CategorizedHolidays searchCategorizedHolidaysFor(String countryCode, int year) throws IOException {
+        this.year = year;
+        List<JsonObject> jsonObjects = callApi(countryCode);
+
+        if (logResponse) {
+            System.out.println(jsonObjects);
+        }
+
+        CategorizedHolidays.Builder builder = CategorizedHolidays.Builder.aCategorizedHolidays();
+        for (JsonObject jsonObject : jsonObjects) {
+            if (predicate.test(jsonObject)) {
+                builder.add(getDate(jsonObject), getCategories(jsonObject));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the categories from the 'types' or 'type' field inside the {@code JsonObject} given as response; a
+     * holiday without type is public.
+     *
+     * @param element {@code JsonObject} to search through
+     * @return categories of the holiday
+     */
+    private static HolidayCategory[] getCategories(JsonObject element) {
+        List<JsonElement> types = new ArrayList<>();
+        if (element.has("types") && element.get("types").isJsonArray()) {
+            element.getAsJsonArray("types").forEach(types::add);
+        } else if (element.has("type") && !element.get("type").isJsonNull()) {
+            types.add(element.get("type"));
+        }
+        if (types.isEmpty()) {
+            return new HolidayCategory[] {HolidayCategory.PUBLIC};
+        }
+        HolidayCategory[] categories = new HolidayCategory[types.size()];
+        for (int i = 0; i < categories.length; i++) {
+            String type = types.get(i).getAsString();
+            categories[i] = "Public".equalsIgnoreCase(type) ? HolidayCategory.PUBLIC
+                    : "Bank".equalsIgnoreCase(type) ? HolidayCategory.BANK
+                    : HolidayCategory.OBSERVANCE;
+        }
+        return categories;
+    }
+
     /**
      * Gets the date from the 'date' field inside the {@code JsonObject} given as response.
      *
@@ -143,7 +201,7 @@ public class PublicHolidayAPI implements HolidaySearcher {
     private static LocalDate getDate(JsonObject element) {
         JsonElement date = element.get("date");
         String dateAsString = date.getAsString();
-        return LocalDate.parse(dateAsString, DateTimeFormatter.ISO_DATE);
+        return IsoDates.parseIsoDate(dateAsString);
     }
 
     /**
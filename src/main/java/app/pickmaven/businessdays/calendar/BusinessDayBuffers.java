@@ -0,0 +1,187 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Batch operations of a {@code app.pickmaven.businessdays.calendar.CompiledCalendar} over NIO buffers.
+ *
+ * <p>
+ * Every method processes the rows between position and limit of the input buffers, reading and writing with
+ * absolute indexes, and advances the position of each buffer by the number of rows once the batch is done. Direct,
+ * heap and memory-mapped buffers are all accepted; a {@code ByteBuffer} column is used through its
+ * {@code asIntBuffer()} or {@code asLongBuffer()} view, so no per-row object or intermediate array is created.
+ * <p>
+ *
+ * This class is stateless and thread-safe; the buffers are not.
+ *
+ */
+public final class BusinessDayBuffers {
+
+    /**
+     * Private constructor
+     */
+    private BusinessDayBuffers() { }
+
+    //-----------------------------------------------------------------------
+    // MOVING BY BUSINESS DAYS
+
+    /**
+     * For each row writes the epoch day reached moving from the input day by the row offset.
+     *
+     * @param calendar compiled calendar, not null
+     * @param epochDays input days
+     * @param offsets business days to move, one per row
+     * @param out output days
+     * @return number of rows processed
+     */
+    public static int addBusinessDays(CompiledCalendar calendar, IntBuffer epochDays, IntBuffer offsets, IntBuffer out) {
+        assert calendar != null : "calendar must not be null";
+        int rows = epochDays.remaining();
+        checkRemaining(offsets.remaining(), rows, "offsets");
+        checkRemaining(out.remaining(), rows, "out");
+
+        int in = epochDays.position();
+        int off = offsets.position();
+        int o = out.position();
+        for (int r = 0; r < rows; r++) {
+            out.put(o + r, calendar.addBusinessDays(epochDays.get(in + r), offsets.get(off + r)));
+        }
+
+        epochDays.position(in + rows);
+        offsets.position(off + rows);
+        out.position(o + rows);
+        return rows;
+    }
+
+    /**
+     * For each row writes the epoch day reached moving from the input day by the same offset.
+     *
+     * @param calendar compiled calendar, not null
+     * @param epochDays input days
+     * @param offset business days to move
+     * @param out output days
+     * @return number of rows processed
+     */
+    public static int addBusinessDays(CompiledCalendar calendar, IntBuffer epochDays, int offset, IntBuffer out) {
+        assert calendar != null : "calendar must not be null";
+        int rows = epochDays.remaining();
+        checkRemaining(out.remaining(), rows, "out");
+
+        int in = epochDays.position();
+        int o = out.position();
+        for (int r = 0; r < rows; r++) {
+            out.put(o + r, calendar.addBusinessDays(epochDays.get(in + r), offset));
+        }
+
+        epochDays.position(in + rows);
+        out.position(o + rows);
+        return rows;
+    }
+
+    /**
+     * For each row writes the epoch day reached moving from the input day by the row offset; days are stored as
+     * {@code long} values, as produced by {@code LocalDate.toEpochDay()}.
+     *
+     * @param calendar compiled calendar, not null
+     * @param epochDays input days
+     * @param offsets business days to move, one per row
+     * @param out output days
+     * @return number of rows processed
+     */
+    public static int addBusinessDays(CompiledCalendar calendar, LongBuffer epochDays, IntBuffer offsets, LongBuffer out) {
+        assert calendar != null : "calendar must not be null";
+        int rows = epochDays.remaining();
+        checkRemaining(offsets.remaining(), rows, "offsets");
+        checkRemaining(out.remaining(), rows, "out");
+
+        int in = epochDays.position();
+        int off = offsets.position();
+        int o = out.position();
+        for (int r = 0; r < rows; r++) {
+            out.put(o + r, calendar.addBusinessDays(toEpochDay(epochDays.get(in + r)), offsets.get(off + r)));
+        }
+
+        epochDays.position(in + rows);
+        offsets.position(off + rows);
+        out.position(o + rows);
+        return rows;
+    }
+
+    //-----------------------------------------------------------------------
+    // COUNTING AND TESTING BUSINESS DAYS
+
+    /**
+     * For each row writes the number of business days in the half-open range [from, to).
+     *
+     * @param calendar compiled calendar, not null
+     * @param from first day counted, one per row
+     * @param to first day not counted, one per row
+     * @param out output counts
+     * @return number of rows processed
+     */
+    public static int countBusinessDays(CompiledCalendar calendar, IntBuffer from, IntBuffer to, IntBuffer out) {
+        assert calendar != null : "calendar must not be null";
+        int rows = from.remaining();
+        checkRemaining(to.remaining(), rows, "to");
+        checkRemaining(out.remaining(), rows, "out");
+
+        int f = from.position();
+        int t = to.position();
+        int o = out.position();
+        for (int r = 0; r < rows; r++) {
+            out.put(o + r, calendar.countBusinessDays(from.get(f + r), to.get(t + r)));
+        }
+
+        from.position(f + rows);
+        to.position(t + rows);
+        out.position(o + rows);
+        return rows;
+    }
+
+    /**
+     * For each row writes 1 if the input day is a business day, 0 otherwise.
+     *
+     * @param calendar compiled calendar, not null
+     * @param epochDays input days
+     * @param out output flags, one byte per row
+     * @return number of rows processed
+     */
+    public static int isBusinessDay(CompiledCalendar calendar, IntBuffer epochDays, ByteBuffer out) {
+        assert calendar != null : "calendar must not be null";
+        int rows = epochDays.remaining();
+        checkRemaining(out.remaining(), rows, "out");
+
+        int in = epochDays.position();
+        int o = out.position();
+        for (int r = 0; r < rows; r++) {
+            out.put(o + r, calendar.isBusinessDay(epochDays.get(in + r)) ? (byte) 1 : (byte) 0);
+        }
+
+        epochDays.position(in + rows);
+        out.position(o + rows);
+        return rows;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks that a buffer has room for the rows of the batch.
+     */
+    private static void checkRemaining(int remaining, int rows, String name) {
+        if (remaining < rows) {
+            throw new IllegalArgumentException(name + " has " + remaining + " remaining elements, but the batch has " + rows + " rows");
+        }
+    }
+
+    /**
+     * Narrows a {@code long} epoch day, failing on values no compiled calendar can cover.
+     */
+    private static int toEpochDay(long epochDay) {
+        if (epochDay != (int) epochDay) {
+            throw new IllegalArgumentException("Epoch day " + epochDay + " is outside the compiled range");
+        }
+        return (int) epochDay;
+    }
+}
@@ -0,0 +1,73 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.time.LocalDate;
+
+/**
+ * The conventions for rolling a date that falls on a non-business day.
+ *
+ */
+public enum BusinessDayConvention {
+
+    /**
+     * The date is left as it is.
+     */
+    UNADJUSTED,
+
+    /**
+     * The date rolls to the first following business day.
+     */
+    FOLLOWING,
+
+    /**
+     * The date rolls to the first following business day, unless that is in the next month; then it rolls to the
+     * first preceding business day.
+     */
+    MODIFIED_FOLLOWING,
+
+    /**
+     * The date rolls to the first preceding business day.
+     */
+    PRECEDING,
+
+    /**
+     * The date rolls to the first preceding business day, unless that is in the previous month; then it rolls to
+     * the first following business day.
+     */
+    MODIFIED_PRECEDING;
+
+    /**
+     * Adjusts an epoch day according to this convention.
+     *
+     * @param calendar compiled calendar, not null
+     * @param epochDay day to adjust, within the compiled range
+     * @return adjusted epoch day
+     */
+    public int adjust(CompiledCalendar calendar, int epochDay) {
+        if (this == UNADJUSTED || calendar.isBusinessDay(epochDay)) {
+            return epochDay;
+        }
+        switch (this) {
+            case FOLLOWING:
+                return calendar.addBusinessDays(epochDay, 1);
+            case PRECEDING:
+                return calendar.addBusinessDays(epochDay, -1);
+            case MODIFIED_FOLLOWING: {
+                int following = calendar.addBusinessDays(epochDay, 1);
+                return sameMonth(epochDay, following) ? following : calendar.addBusinessDays(epochDay, -1);
+            }
+            default: {
+                int preceding = calendar.addBusinessDays(epochDay, -1);
+                return sameMonth(epochDay, preceding) ? preceding : calendar.addBusinessDays(epochDay, 1);
+            }
+        }
+    }
+
+    /**
+     * @return true if the two epoch days are in the same month of the same year
+     */
+    private static boolean sameMonth(int epochDay, int other) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        LocalDate otherDate = LocalDate.ofEpochDay(other);
+        return date.getYear() == otherDate.getYear() && date.getMonthValue() == otherDate.getMonthValue();
+    }
+}
@@ -0,0 +1,174 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The replacement of a named compiled calendar by a newer version.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.CalendarChangeEvent} identifies the calendar by its name and carries
+ * both versions, the {@code app.pickmaven.businessdays.calendar.CalendarDiff} between them and the range of days
+ * they disagree on: the days opened or closed and, when the versions cover different ranges, the days covered by
+ * one of them only. A cache keyed by calendar name and date range drops the entries for which {@code overlaps} is
+ * true and keeps the others.
+ * <p>
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class CalendarChangeEvent {
+
+    /**
+     * Name the calendar is published under.
+     */
+    private final String name;
+
+    /**
+     * Version replaced.
+     */
+    private final CompiledCalendar older;
+
+    /**
+     * Version published.
+     */
+    private final CompiledCalendar newer;
+
+    /**
+     * Days opened and closed over the intersection of the ranges.
+     */
+    private final CalendarDiff diff;
+
+    /**
+     * First day the versions disagree on, Integer.MAX_VALUE if none.
+     */
+    private final int fromEpochDay;
+
+    /**
+     * Last day the versions disagree on, inclusive, Integer.MIN_VALUE if none.
+     */
+    private final int toEpochDay;
+
+    /**
+     * Private constructor
+     */
+    private CalendarChangeEvent(String name, CompiledCalendar older, CompiledCalendar newer, CalendarDiff diff,
+                                int fromEpochDay, int toEpochDay) {
+        this.name = name;
+        this.older = older;
+        this.newer = newer;
+        this.diff = diff;
+        this.fromEpochDay = fromEpochDay;
+        this.toEpochDay = toEpochDay;
+    }
+
+    /**
+     * Compares two versions of a named calendar.
+     *
+     * @param name name the calendar is published under, not null
+     * @param older version replaced, not null
+     * @param newer version published, not null
+     * @return the event
+     */
+    public static CalendarChangeEvent of(String name, CompiledCalendar older, CompiledCalendar newer) {
+        assert Objects.nonNull(name) : "name must be non null";
+        CalendarDiff diff = CalendarDiff.of(older, newer);
+        int from = diff.getFirstChangedEpochDay();
+        int to = diff.getLastChangedEpochDay();
+        if (older.firstEpochDay != newer.firstEpochDay) {
+            from = Math.min(from, Math.min(older.firstEpochDay, newer.firstEpochDay));
+            to = Math.max(to, Math.max(older.firstEpochDay, newer.firstEpochDay) - 1);
+        }
+        if (older.lastEpochDay != newer.lastEpochDay) {
+            from = Math.min(from, Math.min(older.lastEpochDay, newer.lastEpochDay) + 1);
+            to = Math.max(to, Math.max(older.lastEpochDay, newer.lastEpochDay));
+        }
+        return new CalendarChangeEvent(name, older, newer, diff, from, to);
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @return name the calendar is published under
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return version replaced
+     */
+    public CompiledCalendar getOlder() {
+        return older;
+    }
+
+    /**
+     * @return version published
+     */
+    public CompiledCalendar getNewer() {
+        return newer;
+    }
+
+    /**
+     * @return days opened and closed over the intersection of the ranges of both versions
+     */
+    public CalendarDiff getDiff() {
+        return diff;
+    }
+
+    /**
+     * @return true if both versions agree on every day
+     */
+    public boolean isEmpty() {
+        return fromEpochDay > toEpochDay;
+    }
+
+    /**
+     * @return first day the versions disagree on, Integer.MAX_VALUE if none
+     */
+    public int getFromEpochDay() {
+        return fromEpochDay;
+    }
+
+    /**
+     * @return last day the versions disagree on, inclusive, Integer.MIN_VALUE if none
+     */
+    public int getToEpochDay() {
+        return toEpochDay;
+    }
+
+    /**
+     * @param fromEpochDay first day of the range
+     * @param toEpochDay last day of the range, inclusive
+     * @return true if the range intersects the range the versions disagree on
+     */
+    public boolean overlaps(int fromEpochDay, int toEpochDay) {
+        return fromEpochDay <= this.toEpochDay && toEpochDay >= this.fromEpochDay;
+    }
+
+    /**
+     * @param from first day of the range, not null
+     * @param to last day of the range, inclusive, not null
+     * @return true if the range intersects the range the versions disagree on
+     */
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        assert Objects.nonNull(from) : "from must be non null";
+        assert Objects.nonNull(to) : "to must be non null";
+        return overlaps(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()));
+    }
+
+    /**
+     * Outputs the name of the calendar and the range the versions disagree on.
+     *
+     * @return string representing {@code CalendarChangeEvent}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.calendar.CalendarChangeEvent{" +
+                "name=" + name +
+                ", changed=" + diff.size() +
+                (isEmpty() ? "" : ", from=" + LocalDate.ofEpochDay(fromEpochDay) + ", to=" + LocalDate.ofEpochDay(toEpochDay)) +
+                '}';
+    }
+}
@@ -0,0 +1,185 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The days whose business state differs between two compiled calendars.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.CalendarDiff} compares the bitmaps of two
+ * {@code app.pickmaven.businessdays.calendar.CompiledCalendar} objects 64 days at a time: the {@code xor} of two
+ * words is zero for every word where nothing changed, and the bits of the other words are read without testing the
+ * days one by one. Days that became business days are reported as opened, days that stopped being business days
+ * as closed.
+ * <p>
+ *
+ * The calendars are compared over the intersection of their ranges; their early closes are not compared.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class CalendarDiff {
+
+    private static final int[] NO_DAYS = new int[0];
+
+    /**
+     * Sorted epoch days that are business days of the newer calendar only.
+     */
+    private final int[] opened;
+
+    /**
+     * Sorted epoch days that are business days of the older calendar only.
+     */
+    private final int[] closed;
+
+    /**
+     * Private constructor; the arrays are owned by the new object.
+     */
+    private CalendarDiff(int[] opened, int[] closed) {
+        this.opened = opened;
+        this.closed = closed;
+    }
+
+    /**
+     * Compares two versions of a calendar over the intersection of their ranges.
+     *
+     * @param older the older version, not null
+     * @param newer the newer version, not null
+     * @return the days opened and closed from older to newer
+     */
+    public static CalendarDiff of(CompiledCalendar older, CompiledCalendar newer) {
+        assert Objects.nonNull(older) : "older app.pickmaven.businessdays.calendar.CompiledCalendar must be non null";
+        assert Objects.nonNull(newer) : "newer app.pickmaven.businessdays.calendar.CompiledCalendar must be non null";
+        int first = Math.max(older.firstEpochDay, newer.firstEpochDay);
+        int last = Math.min(older.lastEpochDay, newer.lastEpochDay);
+        if (first > last || older == newer) {
+            return new CalendarDiff(NO_DAYS, NO_DAYS);
+        }
+        int length = last - first + 1;
+        int olderOffset = first - older.firstEpochDay;
+        int newerOffset = first - newer.firstEpochDay;
+        int[] opened = NO_DAYS;
+        int[] closed = NO_DAYS;
+        int openedDays = 0;
+        int closedDays = 0;
+        for (int i = 0; i < length; i += 64) {
+            long olderWord = older.bitsFrom(olderOffset + i);
+            long newerWord = newer.bitsFrom(newerOffset + i);
+            long changed = olderWord ^ newerWord;
+            if (length - i < 64) {
+                changed &= (1L << (length - i)) - 1;
+            }
+            if (changed == 0) {
+                continue;
+            }
+            long openedBits = changed & newerWord;
+            long closedBits = changed & olderWord;
+            if (openedBits != 0) {
+                opened = grow(opened, openedDays + Long.bitCount(openedBits));
+                openedDays = append(opened, openedDays, first + i, openedBits);
+            }
+            if (closedBits != 0) {
+                closed = grow(closed, closedDays + Long.bitCount(closedBits));
+                closedDays = append(closed, closedDays, first + i, closedBits);
+            }
+        }
+        return new CalendarDiff(trim(opened, openedDays), trim(closed, closedDays));
+    }
+
+    private static int[] grow(int[] days, int size) {
+        return size <= days.length ? days : Arrays.copyOf(days, Math.max(size, days.length * 2));
+    }
+
+    /**
+     * Writes the epoch day of each set bit of bits, bit 0 being base, from index n; returns the new size.
+     */
+    private static int append(int[] days, int n, int base, long bits) {
+        for (; bits != 0; bits &= bits - 1) {
+            days[n++] = base + Long.numberOfTrailingZeros(bits);
+        }
+        return n;
+    }
+
+    private static int[] trim(int[] days, int size) {
+        if (size == 0) {
+            return NO_DAYS;
+        }
+        return size == days.length ? days : Arrays.copyOf(days, size);
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @return sorted epoch days that are business days of the newer calendar only
+     */
+    public int[] getOpenedEpochDays() {
+        return opened.clone();
+    }
+
+    /**
+     * @return sorted epoch days that are business days of the older calendar only
+     */
+    public int[] getClosedEpochDays() {
+        return closed.clone();
+    }
+
+    /**
+     * @return first changed epoch day, or Integer.MAX_VALUE if nothing changed; queries over days before it are
+     * answered the same by both calendars
+     */
+    public int getFirstChangedEpochDay() {
+        int first = Integer.MAX_VALUE;
+        if (opened.length > 0) {
+            first = opened[0];
+        }
+        if (closed.length > 0) {
+            first = Math.min(first, closed[0]);
+        }
+        return first;
+    }
+
+    /**
+     * @return last changed epoch day, or Integer.MIN_VALUE if nothing changed
+     */
+    public int getLastChangedEpochDay() {
+        int last = Integer.MIN_VALUE;
+        if (opened.length > 0) {
+            last = opened[opened.length - 1];
+        }
+        if (closed.length > 0) {
+            last = Math.max(last, closed[closed.length - 1]);
+        }
+        return last;
+    }
+
+    /**
+     * @return number of days opened or closed
+     */
+    public int size() {
+        return opened.length + closed.length;
+    }
+
+    /**
+     * @return true if both calendars agree on every day of the intersection of their ranges
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Outputs the number of days opened and closed, and the first changed day.
+     *
+     * @return string representing {@code CalendarDiff}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.calendar.CalendarDiff{" +
+                "opened=" + opened.length +
+                ", closed=" + closed.length +
+                (isEmpty() ? "" : ", from=" + LocalDate.ofEpochDay(getFirstChangedEpochDay())) +
+                '}';
+    }
+}
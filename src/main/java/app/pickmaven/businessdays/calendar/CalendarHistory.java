@@ -0,0 +1,197 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The versions of a calendar over time, each valid from an instant until the next one, queryable as of any instant.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.CalendarHistory} records each version of a compiled calendar, such as
+ * the calendar rebuilt after a holiday list is refreshed, with the instant it became valid. A version is stored as a
+ * {@code app.pickmaven.businessdays.calendar.RegionalCalendar} over the last version stored in full: it keeps only
+ * the 64-day words that changed, and shares every other word with the versions over the same full version. A
+ * version differing from it in more than an eighth of its words, covering another range or closing early on other
+ * days is stored in full and becomes the one the next versions are compared with.
+ * <p>
+ *
+ * {@code asOf(Instant)} finds the version valid at an instant with one binary search over the instants, and the
+ * version answers with the indexes of a current calendar: "the T+2 settlement date as the calendar was on
+ * 2025-03-01" is {@code asOf(instant).addBusinessDays(tradeDate, 2)}.
+ *
+ * This class is thread-safe. Versions are recorded in order of their instants; reads never block and see every
+ * version recorded before them.
+ *
+ */
+public final class CalendarHistory {
+
+    /**
+     * Name given to the versions.
+     */
+    private final String name;
+
+    /**
+     * Recorded versions, replaced on each record.
+     */
+    private volatile Versions versions = new Versions(new Instant[8], new RegionalCalendar[8], 0);
+
+    /**
+     * Constructor
+     *
+     * @param name name given to the versions, not null
+     */
+    public CalendarHistory(String name) {
+        assert Objects.nonNull(name) : "name must be non null";
+        this.name = name;
+    }
+
+    /**
+     * Records a version valid from an instant until the next version.
+     *
+     * @param validFrom instant the version becomes valid, after the instant of the last version, not null
+     * @param calendar the version, not null
+     * @return the version as stored
+     */
+    public synchronized RegionalCalendar record(Instant validFrom, CompiledCalendar calendar) {
+        assert Objects.nonNull(validFrom) : "validFrom must be non null";
+        assert Objects.nonNull(calendar) : "app.pickmaven.businessdays.calendar.CompiledCalendar must be non null";
+        Versions current = versions;
+        int size = current.size;
+        if (size > 0 && !validFrom.isAfter(current.validFrom[size - 1])) {
+            throw new IllegalArgumentException("Version valid from " + validFrom + " is not after the last version, "
+                    + "valid from " + current.validFrom[size - 1]);
+        }
+        RegionalCalendar version = RegionalCalendar.of(name, calendar);
+        if (size > 0) {
+            CompiledCalendar root = current.calendars[size - 1].getRoot();
+            if (root.firstEpochDay == calendar.firstEpochDay && root.lastEpochDay == calendar.lastEpochDay
+                    && Arrays.equals(root.partialIndexes, calendar.partialIndexes)
+                    && Arrays.equals(root.closingSeconds, calendar.closingSeconds)) {
+                RegionalCalendar delta = RegionalCalendar.ofDifference(name, root, calendar);
+                if (delta.deltaWords() <= root.words.length / 8) {
+                    version = delta;
+                }
+            }
+        }
+
+        Instant[] instants = current.validFrom;
+        RegionalCalendar[] calendars = current.calendars;
+        if (size == instants.length) {
+            instants = Arrays.copyOf(instants, size * 2);
+            calendars = Arrays.copyOf(calendars, size * 2);
+        }
+        // the slots past size are not visible to readers of the current versions
+        instants[size] = validFrom;
+        calendars[size] = version;
+        versions = new Versions(instants, calendars, size + 1);
+        return version;
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @param instant the instant, not null
+     * @return the version valid at instant
+     * @throws IllegalArgumentException if no version is valid at instant
+     */
+    public RegionalCalendar asOf(Instant instant) {
+        assert Objects.nonNull(instant) : "instant must be non null";
+        Versions current = versions;
+        int i = Arrays.binarySearch(current.validFrom, 0, current.size, instant);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        if (i < 0) {
+            throw new IllegalArgumentException("No version of " + name + " is valid at " + instant);
+        }
+        return current.calendars[i];
+    }
+
+    /**
+     * @return the last version recorded
+     * @throws IllegalStateException if no version is recorded
+     */
+    public RegionalCalendar current() {
+        Versions current = versions;
+        if (current.size == 0) {
+            throw new IllegalStateException("No version of " + name + " is recorded");
+        }
+        return current.calendars[current.size - 1];
+    }
+
+    /**
+     * @param i index of the version, in order of validity
+     * @return instant the i-th version became valid
+     */
+    public Instant getValidFrom(int i) {
+        Versions current = versions;
+        if (i < 0 || i >= current.size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + current.size);
+        }
+        return current.validFrom[i];
+    }
+
+    /**
+     * @return number of versions recorded
+     */
+    public int size() {
+        return versions.size;
+    }
+
+    /**
+     * @return number of versions stored in full
+     */
+    public int fullVersions() {
+        Versions current = versions;
+        int full = 0;
+        for (int i = 0; i < current.size; i++) {
+            if (i == 0 || current.calendars[i].getRoot() != current.calendars[i - 1].getRoot()) {
+                full++;
+            }
+        }
+        return full;
+    }
+
+    /**
+     * @return name given to the versions
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Outputs the name, the number of versions and how many of them are stored in full.
+     *
+     * @return string representing {@code CalendarHistory}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.calendar.CalendarHistory{" +
+                "name=" + name +
+                ", versions=" + size() +
+                ", fullVersions=" + fullVersions() +
+                '}';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * The first size versions of two arrays shared between successive records; never modified below size.
+     */
+    private static final class Versions {
+
+        private final Instant[] validFrom;
+
+        private final RegionalCalendar[] calendars;
+
+        private final int size;
+
+        Versions(Instant[] validFrom, RegionalCalendar[] calendars, int size) {
+            this.validFrom = validFrom;
+            this.calendars = calendars;
+            this.size = size;
+        }
+    }
+}
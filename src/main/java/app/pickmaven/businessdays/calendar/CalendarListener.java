@@ -0,0 +1,20 @@
+package app.pickmaven.businessdays.calendar;
+
+/**
+ * Listener of the replacement of a named compiled calendar.
+ *
+ * <p>
+ * A {@code app.pickmaven.businessdays.calendar.CompiledCalendar} never changes: a calendar changes when the holder
+ * publishing it under a name, such as {@code app.pickmaven.businessdays.expression.DateExpressions}, replaces it with
+ * another one. Listeners are called on the thread replacing it, after the new calendar is visible to readers.
+ * <p>
+ *
+ */
+@FunctionalInterface
+public interface CalendarListener {
+
+    /**
+     * @param event the calendar replaced and the days changed
+     */
+    void calendarChanged(CalendarChangeEvent event);
+}
@@ -0,0 +1,137 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.CategorizedHolidays;
+import app.pickmaven.businessdays.HolidayCategory;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled calendars for every combination of holiday categories, derived from one base calendar and one set of
+ * tagged holidays.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.CategorizedCalendar} compiles the holidays of each
+ * {@code app.pickmaven.businessdays.HolidayCategory} into a bitmap over the range of the base calendar. The calendar of
+ * a combination of categories is the base bitmap with the bitmaps of those categories cleared, one
+ * {@code and-not} per word and category, and is kept once derived.
+ * <p>
+ *
+ * The base calendar holds the rules shared by every variant, such as weekends and holidays of no category; its
+ * early closes are kept on the days that stay business days.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class CategorizedCalendar {
+
+    /**
+     * The calendar of the empty combination.
+     */
+    private final CompiledCalendar base;
+
+    /**
+     * categoryWords[c] has a bit set for each holiday of category c, aligned with the base words; null when the
+     * category has no holiday in the range.
+     */
+    private final long[][] categoryWords;
+
+    /**
+     * Calendars derived so far, by category bitmask.
+     */
+    private final ConcurrentMap<Integer, CompiledCalendar> derived = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor
+     *
+     * @param base calendar of the empty combination
+     * @param categoryWords bitmap of each category
+     */
+    private CategorizedCalendar(CompiledCalendar base, long[][] categoryWords) {
+        this.base = base;
+        this.categoryWords = categoryWords;
+        derived.put(0, base);
+    }
+
+    /**
+     * Compiles the holidays of each category over the range of the base calendar; holidays outside the range are
+     * ignored.
+     *
+     * @param base calendar of the rules shared by every combination, not null
+     * @param holidays tagged holidays, not null
+     * @return categorized calendar
+     */
+    public static CategorizedCalendar of(CompiledCalendar base, CategorizedHolidays holidays) {
+        assert Objects.nonNull(base) : "base calendar must be non null";
+        assert Objects.nonNull(holidays) : "app.pickmaven.businessdays.CategorizedHolidays must be non null";
+        long[][] categoryWords = new long[Integer.SIZE][];
+        for (int i = 0; i < holidays.size(); i++) {
+            int epochDay = holidays.epochDayAt(i);
+            if (!base.covers(epochDay)) {
+                continue;
+            }
+            int index = epochDay - base.firstEpochDay;
+            for (int mask = holidays.categoriesAt(i); mask != 0; mask &= mask - 1) {
+                int category = Integer.numberOfTrailingZeros(mask);
+                if (categoryWords[category] == null) {
+                    categoryWords[category] = new long[base.words.length];
+                }
+                categoryWords[category][index >>> 6] |= 1L << index;
+            }
+        }
+        return new CategorizedCalendar(base, categoryWords);
+    }
+
+    /**
+     * @param categories categories whose holidays are closed
+     * @return calendar where the holidays of any of the categories are not business days
+     */
+    public CompiledCalendar calendar(HolidayCategory... categories) {
+        return calendar(HolidayCategory.maskOf(categories));
+    }
+
+    /**
+     * @param mask bitmask of the categories whose holidays are closed
+     * @return calendar where the holidays of any of the categories of mask are not business days
+     */
+    public CompiledCalendar calendar(int mask) {
+        return derived.computeIfAbsent(mask, this::derive);
+    }
+
+    /**
+     * @return calendar of the rules shared by every combination
+     */
+    public CompiledCalendar getBase() {
+        return base;
+    }
+
+    /**
+     * Clears the bitmaps of the categories of mask from the base bitmap.
+     */
+    private CompiledCalendar derive(int mask) {
+        long[] words = base.words.clone();
+        for (int m = mask; m != 0; m &= m - 1) {
+            long[] closed = categoryWords[Integer.numberOfTrailingZeros(m)];
+            if (closed != null) {
+                for (int w = 0; w < words.length; w++) {
+                    words[w] &= ~closed[w];
+                }
+            }
+        }
+        return base.withWords(words);
+    }
+
+    /**
+     * Outputs the base calendar and the number of derived calendars.
+     *
+     * @return string representing {@code CategorizedCalendar}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.calendar.CategorizedCalendar{" +
+                "base=" + base +
+                ", derived=" + (derived.size() - 1) +
+                '}';
+    }
+}
@@ -0,0 +1,555 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A business-day calendar compiled into a bitmap over a closed range of epoch days.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.CompiledCalendar} stores one bit per day, set when the day is a business day,
+ * and a rank directory holding the number of business days preceding each 64-day word. Membership tests and
+ * range counts are O(1); moving forward or backward by a number of business days is a binary search over the
+ * rank directory followed by an in-word select.
+ * <p>
+ *
+ * Days are addressed as epoch days, as returned by {@code LocalDate.toEpochDay()}, so that callers holding
+ * primitive dates never need to materialize {@code LocalDate} objects.
+ *
+ * Business days closing early are kept in a side table sorted by day, holding the closing second of each one and
+ * the running total of the time they lose; a business day without an entry is open from midnight to midnight.
+ * Intraday queries therefore cost one binary search over the partial days, usually a handful per year, and days
+ * that are not partial are answered from the bitmap alone.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class CompiledCalendar {
+
+    /**
+     * The first epoch day covered by this calendar.
+     */
+    final int firstEpochDay;
+
+    /**
+     * The last epoch day covered by this calendar, inclusive.
+     */
+    final int lastEpochDay;
+
+    /**
+     * One bit per day starting at firstEpochDay; a set bit is a business day. The array always ends with a word
+     * holding the bit past lastEpochDay, so that exclusive range bounds never fall outside it.
+     */
+    final long[] words;
+
+    /**
+     * ranks[i] is the number of business days in words[0..i-1]; it has words.length + 1 entries.
+     */
+    final int[] ranks;
+
+    /**
+     * Seconds in a day; the closing second of a business day that does not close early.
+     */
+    public static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * Bit indexes of the business days closing early, sorted.
+     */
+    final int[] partialIndexes;
+
+    /**
+     * closingSeconds[k] is the closing second of day of partialIndexes[k].
+     */
+    final int[] closingSeconds;
+
+    /**
+     * lostSeconds[k] is the number of seconds lost by the first k partial days; it has partialIndexes.length + 1
+     * entries.
+     */
+    final long[] lostSeconds;
+
+    private static final int[] NO_PARTIAL_DAYS = new int[0];
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Package-private constructor; the words array is owned by the new calendar.
+     *
+     * @param firstEpochDay first day covered
+     * @param lastEpochDay last day covered, inclusive
+     * @param words business day bitmap
+     */
+    CompiledCalendar(int firstEpochDay, int lastEpochDay, long[] words) {
+        this(firstEpochDay, lastEpochDay, words, NO_PARTIAL_DAYS, NO_PARTIAL_DAYS);
+    }
+
+    /**
+     * Package-private constructor; the arrays are owned by the new calendar.
+     *
+     * @param firstEpochDay first day covered
+     * @param lastEpochDay last day covered, inclusive
+     * @param words business day bitmap
+     * @param partialIndexes sorted bit indexes of business days closing early
+     * @param closingSeconds closing second of day of each partial day
+     */
+    CompiledCalendar(int firstEpochDay, int lastEpochDay, long[] words, int[] partialIndexes, int[] closingSeconds) {
+        this.firstEpochDay = firstEpochDay;
+        this.lastEpochDay = lastEpochDay;
+        this.words = words;
+        this.ranks = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            ranks[i + 1] = ranks[i] + Long.bitCount(words[i]);
+        }
+        this.partialIndexes = partialIndexes;
+        this.closingSeconds = closingSeconds;
+        this.lostSeconds = new long[partialIndexes.length + 1];
+        for (int k = 0; k < partialIndexes.length; k++) {
+            lostSeconds[k + 1] = lostSeconds[k] + SECONDS_PER_DAY - closingSeconds[k];
+        }
+    }
+
+    /**
+     * Compiles a calendar testing each day of the range against the predicate.
+     *
+     * @param firstEpochDay first day to compile
+     * @param lastEpochDay last day to compile, inclusive
+     * @param isBusinessDay predicate telling if an epoch day is a business day
+     * @return compiled calendar
+     */
+    public static CompiledCalendar of(int firstEpochDay, int lastEpochDay, IntPredicate isBusinessDay) {
+        return of(firstEpochDay, lastEpochDay, isBusinessDay, null);
+    }
+
+    /**
+     * Compiles a calendar testing each day of the range against the predicate, recording the business days that
+     * close early.
+     *
+     * @param firstEpochDay first day to compile
+     * @param lastEpochDay last day to compile, inclusive
+     * @param isBusinessDay predicate telling if an epoch day is a business day
+     * @param closingSecondOfDay closing second of day of a business day, SECONDS_PER_DAY if it does not close
+     *                           early; null if no day closes early
+     * @return compiled calendar
+     */
+    public static CompiledCalendar of(int firstEpochDay, int lastEpochDay, IntPredicate isBusinessDay,
+                                      IntUnaryOperator closingSecondOfDay) {
+        if (lastEpochDay < firstEpochDay) {
+            throw new IllegalArgumentException("lastEpochDay must not precede firstEpochDay, but was called with "
+                    + firstEpochDay + " and " + lastEpochDay);
+        }
+        int length = lastEpochDay - firstEpochDay + 1;
+        long[] words = new long[(length >>> 6) + 1];
+        int[] partialIndexes = NO_PARTIAL_DAYS;
+        int[] closingSeconds = NO_PARTIAL_DAYS;
+        int partialDays = 0;
+        for (int i = 0; i < length; i++) {
+            if (isBusinessDay.test(firstEpochDay + i)) {
+                words[i >>> 6] |= 1L << i;
+                int closingSecond = closingSecondOfDay == null
+                        ? SECONDS_PER_DAY
+                        : closingSecondOfDay.applyAsInt(firstEpochDay + i);
+                if (closingSecond < SECONDS_PER_DAY) {
+                    if (closingSecond <= 0) {
+                        throw new IllegalArgumentException("Closing second of epoch day " + (firstEpochDay + i)
+                                + " must be positive, but was " + closingSecond);
+                    }
+                    if (partialDays == partialIndexes.length) {
+                        partialIndexes = Arrays.copyOf(partialIndexes, Math.max(8, partialDays * 2));
+                        closingSeconds = Arrays.copyOf(closingSeconds, partialIndexes.length);
+                    }
+                    partialIndexes[partialDays] = i;
+                    closingSeconds[partialDays++] = closingSecond;
+                }
+            }
+        }
+        return new CompiledCalendar(firstEpochDay, lastEpochDay, words,
+                trim(partialIndexes, partialDays), trim(closingSeconds, partialDays));
+    }
+
+    /**
+     * Compiles a calendar testing each day of the range against the predicate.
+     *
+     * @param from first date to compile, not null
+     * @param to last date to compile, inclusive, not null
+     * @param isBusinessDay predicate telling if an epoch day is a business day
+     * @return compiled calendar
+     */
+    public static CompiledCalendar of(LocalDate from, LocalDate to, IntPredicate isBusinessDay) {
+        return of(from, to, isBusinessDay, null);
+    }
+
+    /**
+     * Compiles a calendar testing each day of the range against the predicate, recording the business days that
+     * close early.
+     *
+     * @param from first date to compile, not null
+     * @param to last date to compile, inclusive, not null
+     * @param isBusinessDay predicate telling if an epoch day is a business day
+     * @param closingSecondOfDay closing second of day of a business day, SECONDS_PER_DAY if it does not close
+     *                           early; null if no day closes early
+     * @return compiled calendar
+     */
+    public static CompiledCalendar of(LocalDate from, LocalDate to, IntPredicate isBusinessDay,
+                                      IntUnaryOperator closingSecondOfDay) {
+        assert from != null : "from must not be null";
+        assert to != null : "to must not be null";
+        return of(Math.toIntExact(from.toEpochDay()), Math.toIntExact(to.toEpochDay()), isBusinessDay,
+                closingSecondOfDay);
+    }
+
+    /**
+     * Builds the joint calendar of the given ones: a day is a business day only if it is a business day in every
+     * calendar, which is the union of their holidays. The result covers the days covered by all calendars, and a
+     * business day closes at the earliest of its closing times.
+     *
+     * @param calendars calendars to join, at least one
+     * @return joint calendar
+     */
+    public static CompiledCalendar joint(CompiledCalendar... calendars) {
+        if (calendars.length == 0) {
+            throw new IllegalArgumentException("joint: at least one calendar is needed");
+        }
+        if (calendars.length == 1) {
+            return calendars[0];
+        }
+        int first = Integer.MIN_VALUE;
+        int last = Integer.MAX_VALUE;
+        for (CompiledCalendar calendar : calendars) {
+            first = Math.max(first, calendar.firstEpochDay);
+            last = Math.min(last, calendar.lastEpochDay);
+        }
+        if (last < first) {
+            throw new IllegalArgumentException("joint: the calendars do not share any day");
+        }
+
+        int length = last - first + 1;
+        long[] words = new long[(length >>> 6) + 1];
+        for (int w = 0; w < words.length; w++) {
+            long word = -1L;
+            for (CompiledCalendar calendar : calendars) {
+                word &= calendar.bitsFrom(first - calendar.firstEpochDay + (w << 6));
+            }
+            words[w] = word;
+        }
+        int tail = length & 63;
+        words[words.length - 1] &= (1L << tail) - 1;
+
+        // packs each partial day as (index << 32 | closing second): sorting puts the earliest close of a day first
+        int candidates = 0;
+        for (CompiledCalendar calendar : calendars) {
+            candidates += calendar.partialIndexes.length;
+        }
+        long[] packed = new long[candidates];
+        int n = 0;
+        for (CompiledCalendar calendar : calendars) {
+            for (int k = 0; k < calendar.partialIndexes.length; k++) {
+                int i = calendar.firstEpochDay + calendar.partialIndexes[k] - first;
+                if (i >= 0 && i < length && (words[i >>> 6] & (1L << i)) != 0) {
+                    packed[n++] = (long) i << 32 | calendar.closingSeconds[k];
+                }
+            }
+        }
+        Arrays.sort(packed, 0, n);
+        int[] partialIndexes = new int[n];
+        int[] closingSeconds = new int[n];
+        int partialDays = 0;
+        for (int k = 0; k < n; k++) {
+            int i = (int) (packed[k] >>> 32);
+            if (partialDays == 0 || partialIndexes[partialDays - 1] != i) {
+                partialIndexes[partialDays] = i;
+                closingSeconds[partialDays++] = (int) packed[k];
+            }
+        }
+        return new CompiledCalendar(first, last, words,
+                trim(partialIndexes, partialDays), trim(closingSeconds, partialDays));
+    }
+
+    /**
+     * Builds a calendar over the same range with another bitmap, keeping the early closes of the days that are
+     * still business days.
+     *
+     * @param words business day bitmap, owned by the new calendar
+     * @return the new calendar
+     */
+    CompiledCalendar withWords(long[] words) {
+        int[] keptIndexes = new int[partialIndexes.length];
+        int[] keptSeconds = new int[partialIndexes.length];
+        int n = 0;
+        for (int k = 0; k < partialIndexes.length; k++) {
+            int i = partialIndexes[k];
+            if ((words[i >>> 6] & (1L << i)) != 0) {
+                keptIndexes[n] = i;
+                keptSeconds[n++] = closingSeconds[k];
+            }
+        }
+        return new CompiledCalendar(firstEpochDay, lastEpochDay, words, trim(keptIndexes, n), trim(keptSeconds, n));
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @param epochDay day to check, within the compiled range
+     * @return true if epochDay is a business day
+     */
+    public boolean isBusinessDay(int epochDay) {
+        int i = index(epochDay);
+        return (words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Moves from a day by a number of business days.
+     * <p>
+     *     With a positive offset the result is the offset-th business day strictly after epochDay, the same rule
+     *     applied by {@code BusinessDay.nextBusinessDay(int)}; with a negative offset it is the matching business day
+     *     strictly before epochDay. A zero offset returns epochDay unchanged.
+     * </p>
+     *
+     * @param epochDay starting day, within the compiled range
+     * @param offset number of business days to move
+     * @return the resulting epoch day
+     * @throws IllegalArgumentException if the result falls outside the compiled range
+     */
+    public int addBusinessDays(int epochDay, int offset) {
+        int i = index(epochDay);
+        if (offset == 0) {
+            return epochDay;
+        }
+        long target = offset > 0
+                ? (long) rank(i + 1) + offset - 1
+                : (long) rank(i) + offset;
+        if (target < 0 || target >= ranks[words.length]) {
+            throw new IllegalArgumentException("Moving " + offset + " business days from epoch day " + epochDay
+                    + " leaves the compiled range [" + firstEpochDay + ", " + lastEpochDay + "]");
+        }
+        return firstEpochDay + select((int) target);
+    }
+
+    /**
+     * Counts business days in the half-open range [fromEpochDay, toEpochDay).
+     *
+     * @param fromEpochDay first day counted, within the compiled range
+     * @param toEpochDay first day not counted, at most lastEpochDay + 1
+     * @return number of business days, negative if toEpochDay precedes fromEpochDay
+     */
+    public int countBusinessDays(int fromEpochDay, int toEpochDay) {
+        return rank(endIndex(toEpochDay)) - rank(endIndex(fromEpochDay));
+    }
+
+    /**
+     * Counts business days for many half-open ranges at once; out[i] receives the count of [from[i], to[i]).
+     *
+     * @param from first day counted, one per range
+     * @param to first day not counted, one per range
+     * @param out output counts, at least as long as from
+     */
+    public void countBusinessDays(int[] from, int[] to, int[] out) {
+        if (to.length < from.length || out.length < from.length) {
+            throw new IllegalArgumentException("to and out must hold at least " + from.length + " elements");
+        }
+        for (int i = 0; i < from.length; i++) {
+            out[i] = countBusinessDays(from[i], to[i]);
+        }
+    }
+
+    /**
+     * @param epochDay day to check, within the compiled range
+     * @return true if epochDay is a business day closing early
+     */
+    public boolean isPartialDay(int epochDay) {
+        return partialIndexes.length > 0 && Arrays.binarySearch(partialIndexes, index(epochDay)) >= 0;
+    }
+
+    /**
+     * @param epochDay day to check, within the compiled range
+     * @return the closing second of day of epochDay: 0 if it is not a business day, SECONDS_PER_DAY if it does not
+     * close early
+     */
+    public int closingSecondOfDay(int epochDay) {
+        if (!isBusinessDay(epochDay)) {
+            return 0;
+        }
+        int k = partialIndexes.length == 0 ? -1 : Arrays.binarySearch(partialIndexes, index(epochDay));
+        return k < 0 ? SECONDS_PER_DAY : closingSeconds[k];
+    }
+
+    /**
+     * Measures the business time between two instants, in seconds. Each business day counts from midnight to its
+     * closing second, so a full business day counts SECONDS_PER_DAY and a day closing at noon counts half of it.
+     *
+     * @param fromEpochDay day of the first instant, within the compiled range
+     * @param fromSecondOfDay second of day of the first instant, between 0 and SECONDS_PER_DAY
+     * @param toEpochDay day of the second instant, at most lastEpochDay + 1
+     * @param toSecondOfDay second of day of the second instant, between 0 and SECONDS_PER_DAY
+     * @return business seconds, negative if the second instant precedes the first one
+     */
+    public long businessSeconds(int fromEpochDay, int fromSecondOfDay, int toEpochDay, int toSecondOfDay) {
+        return elapsedSeconds(toEpochDay, toSecondOfDay) - elapsedSeconds(fromEpochDay, fromSecondOfDay);
+    }
+
+    /**
+     * @return number of business days closing early in the compiled range
+     */
+    public int partialDays() {
+        return partialIndexes.length;
+    }
+
+    /**
+     * @return total number of business days in the compiled range
+     */
+    public int size() {
+        return ranks[words.length];
+    }
+
+    /**
+     * @return first epoch day covered
+     */
+    public int getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * @return last epoch day covered, inclusive
+     */
+    public int getLastEpochDay() {
+        return lastEpochDay;
+    }
+
+    /**
+     * @param epochDay day to check
+     * @return true if epochDay is inside the compiled range
+     */
+    public boolean covers(int epochDay) {
+        return epochDay >= firstEpochDay && epochDay <= lastEpochDay;
+    }
+
+    //-----------------------------------------------------------------------
+    // INDEX METHODS
+
+    /**
+     * Number of business days in the first i days of the bitmap.
+     */
+    int rank(int i) {
+        int w = i >>> 6;
+        return ranks[w] + Long.bitCount(words[w] & ((1L << i) - 1));
+    }
+
+    /**
+     * Bit index of the k-th business day, counting from zero.
+     */
+    int select(int k) {
+        int lo = 0;
+        int hi = words.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (ranks[mid] <= k) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        long word = words[lo];
+        for (int r = k - ranks[lo]; r > 0; r--) {
+            word &= word - 1;
+        }
+        return (lo << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * The 64 bits starting at bit index i, which need not be word aligned; bits past the bitmap read as zero.
+     */
+    long bitsFrom(int i) {
+        int w = i >>> 6;
+        int shift = i & 63;
+        long low = w < words.length ? words[w] >>> shift : 0L;
+        if (shift == 0 || w + 1 >= words.length) {
+            return low;
+        }
+        return low | words[w + 1] << (64 - shift);
+    }
+
+    /**
+     * Bit index of an epoch day inside the compiled range.
+     */
+    int index(int epochDay) {
+        if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+            throw new IllegalArgumentException("Epoch day " + epochDay + " is outside the compiled range ["
+                    + firstEpochDay + ", " + lastEpochDay + "]");
+        }
+        return epochDay - firstEpochDay;
+    }
+
+    /**
+     * Business seconds from the start of the compiled range to an instant, which may be midnight of the day past
+     * the range.
+     */
+    private long elapsedSeconds(int epochDay, int secondOfDay) {
+        if (secondOfDay < 0 || secondOfDay > SECONDS_PER_DAY) {
+            throw new IllegalArgumentException("Second of day must be between 0 and " + SECONDS_PER_DAY
+                    + ", but was " + secondOfDay);
+        }
+        int i = endIndex(epochDay);
+        int k = lowerBound(partialIndexes, i);
+        long elapsed = (long) rank(i) * SECONDS_PER_DAY - lostSeconds[k];
+        if (i < lastEpochDay - firstEpochDay + 1 && (words[i >>> 6] & (1L << i)) != 0) {
+            int closingSecond = k < partialIndexes.length && partialIndexes[k] == i
+                    ? closingSeconds[k]
+                    : SECONDS_PER_DAY;
+            elapsed += Math.min(secondOfDay, closingSecond);
+        } else if (secondOfDay > 0 && i == lastEpochDay - firstEpochDay + 1) {
+            throw new IllegalArgumentException("Epoch day " + epochDay + " is outside the compiled range ["
+                    + firstEpochDay + ", " + lastEpochDay + "]");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Index of the first element of a sorted array not less than value.
+     */
+    private static int lowerBound(int[] sorted, int value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int[] trim(int[] array, int length) {
+        if (length == 0) {
+            return NO_PARTIAL_DAYS;
+        }
+        return length == array.length ? array : Arrays.copyOf(array, length);
+    }
+
+    /**
+     * Bit index of an exclusive range bound, which may sit one day past the compiled range.
+     */
+    private int endIndex(int epochDay) {
+        return epochDay == lastEpochDay + 1 ? epochDay - firstEpochDay : index(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Outputs the compiled range and the number of business days.
+     *
+     * @return string representing {@code CompiledCalendar}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.calendar.CompiledCalendar{" +
+                "from=" + LocalDate.ofEpochDay(firstEpochDay) +
+                ", to=" + LocalDate.ofEpochDay(lastEpochDay) +
+                ", businessDays=" + size() +
+                ", partialDays=" + partialDays() +
+                '}';
+    }
+}
@@ -0,0 +1,400 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.time.IsoDates;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk loader of holiday files into compiled calendars, one calendar per file.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.HolidayFileLoader} reads CSV files holding one holiday per row, as a
+ * {@code yyyy-MM-dd} date in the first column; blank rows and rows not starting with a digit, such as headers and
+ * comments, are skipped, and the other columns are ignored. Each file is memory-mapped with {@code FileChannel.map}
+ * and its dates are read in place, then cleared from a copy of the bitmap of a base calendar: no
+ * {@code LocalDate}, {@code Holidays} or per-row object is created. The files are split among the workers of a
+ * fork/join pool, and the time spent on each of them is reported.
+ * <p>
+ *
+ * The base calendar gives the range of the compiled calendars and the rules they share, such as weekends; holidays
+ * outside its range are counted but not compiled.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class HolidayFileLoader {
+
+    /**
+     * Calendar the holidays of each file are cleared from.
+     */
+    private final CompiledCalendar base;
+
+    /**
+     * Pool running the loads.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Private constructor
+     */
+    private HolidayFileLoader(CompiledCalendar base, ForkJoinPool pool) {
+        this.base = base;
+        this.pool = pool;
+    }
+
+    //-----------------------------------------------------------------------
+    // LOAD METHODS
+
+    /**
+     * Loads every file of a directory matching a glob, such as {@code "*.csv"}, in file name order.
+     *
+     * @param directory the directory, not null
+     * @param glob pattern of the file names, not null
+     * @return the calendars and the statistics of each file
+     * @throws IOException if the directory or a file cannot be read, or a file holds an invalid date
+     */
+    public Result load(Path directory, String glob) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        return load(files);
+    }
+
+    /**
+     * Loads the given files; each calendar is named after its file, without extension.
+     *
+     * @param files the files, not null
+     * @return the calendars and the statistics of each file, in the order of files
+     * @throws IOException if a file cannot be read or holds an invalid date
+     */
+    public Result load(List<Path> files) throws IOException {
+        assert Objects.nonNull(files) : "files must be non null";
+        Path[] paths = files.toArray(new Path[0]);
+        CompiledCalendar[] calendars = new CompiledCalendar[paths.length];
+        FileStatistics[] statistics = new FileStatistics[paths.length];
+
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new LoadFiles(paths, calendars, statistics, 0, paths.length));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, CompiledCalendar> byName = new LinkedHashMap<>();
+        for (int i = 0; i < paths.length; i++) {
+            byName.put(statistics[i].getName(), calendars[i]);
+        }
+        return new Result(byName, Arrays.asList(statistics), elapsed);
+    }
+
+    /**
+     * Loads one file.
+     *
+     * @param file the file, not null
+     * @param statistics receives the statistics of the file at index
+     * @param index index of the file
+     * @return compiled calendar of the file
+     * @throws IOException if the file cannot be read or holds an invalid date
+     */
+    private CompiledCalendar load(Path file, FileStatistics[] statistics, int index) throws IOException {
+        long start = System.nanoTime();
+        long[] words = base.words.clone();
+        int first = base.firstEpochDay;
+        int last = base.lastEpochDay;
+        int rows = 0;
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int limit = (int) size;
+            int line = 1;
+            for (int i = 0; i < limit; line++) {
+                byte b = buffer.get(i);
+                if (b >= '0' && b <= '9') {
+                    int epochDay;
+                    try {
+                        epochDay = IsoDates.parseEpochDay(buffer, i);
+                    } catch (DateTimeParseException e) {
+                        throw new IOException(file + ":" + line + ": " + e.getMessage(), e);
+                    }
+                    int end = i + IsoDates.LENGTH;
+                    if (end < limit && !isSeparator(buffer.get(end))) {
+                        throw new IOException(file + ":" + line + ": expected a separator at index " + end);
+                    }
+                    if (epochDay >= first && epochDay <= last) {
+                        int bit = epochDay - first;
+                        words[bit >>> 6] &= ~(1L << bit);
+                    }
+                    rows++;
+                }
+                while (i < limit && buffer.get(i) != '\n') {
+                    i++;
+                }
+                i++;
+            }
+        }
+        CompiledCalendar calendar = base.withWords(words);
+        statistics[index] = new FileStatistics(file, rows, size, System.nanoTime() - start);
+        return calendar;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ';' || b == '\t' || b == ' ' || b == '\r' || b == '\n';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Loads a range of files, splitting it in halves down to one file per task.
+     */
+    private final class LoadFiles extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Path[] files;
+
+        private final CompiledCalendar[] calendars;
+
+        private final FileStatistics[] statistics;
+
+        private final int from;
+
+        private final int to;
+
+        LoadFiles(Path[] files, CompiledCalendar[] calendars, FileStatistics[] statistics, int from, int to) {
+            this.files = files;
+            this.calendars = calendars;
+            this.statistics = statistics;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LoadFiles(files, calendars, statistics, from, mid),
+                        new LoadFiles(files, calendars, statistics, mid, to));
+                return;
+            }
+            if (to == from) {
+                return;
+            }
+            try {
+                calendars[from] = load(files[from], statistics, from);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * The calendars loaded and the statistics of each file.
+     */
+    public static final class Result {
+
+        private final Map<String, CompiledCalendar> calendars;
+
+        private final List<FileStatistics> statistics;
+
+        private final long elapsedNanos;
+
+        private Result(Map<String, CompiledCalendar> calendars, List<FileStatistics> statistics, long elapsedNanos) {
+            this.calendars = Collections.unmodifiableMap(calendars);
+            this.statistics = Collections.unmodifiableList(statistics);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return the calendars by file name without extension, in the order of the files
+         */
+        public Map<String, CompiledCalendar> getCalendars() {
+            return calendars;
+        }
+
+        /**
+         * @param name file name without extension
+         * @return calendar of the file, null if no file has that name
+         */
+        public CompiledCalendar getCalendar(String name) {
+            return calendars.get(name);
+        }
+
+        /**
+         * @return statistics of each file, in the order of the files
+         */
+        public List<FileStatistics> getStatistics() {
+            return statistics;
+        }
+
+        /**
+         * @return wall-clock time of the whole load, in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "app.pickmaven.businessdays.calendar.HolidayFileLoader.Result{" +
+                    "files=" + calendars.size() +
+                    ", elapsedMillis=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) +
+                    '}';
+        }
+    }
+
+    /**
+     * Rows, size and load time of one file.
+     */
+    public static final class FileStatistics {
+
+        private final Path file;
+
+        private final int rows;
+
+        private final long bytes;
+
+        private final long nanos;
+
+        private FileStatistics(Path file, int rows, long bytes, long nanos) {
+            this.file = file;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return the file
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * @return file name without extension
+         */
+        public String getName() {
+            String name = file.getFileName().toString();
+            int dot = name.lastIndexOf('.');
+            return dot > 0 ? name.substring(0, dot) : name;
+        }
+
+        /**
+         * @return number of holidays read, including those outside the range of the base calendar
+         */
+        public int getRows() {
+            return rows;
+        }
+
+        /**
+         * @return size of the file in bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return time spent mapping, parsing and compiling the file, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return "app.pickmaven.businessdays.calendar.HolidayFileLoader.FileStatistics{" +
+                    "file=" + file +
+                    ", rows=" + rows +
+                    ", bytes=" + bytes +
+                    ", micros=" + TimeUnit.NANOSECONDS.toMicros(nanos) +
+                    '}';
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Builder of {@code HolidayFileLoader}.
+     */
+    public static final class Builder {
+
+        private CompiledCalendar base;
+
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        /**
+         * Private constructor
+         */
+        private Builder() { }
+
+        /**
+         * @return a new builder
+         */
+        public static Builder aHolidayFileLoader() {
+            return new Builder();
+        }
+
+        /**
+         * Sets the calendar the holidays of each file are cleared from, such as the compiled calendar of a
+         * {@code app.pickmaven.businessdays.BusinessDay} without holidays.
+         *
+         * @param base the base calendar, not null
+         * @return this
+         */
+        public Builder withBaseCalendar(CompiledCalendar base) {
+            assert Objects.nonNull(base) : "base calendar must be non null";
+            this.base = base;
+            return this;
+        }
+
+        /**
+         * Sets the pool running the loads; default the common pool.
+         *
+         * @param pool the pool, not null
+         * @return this
+         */
+        public Builder withPool(ForkJoinPool pool) {
+            assert Objects.nonNull(pool) : "pool must be non null";
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * @return the loader
+         */
+        public HolidayFileLoader build() {
+            if (base == null) {
+                throw new IllegalStateException("A base calendar is needed, see withBaseCalendar(CompiledCalendar)");
+            }
+            return new HolidayFileLoader(base, pool);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package app.pickmaven.businessdays.calendar;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A handle on the current version of a named compiled calendar, refreshed in the background.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.ManagedCalendar} holds a
+ * {@code app.pickmaven.businessdays.calendar.CompiledCalendar} in an atomic reference. {@code refresh()} builds the
+ * next version on an executor, typically fetching holidays from a {@code HolidaySearcher} such as
+ * {@code PublicHolidayAPI} and compiling them, then publishes it with one reference swap. Readers call
+ * {@code get()} for each query or batch of queries: they never lock, a query started on a version finishes on it,
+ * and a version no longer referenced by the handle or by a reader is reclaimed by the garbage collector.
+ * <p>
+ *
+ * Refreshes requested while one is running join it rather than starting another build. After each swap the
+ * listeners are told the days that changed, and the version is recorded in a
+ * {@code app.pickmaven.businessdays.calendar.CalendarHistory} when one is set, before the swap; a failed build or
+ * record leaves the current version in place.
+ *
+ * This class is thread-safe.
+ *
+ */
+public final class ManagedCalendar {
+
+    private final String name;
+
+    private final Callable<CompiledCalendar> source;
+
+    private final Executor executor;
+
+    private final CalendarHistory history;
+
+    private final Clock clock;
+
+    /**
+     * The published version.
+     */
+    private final AtomicReference<CompiledCalendar> current;
+
+    /**
+     * The refresh running, null if none.
+     */
+    private final AtomicReference<CompletableFuture<CompiledCalendar>> pending = new AtomicReference<>();
+
+    /**
+     * Lock ordering the swaps, so that listeners and history see the versions in the order they were published.
+     */
+    private final Object publishLock = new Object();
+
+    private final List<CalendarListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Instant of the last version recorded in the history, guarded by publishLock.
+     */
+    private Instant lastRecorded;
+
+    /**
+     * Private constructor
+     */
+    private ManagedCalendar(String name, Callable<CompiledCalendar> source, Executor executor, CalendarHistory history,
+                            Clock clock, CompiledCalendar initial) {
+        this.name = name;
+        this.source = source;
+        this.executor = executor;
+        this.history = history;
+        this.clock = clock;
+        this.current = new AtomicReference<>(initial);
+        if (history != null) {
+            record(initial);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @return the version published last
+     */
+    public CompiledCalendar get() {
+        return current.get();
+    }
+
+    /**
+     * @return name the calendar is published under
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true if a refresh is running
+     */
+    public boolean isRefreshing() {
+        return pending.get() != null;
+    }
+
+    //-----------------------------------------------------------------------
+    // UPDATE METHODS
+
+    /**
+     * Builds the next version on the executor and publishes it, unless a refresh is already running, in which case
+     * its future is returned.
+     *
+     * @return future completed with the published version, or with the failure of the build
+     */
+    public CompletableFuture<CompiledCalendar> refresh() {
+        while (true) {
+            CompletableFuture<CompiledCalendar> running = pending.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<CompiledCalendar> future = new CompletableFuture<>();
+            if (!pending.compareAndSet(null, future)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> build(future));
+            } catch (RejectedExecutionException e) {
+                pending.compareAndSet(future, null);
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Builds the next version, publishes it and completes the future of the refresh.
+     */
+    private void build(CompletableFuture<CompiledCalendar> future) {
+        try {
+            CompiledCalendar next = Objects.requireNonNull(source.call(), "source returned null");
+            publish(next);
+            pending.compareAndSet(future, null);
+            future.complete(next);
+        } catch (Throwable e) {
+            pending.compareAndSet(future, null);
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Publishes a version built elsewhere, replacing the current one.
+     *
+     * @param calendar the version, not null
+     */
+    public void publish(CompiledCalendar calendar) {
+        Objects.requireNonNull(calendar);
+        synchronized (publishLock) {
+            if (history != null) {
+                record(calendar);
+            }
+            CompiledCalendar previous = current.getAndSet(calendar);
+            if (!listeners.isEmpty() && previous != calendar) {
+                CalendarChangeEvent event = CalendarChangeEvent.of(name, previous, calendar);
+                for (CalendarListener listener : listeners) {
+                    listener.calendarChanged(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a version at the instant of the clock, or a nanosecond after the last version when the clock has not
+     * moved past it, as with two versions published within one tick of the clock.
+     */
+    private void record(CompiledCalendar calendar) {
+        Instant now = clock.instant();
+        Instant validFrom = lastRecorded == null || now.isAfter(lastRecorded) ? now : lastRecorded.plusNanos(1);
+        history.record(validFrom, calendar);
+        lastRecorded = validFrom;
+    }
+
+    /**
+     * Adds a listener told of each later swap.
+     *
+     * @param listener the listener, not null
+     * @return this
+     */
+    public ManagedCalendar addListener(CalendarListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * @param listener the listener to remove
+     * @return true if listener was listening to this object
+     */
+    public boolean removeListener(CalendarListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Outputs the name and the version published last.
+     *
+     * @return string representing {@code ManagedCalendar}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.calendar.ManagedCalendar{" +
+                "name=" + name +
+                ", current=" + current.get() +
+                ", refreshing=" + isRefreshing() +
+                '}';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Builder of {@code ManagedCalendar}.
+     */
+    public static final class Builder {
+
+        private String name = "";
+
+        private Callable<CompiledCalendar> source;
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private CalendarHistory history;
+
+        private Clock clock = Clock.systemUTC();
+
+        private CompiledCalendar initial;
+
+        /**
+         * Private constructor
+         */
+        private Builder() { }
+
+        /**
+         * @return a new builder
+         */
+        public static Builder aManagedCalendar() {
+            return new Builder();
+        }
+
+        /**
+         * @param name name the calendar is published under, carried by the change events, not null
+         * @return this
+         */
+        public Builder named(String name) {
+            assert Objects.nonNull(name) : "name must be non null";
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the builder of each version, such as
+         * {@code () -> BusinessDay.Builder.aBusinessDay().givenHolidays(new Holidays(searcher.searchHolidaysFor("IT")))
+         * .build().compile(from, to)}.
+         *
+         * @param source builder of a version, called on the executor, not null
+         * @return this
+         */
+        public Builder withSource(Callable<CompiledCalendar> source) {
+            assert Objects.nonNull(source) : "source must be non null";
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the builds; default the common pool.
+         *
+         * @param executor the executor, not null
+         * @return this
+         */
+        public Builder withExecutor(Executor executor) {
+            assert Objects.nonNull(executor) : "executor must be non null";
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets a history recording each version published, with the instant of the clock it was published at; a version
+         * published before the clock moves past the previous one is recorded a nanosecond after it.
+         *
+         * @param history the history, not null
+         * @return this
+         */
+        public Builder withHistory(CalendarHistory history) {
+            assert Objects.nonNull(history) : "history must be non null";
+            this.history = history;
+            return this;
+        }
+
+        /**
+         * Sets the clock giving the instant of each version recorded in the history; default UTC system clock.
+         *
+         * @param clock the clock, not null
+         * @return this
+         */
+        public Builder withClock(Clock clock) {
+            assert Objects.nonNull(clock) : "clock must be non null";
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Sets the version published until the first refresh; by default the source is called by {@code build()}.
+         *
+         * @param calendar the first version, not null
+         * @return this
+         */
+        public Builder withInitialCalendar(CompiledCalendar calendar) {
+            assert Objects.nonNull(calendar) : "initial calendar must be non null";
+            this.initial = calendar;
+            return this;
+        }
+
+        /**
+         * @return the handle
+         * @throws IllegalStateException if no source is set, or the source fails to build the first version
+         */
+        public ManagedCalendar build() {
+            if (source == null) {
+                throw new IllegalStateException("A source is needed, see withSource(Callable)");
+            }
+            CompiledCalendar first = initial;
+            if (first == null) {
+                try {
+                    first = Objects.requireNonNull(source.call(), "source returned null");
+                } catch (Exception e) {
+                    throw new IllegalStateException("Cannot build the first version of calendar " + name, e);
+                }
+            }
+            return new ManagedCalendar(name, source, executor, history, clock, first);
+        }
+    }
+}
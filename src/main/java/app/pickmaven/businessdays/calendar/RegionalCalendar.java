@@ -0,0 +1,489 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.Holidays;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A calendar of a region, such as a country, a state or a city, stored as a sparse delta over the compiled calendar
+ * of the root of its hierarchy.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.calendar.RegionalCalendar} keeps only the 64-day words where it differs from
+ * the root bitmap, each as a mask of the days whose business state it flips, so that a city adding one patron saint
+ * day to its national calendar costs one word, however long the range. The deltas of the ancestors are folded into
+ * the delta of each calendar when it is built: a query never walks the hierarchy, and resolves a word with one
+ * binary search over the delta and one {@code xor} with the root word.
+ * <p>
+ *
+ * A running count of the business days gained or lost by the delta before each of its words is kept beside it, so
+ * that counting business days over a range stays a constant number of rank lookups.
+ *
+ * The early closes of the root are not part of the delta; {@code compile()} keeps those falling on the days that
+ * stay business days.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class RegionalCalendar {
+
+    private static final int[] NO_WORDS = new int[0];
+
+    private static final long[] NO_FLIPS = new long[0];
+
+    /**
+     * Name of the region, such as an ISO 3166 code.
+     */
+    private final String name;
+
+    /**
+     * Parent region, null for the root.
+     */
+    private final RegionalCalendar parent;
+
+    /**
+     * Compiled calendar of the root, shared by the whole hierarchy.
+     */
+    private final CompiledCalendar root;
+
+    /**
+     * Sorted indexes of the root words this calendar differs from.
+     */
+    private final int[] wordIndexes;
+
+    /**
+     * flips[k] has a bit set for each day of word wordIndexes[k] whose business state differs from the root.
+     */
+    private final long[] flips;
+
+    /**
+     * rankDeltas[k] is the number of business days gained, negative if lost, in the first k words of the delta; it
+     * has wordIndexes.length + 1 entries.
+     */
+    private final int[] rankDeltas;
+
+    /**
+     * Private constructor; the arrays are owned by the new calendar.
+     */
+    private RegionalCalendar(String name, RegionalCalendar parent, CompiledCalendar root, int[] wordIndexes,
+                             long[] flips) {
+        this.name = name;
+        this.parent = parent;
+        this.root = root;
+        this.wordIndexes = wordIndexes;
+        this.flips = flips;
+        this.rankDeltas = new int[wordIndexes.length + 1];
+        for (int k = 0; k < wordIndexes.length; k++) {
+            long word = root.words[wordIndexes[k]];
+            rankDeltas[k + 1] = rankDeltas[k] + Long.bitCount(word ^ flips[k]) - Long.bitCount(word);
+        }
+    }
+
+    /**
+     * @param name name of the region, not null
+     * @param calendar compiled calendar of the region, shared by its descendants, not null
+     * @return the root of a hierarchy
+     */
+    public static RegionalCalendar of(String name, CompiledCalendar calendar) {
+        assert Objects.nonNull(name) : "name must be non null";
+        assert Objects.nonNull(calendar) : "app.pickmaven.businessdays.calendar.CompiledCalendar must be non null";
+        return new RegionalCalendar(name, null, calendar, NO_WORDS, NO_FLIPS);
+    }
+
+    /**
+     * Stores a calendar as its difference from another one over the same range.
+     *
+     * @param name name of the calendar
+     * @param root calendar shared with other deltas
+     * @param calendar calendar to store, over the range of root
+     * @return the calendar as a delta over root
+     */
+    static RegionalCalendar ofDifference(String name, CompiledCalendar root, CompiledCalendar calendar) {
+        if (root.firstEpochDay != calendar.firstEpochDay || root.lastEpochDay != calendar.lastEpochDay) {
+            throw new IllegalArgumentException("Calendars over different ranges: " + root + ", " + calendar);
+        }
+        int n = 0;
+        for (int w = 0; w < root.words.length; w++) {
+            if (root.words[w] != calendar.words[w]) {
+                n++;
+            }
+        }
+        if (n == 0) {
+            return new RegionalCalendar(name, null, root, NO_WORDS, NO_FLIPS);
+        }
+        int[] wordIndexes = new int[n];
+        long[] flips = new long[n];
+        n = 0;
+        for (int w = 0; w < root.words.length; w++) {
+            long flip = root.words[w] ^ calendar.words[w];
+            if (flip != 0) {
+                wordIndexes[n] = w;
+                flips[n++] = flip;
+            }
+        }
+        return new RegionalCalendar(name, null, root, wordIndexes, flips);
+    }
+
+    /**
+     * @param name name of the sub-region, not null
+     * @return a builder of a calendar inheriting the days of this one
+     */
+    public Builder child(String name) {
+        assert Objects.nonNull(name) : "name must be non null";
+        return new Builder(this, name);
+    }
+
+    //-----------------------------------------------------------------------
+    // QUERY METHODS
+
+    /**
+     * @param epochDay day to check, within the range of the root
+     * @return true if epochDay is a business day
+     */
+    public boolean isBusinessDay(int epochDay) {
+        int i = root.index(epochDay);
+        return (word(i >>> 6) & (1L << i)) != 0;
+    }
+
+    /**
+     * @param date day to check, within the range of the root, not null
+     * @return true if date is a business day
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        assert Objects.nonNull(date) : "date must be non null";
+        return isBusinessDay(Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * Moves from a day by a number of business days, with the rule of
+     * {@code CompiledCalendar.addBusinessDays(int, int)}.
+     *
+     * @param epochDay starting day, within the range of the root
+     * @param offset number of business days to move
+     * @return the resulting epoch day
+     * @throws IllegalArgumentException if the result falls outside the range of the root
+     */
+    public int addBusinessDays(int epochDay, int offset) {
+        int i = root.index(epochDay);
+        if (offset == 0) {
+            return epochDay;
+        }
+        long target = offset > 0
+                ? (long) rank(i + 1) + offset - 1
+                : (long) rank(i) + offset;
+        if (target < 0 || target >= size()) {
+            throw new IllegalArgumentException("Moving " + offset + " business days from epoch day " + epochDay
+                    + " leaves the compiled range [" + root.firstEpochDay + ", " + root.lastEpochDay + "]");
+        }
+        return root.firstEpochDay + select((int) target);
+    }
+
+    /**
+     * Counts business days in the half-open range [fromEpochDay, toEpochDay).
+     *
+     * @param fromEpochDay first day counted, within the range of the root
+     * @param toEpochDay first day not counted, at most the last day of the root + 1
+     * @return number of business days, negative if toEpochDay precedes fromEpochDay
+     */
+    public int countBusinessDays(int fromEpochDay, int toEpochDay) {
+        return rank(endIndex(toEpochDay)) - rank(endIndex(fromEpochDay));
+    }
+
+    /**
+     * @return total number of business days in the range of the root
+     */
+    public int size() {
+        return root.size() + rankDeltas[wordIndexes.length];
+    }
+
+    /**
+     * Materializes this calendar as a standalone bitmap, for the queries only a
+     * {@code app.pickmaven.businessdays.calendar.CompiledCalendar} answers, such as moving by business days.
+     *
+     * @return compiled calendar of this region
+     */
+    public CompiledCalendar compile() {
+        if (wordIndexes.length == 0) {
+            return root;
+        }
+        long[] words = root.words.clone();
+        for (int k = 0; k < wordIndexes.length; k++) {
+            words[wordIndexes[k]] ^= flips[k];
+        }
+        return root.withWords(words);
+    }
+
+    /**
+     * @return number of 64-day words stored by this calendar in addition to the root
+     */
+    public int deltaWords() {
+        return wordIndexes.length;
+    }
+
+    /**
+     * @return name of the region
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the parent region, null for the root
+     */
+    public RegionalCalendar getParent() {
+        return parent;
+    }
+
+    /**
+     * @return compiled calendar of the root of the hierarchy
+     */
+    public CompiledCalendar getRoot() {
+        return root;
+    }
+
+    /**
+     * @return first epoch day covered
+     */
+    public int getFirstEpochDay() {
+        return root.firstEpochDay;
+    }
+
+    /**
+     * @return last epoch day covered, inclusive
+     */
+    public int getLastEpochDay() {
+        return root.lastEpochDay;
+    }
+
+    /**
+     * @param epochDay day to check
+     * @return true if epochDay is inside the range of the root
+     */
+    public boolean covers(int epochDay) {
+        return root.covers(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    // INDEX METHODS
+
+    /**
+     * The w-th word of this calendar: the root word, flipped where the delta has it.
+     */
+    long word(int w) {
+        int k = deltaIndex(w);
+        long word = root.words[w];
+        return k < wordIndexes.length && wordIndexes[k] == w ? word ^ flips[k] : word;
+    }
+
+    /**
+     * Number of business days in the first i days of the bitmap.
+     */
+    int rank(int i) {
+        int w = i >>> 6;
+        int k = deltaIndex(w);
+        long word = root.words[w];
+        if (k < wordIndexes.length && wordIndexes[k] == w) {
+            word ^= flips[k];
+        }
+        return root.ranks[w] + rankDeltas[k] + Long.bitCount(word & ((1L << i) - 1));
+    }
+
+    /**
+     * Bit index of the k-th business day, counting from zero.
+     */
+    int select(int k) {
+        int lo = 0;
+        int hi = root.words.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (root.ranks[mid] + rankDeltas[deltaIndex(mid)] <= k) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        long word = word(lo);
+        for (int r = k - root.ranks[lo] - rankDeltas[deltaIndex(lo)]; r > 0; r--) {
+            word &= word - 1;
+        }
+        return (lo << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Index of the first delta word not less than w.
+     */
+    private int deltaIndex(int w) {
+        int lo = 0;
+        int hi = wordIndexes.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (wordIndexes[mid] < w) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Bit index of an exclusive range bound, which may sit one day past the range.
+     */
+    private int endIndex(int epochDay) {
+        return epochDay == root.lastEpochDay + 1 ? epochDay - root.firstEpochDay : root.index(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Outputs the path of the region, the number of business days and the size of the delta.
+     *
+     * @return string representing {@code RegionalCalendar}
+     */
+    @Override
+    public String toString() {
+        StringBuilder path = new StringBuilder(name);
+        for (RegionalCalendar region = parent; region != null; region = region.parent) {
+            path.insert(0, '/').insert(0, region.name);
+        }
+        return "app.pickmaven.businessdays.calendar.RegionalCalendar{" +
+                "region=" + path +
+                ", businessDays=" + size() +
+                ", deltaWords=" + wordIndexes.length +
+                '}';
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Builder of a sub-region, collecting the days it closes and opens on top of its parent.
+     */
+    public static final class Builder {
+
+        private final RegionalCalendar parent;
+
+        private final String name;
+
+        /**
+         * Changed days packed as (bit index &lt;&lt; 1 | 1 if opened), in the order given.
+         */
+        private long[] changes = new long[16];
+
+        private int size;
+
+        /**
+         * Private constructor
+         */
+        private Builder(RegionalCalendar parent, String name) {
+            this.parent = parent;
+            this.name = name;
+        }
+
+        /**
+         * Closes days that are business days of the parent, such as a patron saint day; days outside the range of
+         * the root are ignored.
+         *
+         * @param dates days closed, not null
+         * @return this
+         */
+        public Builder closing(LocalDate... dates) {
+            assert Objects.nonNull(dates) : "dates must be non null";
+            for (LocalDate date : dates) {
+                change(Math.toIntExact(date.toEpochDay()), false);
+            }
+            return this;
+        }
+
+        /**
+         * Closes every day of a {@code app.pickmaven.businessdays.Holidays}; days outside the range of the root are
+         * ignored.
+         *
+         * @param holidays days closed, not null
+         * @return this
+         */
+        public Builder closing(Holidays holidays) {
+            assert Objects.nonNull(holidays) : "app.pickmaven.businessdays.Holidays must be non null";
+            for (int epochDay : holidays.toEpochDays()) {
+                change(epochDay, false);
+            }
+            return this;
+        }
+
+        /**
+         * Opens days that are not business days of the parent, such as a national holiday not observed in the
+         * region; days outside the range of the root are ignored.
+         *
+         * @param dates days opened, not null
+         * @return this
+         */
+        public Builder opening(LocalDate... dates) {
+            assert Objects.nonNull(dates) : "dates must be non null";
+            for (LocalDate date : dates) {
+                change(Math.toIntExact(date.toEpochDay()), true);
+            }
+            return this;
+        }
+
+        private void change(int epochDay, boolean open) {
+            if (!parent.root.covers(epochDay)) {
+                return;
+            }
+            if (size == changes.length) {
+                changes = Arrays.copyOf(changes, size * 2);
+            }
+            changes[size++] = (long) (epochDay - parent.root.firstEpochDay) << 1 | (open ? 1 : 0);
+        }
+
+        /**
+         * Folds the delta of the parent and the changes of this builder into one delta over the root; when a day is
+         * both closed and opened, the last change wins.
+         *
+         * @return calendar of the sub-region
+         */
+        public RegionalCalendar build() {
+            // words touched by the parent or by this builder, sorted and distinct
+            int[] touched = new int[parent.wordIndexes.length + size];
+            System.arraycopy(parent.wordIndexes, 0, touched, 0, parent.wordIndexes.length);
+            for (int c = 0; c < size; c++) {
+                touched[parent.wordIndexes.length + c] = (int) (changes[c] >>> 7);
+            }
+            Arrays.sort(touched);
+            int words = 0;
+            for (int w : touched) {
+                if (words == 0 || touched[words - 1] != w) {
+                    touched[words++] = w;
+                }
+            }
+
+            long[] effective = new long[words];
+            for (int k = 0; k < words; k++) {
+                effective[k] = parent.word(touched[k]);
+            }
+            for (int c = 0; c < size; c++) {
+                int i = (int) (changes[c] >>> 1);
+                int k = Arrays.binarySearch(touched, 0, words, i >>> 6);
+                if ((changes[c] & 1) != 0) {
+                    effective[k] |= 1L << i;
+                } else {
+                    effective[k] &= ~(1L << i);
+                }
+            }
+
+            int[] wordIndexes = new int[words];
+            long[] flips = new long[words];
+            int n = 0;
+            for (int k = 0; k < words; k++) {
+                long flip = effective[k] ^ parent.root.words[touched[k]];
+                if (flip != 0) {
+                    wordIndexes[n] = touched[k];
+                    flips[n++] = flip;
+                }
+            }
+            return new RegionalCalendar(name, parent, parent.root,
+                    n == 0 ? NO_WORDS : Arrays.copyOf(wordIndexes, n),
+                    n == 0 ? NO_FLIPS : Arrays.copyOf(flips, n));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package app.pickmaven.businessdays.expression;
+
+import app.pickmaven.businessdays.calendar.BusinessDayConvention;
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Single-use recursive descent parser of business-day expressions.
+ *
+ * <p>
+ * The grammar, keywords being case insensitive:
+ * <pre>
+ *     expression := 'T' [ ('+' | '-') digits unit ] [ convention ] [ 'ON' calendars ]
+ *     unit       := 'BD' | 'CD'
+ *     convention := 'FOLLOWING' | 'F' | 'MODFOLLOWING' | 'MF' | 'PRECEDING' | 'P' | 'MODPRECEDING' | 'MP'
+ *                 | 'UNADJUSTED' | 'NONE'
+ *     calendars  := name { ('\u222a' | '|' | ',') name }
+ * </pre>
+ * Errors are reported as {@code DateTimeParseException} carrying the position of the offending character.
+ * <p>
+ */
+final class DateExpressionParser {
+
+    private final String text;
+
+    private final Function<List<String>, CompiledCalendar> calendars;
+
+    private final String defaultCalendar;
+
+    private int pos;
+
+    /**
+     * @param text expression to parse
+     * @param calendars resolves a list of calendar names to their joint calendar
+     * @param defaultCalendar calendar used when the expression has no 'ON' clause, may be null
+     */
+    DateExpressionParser(String text, Function<List<String>, CompiledCalendar> calendars, String defaultCalendar) {
+        this.text = text;
+        this.calendars = calendars;
+        this.defaultCalendar = defaultCalendar;
+    }
+
+    /**
+     * @return the plan compiled from the whole text
+     */
+    DatePlan parse() {
+        skipSpaces();
+        if (!"T".equals(word())) {
+            throw error("Expression must start with 'T'", 0);
+        }
+
+        int offset = 0;
+        boolean businessDays = false;
+        skipSpaces();
+        if (pos < text.length() && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) {
+            boolean negative = text.charAt(pos++) == '-';
+            skipSpaces();
+            offset = number();
+            offset = negative ? -offset : offset;
+            skipSpaces();
+            int unitPos = pos;
+            String unit = word();
+            if ("BD".equals(unit)) {
+                businessDays = true;
+            } else if (!"CD".equals(unit)) {
+                throw error("Expected 'BD' or 'CD'", unitPos);
+            }
+        }
+
+        BusinessDayConvention convention = BusinessDayConvention.UNADJUSTED;
+        skipSpaces();
+        int wordPos = pos;
+        String word = word();
+        BusinessDayConvention parsed = convention(word);
+        if (parsed != null) {
+            convention = parsed;
+            skipSpaces();
+            wordPos = pos;
+            word = word();
+        }
+
+        List<String> names = new ArrayList<>();
+        if ("ON".equals(word)) {
+            names = calendarNames();
+        } else if (!word.isEmpty()) {
+            throw error("Unexpected '" + word + "'", wordPos);
+        } else if (defaultCalendar != null) {
+            names.add(defaultCalendar);
+        }
+        skipSpaces();
+        if (pos < text.length()) {
+            throw error("Unexpected character '" + text.charAt(pos) + "'", pos);
+        }
+
+        boolean needsCalendar = businessDays || convention != BusinessDayConvention.UNADJUSTED;
+        if (needsCalendar && names.isEmpty()) {
+            throw error("Expression needs a calendar", text.length());
+        }
+        CompiledCalendar calendar = names.isEmpty() ? null : calendars.apply(names);
+        return new DatePlan(text, offset, businessDays, convention, calendar);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Reads the calendar names following 'ON'.
+     */
+    private List<String> calendarNames() {
+        List<String> names = new ArrayList<>();
+        while (true) {
+            skipSpaces();
+            int start = pos;
+            while (pos < text.length() && isNameChar(text.charAt(pos))) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("Expected a calendar name", pos);
+            }
+            names.add(text.substring(start, pos));
+            skipSpaces();
+            if (pos == text.length() || !isSeparator(text.charAt(pos))) {
+                return names;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Reads an upper-cased keyword, empty if none starts at the current position.
+     */
+    private String word() {
+        int start = pos;
+        while (pos < text.length() && Character.isLetter(text.charAt(pos))) {
+            pos++;
+        }
+        return text.substring(start, pos).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads a non-negative int.
+     */
+    private int number() {
+        int start = pos;
+        long value = 0;
+        while (pos < text.length() && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+            value = value * 10 + (text.charAt(pos) - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw error("Offset is too large", pos);
+            }
+            pos++;
+        }
+        if (start == pos) {
+            throw error("Expected a number", pos);
+        }
+        return (int) value;
+    }
+
+    private void skipSpaces() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '\u222a' || c == '|' || c == ',';
+    }
+
+    /**
+     * @return the convention named by word, or null if word is not a convention
+     */
+    private static BusinessDayConvention convention(String word) {
+        switch (word) {
+            case "FOLLOWING":
+            case "F":
+                return BusinessDayConvention.FOLLOWING;
+            case "MODFOLLOWING":
+            case "MF":
+                return BusinessDayConvention.MODIFIED_FOLLOWING;
+            case "PRECEDING":
+            case "P":
+                return BusinessDayConvention.PRECEDING;
+            case "MODPRECEDING":
+            case "MP":
+                return BusinessDayConvention.MODIFIED_PRECEDING;
+            case "UNADJUSTED":
+            case "NONE":
+                return BusinessDayConvention.UNADJUSTED;
+            default:
+                return null;
+        }
+    }
+
+    private DateTimeParseException error(String message, int index) {
+        return new DateTimeParseException(message + " at index " + index + " of '" + text + "'", text, index);
+    }
+}
@@ -0,0 +1,203 @@
+package app.pickmaven.businessdays.expression;
+
+import app.pickmaven.businessdays.calendar.CalendarChangeEvent;
+import app.pickmaven.businessdays.calendar.CalendarListener;
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Compiler and cache of business-day expressions such as {@code "T+2 BD MODFOLLOWING on IT\u222aUS"}.
+ *
+ * <p>
+ * Calendars are registered by name, case insensitive. {@code compile(String)} parses an expression once, binds it to
+ * the joint calendar of the names it refers to and caches the resulting
+ * {@code app.pickmaven.businessdays.expression.DatePlan} by expression text; joint calendars are cached by their set
+ * of names, so expressions over the same calendars share them. Replacing a calendar drops the joint calendars
+ * including it and the plans bound to them, and tells the listeners which days changed; the other plans are kept.
+ * <p>
+ *
+ * Expressions are expected to come from configuration, not from user input: at most
+ * {@code MAX_CACHED_PLANS} plans are cached, and further expressions are compiled again on each call.
+ *
+ * This class is thread-safe. Calendars are expected to be registered while configuring the application; a plan
+ * compiled concurrently with a registration may stay bound to the previous calendar.
+ *
+ */
+public class DateExpressions {
+
+    /**
+     * Registered calendars by upper-cased name.
+     */
+    private final Map<String, CompiledCalendar> calendars = new ConcurrentHashMap<>();
+
+    /**
+     * Joint calendars by sorted, '\u222a'-joined names.
+     */
+    private final Map<String, CompiledCalendar> joints = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of plans cached.
+     */
+    public static final int MAX_CACHED_PLANS = 4096;
+
+    /**
+     * Compiled plans by expression text, at most MAX_CACHED_PLANS.
+     */
+    private final Map<String, DatePlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * Calendar used by expressions without an 'ON' clause; default none.
+     */
+    private volatile String defaultCalendar;
+
+    /**
+     * Listeners of the replacement of a calendar.
+     */
+    private final List<CalendarListener> listeners = new CopyOnWriteArrayList<>();
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Registers a calendar under a name, replacing any calendar with the same name.
+     *
+     * @param name calendar name, not null
+     * @param calendar compiled calendar, not null
+     * @return this
+     */
+    public DateExpressions register(String name, CompiledCalendar calendar) {
+        Objects.requireNonNull(calendar);
+        String key = name.toUpperCase(Locale.ROOT);
+        CompiledCalendar previous = calendars.put(key, calendar);
+        if (previous == null || previous == calendar) {
+            return this;
+        }
+        invalidate(key);
+        CalendarChangeEvent event = CalendarChangeEvent.of(key, previous, calendar);
+        for (CalendarListener listener : listeners) {
+            listener.calendarChanged(event);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a listener told of each later replacement of a registered calendar; the name of the events is upper
+     * cased.
+     *
+     * @param listener the listener, not null
+     * @return this
+     */
+    public DateExpressions addListener(CalendarListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * @param listener the listener to remove
+     * @return true if listener was listening to this object
+     */
+    public boolean removeListener(CalendarListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Sets the calendar used by expressions that do not name one.
+     *
+     * @param name name of a registered calendar, not null
+     * @return this
+     */
+    public DateExpressions withDefaultCalendar(String name) {
+        this.defaultCalendar = name;
+        plans.clear();
+        return this;
+    }
+
+    /**
+     * Returns the plan of an expression, compiling and caching it on first use while fewer than
+     * {@code MAX_CACHED_PLANS} plans are cached.
+     *
+     * @param expression expression text, not null
+     * @return compiled plan
+     * @throws java.time.format.DateTimeParseException if the expression is malformed
+     * @throws IllegalArgumentException if the expression names an unknown calendar
+     */
+    public DatePlan compile(String expression) {
+        DatePlan plan = plans.get(expression);
+        if (plan == null) {
+            plan = new DateExpressionParser(expression, this::joint, defaultCalendar).parse();
+            if (plans.size() < MAX_CACHED_PLANS) {
+                DatePlan previous = plans.putIfAbsent(expression, plan);
+                plan = previous != null ? previous : plan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Compiles, if needed, and evaluates an expression taking date as T.
+     *
+     * @param expression expression text, not null
+     * @param date the anchor date, not null
+     * @return resulting date
+     */
+    public LocalDate evaluate(String expression, LocalDate date) {
+        return compile(expression).evaluate(date);
+    }
+
+    /**
+     * @return number of cached plans
+     */
+    public int cachedPlans() {
+        return plans.size();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Drops the joint calendars including a name and the plans bound to them.
+     */
+    private void invalidate(String name) {
+        Map<CompiledCalendar, Boolean> dropped = new IdentityHashMap<>();
+        joints.entrySet().removeIf(joint -> {
+            if (Arrays.asList(joint.getKey().split("\u222a")).contains(name)) {
+                dropped.put(joint.getValue(), Boolean.TRUE);
+                return true;
+            }
+            return false;
+        });
+        if (!dropped.isEmpty()) {
+            plans.values().removeIf(plan -> plan.getCalendar() != null && dropped.containsKey(plan.getCalendar()));
+        }
+    }
+
+    /**
+     * Resolves the joint calendar of a list of names.
+     */
+    private CompiledCalendar joint(List<String> names) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String name : names) {
+            sorted.add(name.toUpperCase(Locale.ROOT));
+        }
+        return joints.computeIfAbsent(String.join("\u222a", sorted), key -> {
+            CompiledCalendar[] resolved = new CompiledCalendar[sorted.size()];
+            int i = 0;
+            for (String name : sorted) {
+                CompiledCalendar calendar = calendars.get(name);
+                if (calendar == null) {
+                    throw new IllegalArgumentException("Unknown calendar '" + name + "'");
+                }
+                resolved[i++] = calendar;
+            }
+            return CompiledCalendar.joint(resolved);
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package app.pickmaven.businessdays.expression;
+
+import app.pickmaven.businessdays.calendar.BusinessDayConvention;
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+
+import java.time.LocalDate;
+
+/**
+ * A compiled business-day expression bound to its calendar.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.expression.DatePlan} is created by {@code DateExpressions.compile(String)} and
+ * holds everything the expression needs: the offset, its unit, the roll convention and the joint
+ * {@code app.pickmaven.businessdays.calendar.CompiledCalendar} of the named calendars. Evaluating a plan is a
+ * couple of index lookups in the compiled calendar.
+ * <p>
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class DatePlan {
+
+    /**
+     * The source text of the expression.
+     */
+    private final String expression;
+
+    /**
+     * Number of days to move from the anchor date.
+     */
+    private final int offset;
+
+    /**
+     * True if offset counts business days, false if it counts calendar days.
+     */
+    private final boolean businessDays;
+
+    /**
+     * Convention applied after moving.
+     */
+    private final BusinessDayConvention convention;
+
+    /**
+     * The joint calendar of the expression; null only for unadjusted calendar-day expressions without calendars.
+     */
+    private final CompiledCalendar calendar;
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Package-private constructor used by the parser.
+     */
+    DatePlan(String expression, int offset, boolean businessDays, BusinessDayConvention convention, CompiledCalendar calendar) {
+        this.expression = expression;
+        this.offset = offset;
+        this.businessDays = businessDays;
+        this.convention = convention;
+        this.calendar = calendar;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Evaluates the expression taking epochDay as T.
+     *
+     * @param epochDay the anchor day
+     * @return resulting epoch day
+     */
+    public int evaluate(int epochDay) {
+        int day = businessDays ? calendar.addBusinessDays(epochDay, offset) : Math.addExact(epochDay, offset);
+        return convention == BusinessDayConvention.UNADJUSTED ? day : convention.adjust(calendar, day);
+    }
+
+    /**
+     * Evaluates the expression taking date as T.
+     *
+     * @param date the anchor date, not null
+     * @return resulting date
+     */
+    public LocalDate evaluate(LocalDate date) {
+        assert date != null : "date must not be null";
+        return LocalDate.ofEpochDay(evaluate(Math.toIntExact(date.toEpochDay())));
+    }
+
+    /**
+     * @return the source text of the expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return number of days to move from T
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return true if the offset counts business days
+     */
+    public boolean isBusinessDays() {
+        return businessDays;
+    }
+
+    /**
+     * @return roll convention
+     */
+    public BusinessDayConvention getConvention() {
+        return convention;
+    }
+
+    /**
+     * @return the joint calendar, or null if the expression does not use any
+     */
+    public CompiledCalendar getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * Outputs the source expression.
+     *
+     * @return string representing {@code DatePlan}
+     */
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.expression.DatePlan{" +
+                "expression='" + expression + '\'' +
+                ", offset=" + offset +
+                ", businessDays=" + businessDays +
+                ", convention=" + convention +
+                '}';
+    }
+}
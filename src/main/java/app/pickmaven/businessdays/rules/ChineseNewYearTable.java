@@ -0,0 +1,52 @@
+package app.pickmaven.businessdays.rules;
+
+import app.pickmaven.businessdays.time.IsoDates;
+
+/**
+ * Precomputed dates of the Chinese New Year, from 1900 to 2100.
+ *
+ * <p>
+ * The new year falls between January 21st and February 20th; the table stores, for each year, the days from
+ * January 21st as one character, 'A' to 'Z' for 0 to 25 and 'a' to 'e' for 26 to 30. The dates were computed from
+ * the astronomical new moons and winter solstices at UTC+8, placing the new year on the second new moon after the
+ * winter solstice, or the third when a leap month follows the eleventh month, as in 2033.
+ * <p>
+ *
+ */
+final class ChineseNewYearTable {
+
+    static final int FIRST_YEAR = 1900;
+
+    static final int LAST_YEAR = 2100;
+
+    private static final String OFFSETS =
+            "KdSIaOEXMBUJcQFYOCVL" // 1900-1919
+            + "eSHaPDXMCUJbQFYODVKd" // 1920-1939
+            + "SGZPEXMBUIbQGYNDWKcS" // 1940-1959
+            + "HZPEXMATJbQGZNCVKcRH" // 1960-1979
+            + "aPEXMeTIbQGZOCUKdRHa" // 1980-1999
+            + "PDWLBTIcRFYNCUKdSHaP" // 2000-2019
+            + "EWLBUIbQFXNCVKdSHZOD" // 2020-2039
+            + "WLBUJbQFYMCVLdSHZODW" // 2040-2059
+            + "MATIbPFYNCVKdRGZPDWM" // 2060-2079
+            + "BTIbQFYNDUJcRGZPEWLA" // 2080-2099
+            + "T"; // 2100
+
+    /**
+     * Private constructor
+     */
+    private ChineseNewYearTable() { }
+
+    /**
+     * @param year the Gregorian year
+     * @return epoch day of the Chinese New Year in year, or {@code HolidayRule.NONE} outside the table
+     */
+    static int epochDayIn(int year) {
+        if (year < FIRST_YEAR || year > LAST_YEAR) {
+            return HolidayRule.NONE;
+        }
+        char c = OFFSETS.charAt(year - FIRST_YEAR);
+        int offset = c >= 'a' ? c - 'a' + 26 : c - 'A';
+        return IsoDates.toEpochDay(year, 1, 21) + offset;
+    }
+}
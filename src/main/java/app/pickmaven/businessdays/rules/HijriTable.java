@@ -0,0 +1,114 @@
+package app.pickmaven.businessdays.rules;
+
+import app.pickmaven.businessdays.time.IsoDates;
+
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.temporal.ChronoField;
+
+/**
+ * Precomputed starts of the months of the Hijri calendar, for the years supported by {@code HijrahChronology}.
+ *
+ * <p>
+ * The table is built once, when the class is first used, from the Umm al-Qura data shipped with the JDK, and holds
+ * the epoch day of the first day of every month together with the Hijri year in progress on January 1st of every
+ * Gregorian year covered. Finding the dates of a Hijri day in a Gregorian year then takes at most three lookups;
+ * no chronology conversion happens after initialization.
+ * <p>
+ *
+ */
+final class HijriTable {
+
+    /**
+     * First and last Hijri years of the table.
+     */
+    static final int MIN_YEAR;
+
+    static final int MAX_YEAR;
+
+    /**
+     * First and last Gregorian years entirely covered by the table.
+     */
+    static final int FIRST_GREGORIAN_YEAR;
+
+    static final int LAST_GREGORIAN_YEAR;
+
+    /**
+     * Epoch days of the first day of each month, 12 per Hijri year, followed by the day after the last month.
+     */
+    private static final int[] MONTH_STARTS;
+
+    /**
+     * Hijri year in progress on January 1st, by Gregorian year.
+     */
+    private static final int[] YEAR_ON_JANUARY_1;
+
+    static {
+        HijrahChronology chronology = HijrahChronology.INSTANCE;
+        MIN_YEAR = (int) chronology.range(ChronoField.YEAR).getMinimum();
+        MAX_YEAR = (int) chronology.range(ChronoField.YEAR).getMaximum();
+
+        int[] starts = new int[(MAX_YEAR - MIN_YEAR + 1) * 12 + 1];
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                starts[(year - MIN_YEAR) * 12 + month - 1] = (int) HijrahDate.of(year, month, 1).toEpochDay();
+            }
+        }
+        HijrahDate last = HijrahDate.of(MAX_YEAR, 12, 1);
+        starts[starts.length - 1] = (int) last.toEpochDay() + last.lengthOfMonth();
+        MONTH_STARTS = starts;
+
+        int first = starts[0];
+        int end = starts[starts.length - 1];
+        FIRST_GREGORIAN_YEAR = IsoDates.yearOf(first - 1) + 1;
+        LAST_GREGORIAN_YEAR = IsoDates.yearOf(end) - 1;
+
+        int[] years = new int[LAST_GREGORIAN_YEAR - FIRST_GREGORIAN_YEAR + 1];
+        int hijriYear = MIN_YEAR;
+        for (int year = FIRST_GREGORIAN_YEAR; year <= LAST_GREGORIAN_YEAR; year++) {
+            int january1 = IsoDates.toEpochDay(year, 1, 1);
+            while (starts[(hijriYear + 1 - MIN_YEAR) * 12] <= january1) {
+                hijriYear++;
+            }
+            years[year - FIRST_GREGORIAN_YEAR] = hijriYear;
+        }
+        YEAR_ON_JANUARY_1 = years;
+    }
+
+    /**
+     * Private constructor
+     */
+    private HijriTable() { }
+
+    /**
+     * Finds the dates of a Hijri month and day within a Gregorian year; there are two in some years.
+     *
+     * @param year the Gregorian year
+     * @param month the Hijri month, from 1 to 12
+     * @param day the Hijri day of month, from 1 to 30; day 30 only exists in months of 30 days
+     * @param out destination, with room for two days from offset
+     * @param offset index of the first day written
+     * @return number of days written
+     */
+    static int epochDaysIn(int year, int month, int day, int[] out, int offset) {
+        if (year < FIRST_GREGORIAN_YEAR || year > LAST_GREGORIAN_YEAR) {
+            return 0;
+        }
+        int first = IsoDates.toEpochDay(year, 1, 1);
+        int last = IsoDates.toEpochDay(year, 12, 31);
+        int n = 0;
+        int hijriYear = YEAR_ON_JANUARY_1[year - FIRST_GREGORIAN_YEAR];
+        for (int y = hijriYear; y <= hijriYear + 2 && y <= MAX_YEAR; y++) {
+            int index = (y - MIN_YEAR) * 12 + month - 1;
+            int start = MONTH_STARTS[index];
+            if (day > MONTH_STARTS[index + 1] - start) {
+                continue;
+            }
+            int epochDay = start + day - 1;
+            if (epochDay >= first && epochDay <= last) {
+                out[offset + n++] = epochDay;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,185 @@
+package app.pickmaven.businessdays.rules;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+
+/**
+ * A recurring holiday, expanded into dates per year: at most one for rules of the Gregorian calendar, and up to
+ * {@code MAX_DATES_PER_YEAR} for lunar calendars, whose years are shorter.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.rules.HolidayRule} implementations are built with the static factories of this
+ * interface and refined with its decorators: {@code observed} moves a date falling on a weekend, and
+ * {@code effective} limits the rule to a period. Decorators apply to the date computed so far, so
+ * {@code rule.effective(from, to).observed(shift)} checks the period against the nominal date and
+ * {@code rule.observed(shift).effective(from, to)} against the observed one.
+ * <p>
+ *
+ * Implementations must be immutable and thread-safe.
+ *
+ */
+public interface HolidayRule {
+
+    /**
+     * Returned by {@code epochDayIn} for years without the holiday.
+     */
+    int NONE = Integer.MIN_VALUE;
+
+    /**
+     * Maximum number of dates of a rule in one year.
+     */
+    int MAX_DATES_PER_YEAR = 2;
+
+    /**
+     * Computes the date of the holiday in a year.
+     *
+     * @param year the year
+     * @return epoch day of the holiday, or {@code NONE}
+     */
+    int epochDayIn(int year);
+
+    /**
+     * Computes the dates of the holiday in a year. Rules with more than one date in some years override this
+     * method, and return the first of them from {@code epochDayIn}.
+     *
+     * @param year the year
+     * @param out destination, with room for {@code MAX_DATES_PER_YEAR} days from offset
+     * @param offset index of the first day written
+     * @return number of days written
+     */
+    default int epochDaysIn(int year, int[] out, int offset) {
+        int epochDay = epochDayIn(year);
+        if (epochDay == NONE) {
+            return 0;
+        }
+        out[offset] = epochDay;
+        return 1;
+    }
+
+    /**
+     * Computes the date of the holiday in a year.
+     *
+     * @param year the year
+     * @return the date of the holiday, or null
+     */
+    default LocalDate dateIn(int year) {
+        int epochDay = epochDayIn(year);
+        return epochDay == NONE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    // DECORATORS
+
+    /**
+     * Moves the date of this rule when it falls on a weekend.
+     *
+     * @param shift the shift to apply, not null
+     * @return the observed rule
+     */
+    default HolidayRule observed(WeekendShift shift) {
+        return HolidayRules.observed(this, shift);
+    }
+
+    /**
+     * Limits this rule to the dates between from and to, both inclusive.
+     *
+     * @param from first date, or null for no lower limit
+     * @param to last date, or null for no upper limit
+     * @return the limited rule
+     */
+    default HolidayRule effective(LocalDate from, LocalDate to) {
+        return HolidayRules.effective(this, from, to);
+    }
+
+    /**
+     * Limits this rule to the dates from from on.
+     *
+     * @param from first date, not null
+     * @return the limited rule
+     */
+    default HolidayRule effectiveFrom(LocalDate from) {
+        return HolidayRules.effective(this, from, null);
+    }
+
+    /**
+     * Limits this rule to the dates until to.
+     *
+     * @param to last date, not null
+     * @return the limited rule
+     */
+    default HolidayRule effectiveTo(LocalDate to) {
+        return HolidayRules.effective(this, null, to);
+    }
+
+    //-----------------------------------------------------------------------
+    // FACTORIES
+
+    /**
+     * A holiday on the same day every year. February 29th only exists in leap years.
+     *
+     * @param month the month, not null
+     * @param dayOfMonth the day of month
+     * @return the rule
+     */
+    static HolidayRule fixed(Month month, int dayOfMonth) {
+        return HolidayRules.fixed(month, dayOfMonth);
+    }
+
+    /**
+     * A holiday on the nth given day of week of a month, such as the fourth Thursday of November.
+     *
+     * @param n the occurrence, from 1 to 5; a fifth occurrence does not exist in every year
+     * @param dayOfWeek the day of week, not null
+     * @param month the month, not null
+     * @return the rule
+     */
+    static HolidayRule nthWeekday(int n, DayOfWeek dayOfWeek, Month month) {
+        return HolidayRules.nthWeekday(n, dayOfWeek, month);
+    }
+
+    /**
+     * A holiday on the last given day of week of a month, such as the last Monday of May.
+     *
+     * @param dayOfWeek the day of week, not null
+     * @param month the month, not null
+     * @return the rule
+     */
+    static HolidayRule lastWeekday(DayOfWeek dayOfWeek, Month month) {
+        return HolidayRules.lastWeekday(dayOfWeek, month);
+    }
+
+    /**
+     * A holiday a number of days from Easter Sunday: -2 is Good Friday, 1 Easter Monday, 39 Ascension Day.
+     *
+     * @param days offset from Easter Sunday
+     * @return the rule
+     */
+    static HolidayRule easterOffset(int days) {
+        return HolidayRules.easterOffset(days);
+    }
+
+    /**
+     * A holiday on a day of the Hijri calendar, such as 1 Shawwal (10, 1) for Eid al-Fitr or 10 Dhu al-Hijjah
+     * (12, 10) for Eid al-Adha. The dates follow the Umm al-Qura calendar of {@code HijrahChronology}, read from
+     * tables precomputed once; years outside its range have no date. A Gregorian year can hold two dates.
+     *
+     * @param month the Hijri month, from 1 to 12
+     * @param dayOfMonth the Hijri day of month, from 1 to 30
+     * @return the rule
+     */
+    static HolidayRule hijri(int month, int dayOfMonth) {
+        return HolidayRules.hijri(month, dayOfMonth);
+    }
+
+    /**
+     * A holiday a number of days from the Chinese New Year: 0 is the new year, -1 its eve, 14 the Lantern
+     * Festival. The dates are read from a table covering 1900 to 2100; other years have no date.
+     *
+     * @param days offset from the Chinese New Year
+     * @return the rule
+     */
+    static HolidayRule chineseNewYear(int days) {
+        return HolidayRules.chineseNewYear(days);
+    }
+}
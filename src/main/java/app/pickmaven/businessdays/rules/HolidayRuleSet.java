@@ -0,0 +1,188 @@
+package app.pickmaven.businessdays.rules;
+
+import app.pickmaven.businessdays.Holidays;
+import app.pickmaven.businessdays.time.IsoDates;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A set of {@code app.pickmaven.businessdays.rules.HolidayRule} objects, expanded into dates one year at a time.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.rules.HolidayRuleSet} expands a year the first time it is asked about it and
+ * caches the result, a sorted array of distinct epoch days, in a concurrent map; one rule set therefore covers any
+ * number of years while only the years in use are stored. A year holds the dates that fall in it, including those
+ * moved into it from a neighbouring year by weekend shifting.
+ * <p>
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class HolidayRuleSet {
+
+    /**
+     * The rules.
+     */
+    private final List<HolidayRule> rules;
+
+    /**
+     * Sorted, distinct epoch days of the years expanded so far.
+     */
+    private final Map<Integer, int[]> years = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor
+     *
+     * @param rules the rules
+     */
+    private HolidayRuleSet(List<HolidayRule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * @param rules the rules, not null
+     * @return a rule set of rules
+     */
+    public static HolidayRuleSet of(HolidayRule... rules) {
+        return of(Arrays.asList(rules));
+    }
+
+    /**
+     * @param rules the rules, not null
+     * @return a rule set of rules
+     */
+    public static HolidayRuleSet of(List<HolidayRule> rules) {
+        HolidayRule[] copy = rules.toArray(new HolidayRule[0]);
+        for (HolidayRule rule : copy) {
+            Objects.requireNonNull(rule, "rules must not contain null");
+        }
+        return new HolidayRuleSet(Collections.unmodifiableList(Arrays.asList(copy)));
+    }
+
+    /**
+     * @return the rules
+     */
+    public List<HolidayRule> getRules() {
+        return rules;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks if a day is a holiday, expanding its year if needed.
+     *
+     * @param epochDay the day
+     * @return true if one of the rules falls on epochDay
+     */
+    public boolean isHoliday(int epochDay) {
+        return Arrays.binarySearch(expanded(IsoDates.yearOf(epochDay)), epochDay) >= 0;
+    }
+
+    /**
+     * Checks if a date is a holiday, expanding its year if needed.
+     *
+     * @param date the date, not null
+     * @return true if one of the rules falls on date
+     */
+    public boolean isHoliday(LocalDate date) {
+        return isHoliday(Math.toIntExact(date.toEpochDay()));
+    }
+
+    /**
+     * @param year the year
+     * @return sorted, distinct epoch days of the holidays in year, as a new array
+     */
+    public int[] epochDaysIn(int year) {
+        return expanded(year).clone();
+    }
+
+    /**
+     * @param year the year
+     * @return the holidays in year
+     */
+    public Holidays getHolidays(int year) {
+        return getHolidays(year, year);
+    }
+
+    /**
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @return the holidays of the years from fromYear to toYear
+     */
+    public Holidays getHolidays(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("fromYear " + fromYear + " is after toYear " + toYear);
+        }
+        int[][] expanded = new int[toYear - fromYear + 1][];
+        int total = 0;
+        for (int year = fromYear; year <= toYear; year++) {
+            expanded[year - fromYear] = expanded(year);
+            total += expanded[year - fromYear].length;
+        }
+        int[] days = new int[total];
+        int n = 0;
+        for (int[] year : expanded) {
+            System.arraycopy(year, 0, days, n, year.length);
+            n += year.length;
+        }
+        Holidays holidays = new Holidays();
+        holidays.addEpochDays(days);
+        return holidays;
+    }
+
+    /**
+     * @return number of years expanded so far
+     */
+    public int cachedYears() {
+        return years.size();
+    }
+
+    //-----------------------------------------------------------------------
+
+    private int[] expanded(int year) {
+        int[] days = years.get(year);
+        if (days == null) {
+            days = years.computeIfAbsent(year, this::expand);
+        }
+        return days;
+    }
+
+    private int[] expand(int year) {
+        int first = IsoDates.toEpochDay(year, 1, 1);
+        int last = IsoDates.toEpochDay(year, 12, 31);
+        int[] days = new int[3 * HolidayRule.MAX_DATES_PER_YEAR * rules.size()];
+        int n = 0;
+        for (HolidayRule rule : rules) {
+            // shifted dates of the neighbouring years may fall in this one
+            for (int nominal = year - 1; nominal <= year + 1; nominal++) {
+                int end = n + rule.epochDaysIn(nominal, days, n);
+                for (int i = n; i < end; i++) {
+                    if (days[i] >= first && days[i] <= last) {
+                        days[n++] = days[i];
+                    }
+                }
+            }
+        }
+        Arrays.sort(days, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || days[i] != days[distinct - 1]) {
+                days[distinct++] = days[i];
+            }
+        }
+        return Arrays.copyOf(days, distinct);
+    }
+
+    @Override
+    public String toString() {
+        return "app.pickmaven.businessdays.rules.HolidayRuleSet{" +
+                "rules=" + rules +
+                '}';
+    }
+}
@@ -0,0 +1,284 @@
+package app.pickmaven.businessdays.rules;
+
+import app.pickmaven.businessdays.time.IsoDates;
+import app.pickmaven.businessdays.utils.HolidayUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Objects;
+
+/**
+ * The implementations of {@code app.pickmaven.businessdays.rules.HolidayRule} behind its factories and decorators.
+ */
+final class HolidayRules {
+
+    /**
+     * Private constructor
+     */
+    private HolidayRules() { }
+
+    static HolidayRule fixed(Month month, int dayOfMonth) {
+        Objects.requireNonNull(month);
+        if (dayOfMonth < 1 || dayOfMonth > month.maxLength()) {
+            throw new IllegalArgumentException("Invalid day " + dayOfMonth + " for " + month);
+        }
+        return new Fixed(month.getValue(), dayOfMonth);
+    }
+
+    static HolidayRule nthWeekday(int n, DayOfWeek dayOfWeek, Month month) {
+        Objects.requireNonNull(dayOfWeek);
+        Objects.requireNonNull(month);
+        if (n < 1 || n > 5) {
+            throw new IllegalArgumentException("Occurrence must be between 1 and 5, but was " + n);
+        }
+        return new NthWeekday(n, dayOfWeek, month.getValue());
+    }
+
+    static HolidayRule lastWeekday(DayOfWeek dayOfWeek, Month month) {
+        Objects.requireNonNull(dayOfWeek);
+        Objects.requireNonNull(month);
+        return new NthWeekday(-1, dayOfWeek, month.getValue());
+    }
+
+    static HolidayRule easterOffset(int days) {
+        return new EasterOffset(days);
+    }
+
+    static HolidayRule hijri(int month, int dayOfMonth) {
+        if (month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > 30) {
+            throw new IllegalArgumentException("Invalid Hijri month and day: " + month + "-" + dayOfMonth);
+        }
+        return new Hijri(month, dayOfMonth);
+    }
+
+    static HolidayRule chineseNewYear(int days) {
+        return new ChineseNewYear(days);
+    }
+
+    static HolidayRule observed(HolidayRule rule, WeekendShift shift) {
+        return new Observed(Objects.requireNonNull(rule), Objects.requireNonNull(shift));
+    }
+
+    static HolidayRule effective(HolidayRule rule, LocalDate from, LocalDate to) {
+        Objects.requireNonNull(rule);
+        int first = from == null ? Integer.MIN_VALUE : Math.toIntExact(from.toEpochDay());
+        int last = to == null ? Integer.MAX_VALUE : Math.toIntExact(to.toEpochDay());
+        if (first > last) {
+            throw new IllegalArgumentException("Effective period ends before it starts: " + from + " - " + to);
+        }
+        return new Effective(rule, first, last);
+    }
+
+    /**
+     * @param epochDay the day
+     * @return day of week of epochDay, 1 for Monday to 7 for Sunday
+     */
+    static int dayOfWeek(int epochDay) {
+        // 1970-01-01 was a Thursday
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    //-----------------------------------------------------------------------
+
+    private static final class Fixed implements HolidayRule {
+
+        private final int month;
+
+        private final int dayOfMonth;
+
+        Fixed(int month, int dayOfMonth) {
+            this.month = month;
+            this.dayOfMonth = dayOfMonth;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            if (dayOfMonth > IsoDates.lengthOfMonth(year, month)) {
+                return NONE;
+            }
+            return IsoDates.toEpochDay(year, month, dayOfMonth);
+        }
+
+        @Override
+        public String toString() {
+            return "fixed(" + Month.of(month) + " " + dayOfMonth + ")";
+        }
+    }
+
+    private static final class NthWeekday implements HolidayRule {
+
+        /**
+         * Occurrence, or -1 for the last one.
+         */
+        private final int n;
+
+        private final DayOfWeek dayOfWeek;
+
+        private final int month;
+
+        NthWeekday(int n, DayOfWeek dayOfWeek, int month) {
+            this.n = n;
+            this.dayOfWeek = dayOfWeek;
+            this.month = month;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            int target = dayOfWeek.getValue();
+            if (n < 0) {
+                int last = IsoDates.toEpochDay(year, month, IsoDates.lengthOfMonth(year, month));
+                return last - Math.floorMod(dayOfWeek(last) - target, 7);
+            }
+            int first = IsoDates.toEpochDay(year, month, 1);
+            int day = first + Math.floorMod(target - dayOfWeek(first), 7) + 7 * (n - 1);
+            return day - first < IsoDates.lengthOfMonth(year, month) ? day : NONE;
+        }
+
+        @Override
+        public String toString() {
+            return (n < 0 ? "last" : "nth(" + n + ")") + "(" + dayOfWeek + " of " + Month.of(month) + ")";
+        }
+    }
+
+    private static final class EasterOffset implements HolidayRule {
+
+        private final int days;
+
+        EasterOffset(int days) {
+            this.days = days;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            return HolidayUtils.getEasterEpochDay(year) + days;
+        }
+
+        @Override
+        public String toString() {
+            return "easter(" + (days >= 0 ? "+" : "") + days + ")";
+        }
+    }
+
+    private static final class Hijri implements HolidayRule {
+
+        private final int month;
+
+        private final int dayOfMonth;
+
+        Hijri(int month, int dayOfMonth) {
+            this.month = month;
+            this.dayOfMonth = dayOfMonth;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            int[] days = new int[MAX_DATES_PER_YEAR];
+            return epochDaysIn(year, days, 0) > 0 ? days[0] : NONE;
+        }
+
+        @Override
+        public int epochDaysIn(int year, int[] out, int offset) {
+            return HijriTable.epochDaysIn(year, month, dayOfMonth, out, offset);
+        }
+
+        @Override
+        public String toString() {
+            return "hijri(" + month + "-" + dayOfMonth + ")";
+        }
+    }
+
+    private static final class ChineseNewYear implements HolidayRule {
+
+        private final int days;
+
+        ChineseNewYear(int days) {
+            this.days = days;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            int newYear = ChineseNewYearTable.epochDayIn(year);
+            return newYear == NONE ? NONE : newYear + days;
+        }
+
+        @Override
+        public String toString() {
+            return "chineseNewYear(" + (days >= 0 ? "+" : "") + days + ")";
+        }
+    }
+
+    private static final class Observed implements HolidayRule {
+
+        private final HolidayRule rule;
+
+        private final WeekendShift shift;
+
+        Observed(HolidayRule rule, WeekendShift shift) {
+            this.rule = rule;
+            this.shift = shift;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            int epochDay = rule.epochDayIn(year);
+            if (epochDay == NONE) {
+                return NONE;
+            }
+            return epochDay + shift.shift(DayOfWeek.of(dayOfWeek(epochDay)));
+        }
+
+        @Override
+        public int epochDaysIn(int year, int[] out, int offset) {
+            int n = rule.epochDaysIn(year, out, offset);
+            for (int i = offset; i < offset + n; i++) {
+                out[i] += shift.shift(DayOfWeek.of(dayOfWeek(out[i])));
+            }
+            return n;
+        }
+
+        @Override
+        public String toString() {
+            return rule + ".observed(" + shift + ")";
+        }
+    }
+
+    private static final class Effective implements HolidayRule {
+
+        private final HolidayRule rule;
+
+        private final int first;
+
+        private final int last;
+
+        Effective(HolidayRule rule, int first, int last) {
+            this.rule = rule;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public int epochDayIn(int year) {
+            int epochDay = rule.epochDayIn(year);
+            return epochDay != NONE && epochDay >= first && epochDay <= last ? epochDay : NONE;
+        }
+
+        @Override
+        public int epochDaysIn(int year, int[] out, int offset) {
+            int n = rule.epochDaysIn(year, out, offset);
+            int kept = 0;
+            for (int i = offset; i < offset + n; i++) {
+                if (out[i] >= first && out[i] <= last) {
+                    out[offset + kept++] = out[i];
+                }
+            }
+            return kept;
+        }
+
+        @Override
+        public String toString() {
+            return rule + ".effective(" + (first == Integer.MIN_VALUE ? "" : LocalDate.ofEpochDay(first)) + ".."
+                    + (last == Integer.MAX_VALUE ? "" : LocalDate.ofEpochDay(last)) + ")";
+        }
+    }
+}
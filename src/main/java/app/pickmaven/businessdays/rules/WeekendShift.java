@@ -0,0 +1,39 @@
+package app.pickmaven.businessdays.rules;
+
+import java.time.DayOfWeek;
+
+/**
+ * How a holiday falling on a weekend is observed on a business day.
+ */
+public enum WeekendShift {
+
+    /**
+     * Saturday is observed on the preceding Friday, Sunday on the following Monday.
+     */
+    NEAREST_WEEKDAY,
+
+    /**
+     * Saturday and Sunday are both observed on the following Monday.
+     */
+    FOLLOWING_MONDAY,
+
+    /**
+     * Only Sunday is observed, on the following Monday.
+     */
+    SUNDAY_TO_MONDAY;
+
+    /**
+     * @param dayOfWeek day of week of the holiday
+     * @return days to add to the holiday to get the observed date
+     */
+    int shift(DayOfWeek dayOfWeek) {
+        switch (dayOfWeek) {
+            case SATURDAY:
+                return this == NEAREST_WEEKDAY ? -1 : this == FOLLOWING_MONDAY ? 2 : 0;
+            case SUNDAY:
+                return 1;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package app.pickmaven.businessdays.schedule;
+
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A task running at a time of day on every business day, created by
+ * {@code app.pickmaven.businessdays.schedule.BusinessDayScheduler}.
+ *
+ * <p>
+ * Like the futures of periodic tasks of {@code ScheduledThreadPoolExecutor}, {@code get()} only returns by throwing:
+ * once the schedule is cancelled, fails, or runs out of business days in its calendar. A schedule whose executor
+ * rejects the next firing, as after {@code shutdown()}, fails with the {@code RejectedExecutionException}.
+ * <p>
+ *
+ * This class is thread-safe.
+ *
+ */
+public final class BusinessDaySchedule implements ScheduledFuture<Void> {
+
+    private final Runnable task;
+
+    private final LocalTime time;
+
+    private final CompiledCalendar calendar;
+
+    private final ZoneId zone;
+
+    private final ScheduledExecutorService executor;
+
+    private final Clock clock;
+
+    /**
+     * Counted down when the schedule completes.
+     */
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    /**
+     * Next firing instant, null once no business day is left.
+     */
+    private volatile Instant nextFireTime;
+
+    /**
+     * The delayed task currently armed in the executor.
+     */
+    private volatile ScheduledFuture<?> armed;
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable failure;
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Package-private constructor used by the scheduler.
+     */
+    BusinessDaySchedule(Runnable task, LocalTime time, CompiledCalendar calendar, ZoneId zone,
+                        ScheduledExecutorService executor, Clock clock) {
+        this.task = Objects.requireNonNull(task);
+        this.time = Objects.requireNonNull(time);
+        this.calendar = Objects.requireNonNull(calendar);
+        this.zone = Objects.requireNonNull(zone);
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    //-----------------------------------------------------------------------
+    // FIRING METHODS
+
+    /**
+     * Computes the first business-day instant strictly after now.
+     *
+     * @param now the current instant
+     * @return next firing instant, or null if the calendar has no further business day
+     */
+    Instant nextFireTime(Instant now) {
+        int today = (int) now.atZone(zone).toLocalDate().toEpochDay();
+        int last = calendar.getLastEpochDay();
+        if (today > last) {
+            return null;
+        }
+        if (calendar.covers(today) && calendar.isBusinessDay(today)) {
+            Instant firing = firingInstant(today);
+            if (firing.isAfter(now)) {
+                return firing;
+            }
+        }
+
+        int from = Math.max(today + 1, calendar.getFirstEpochDay());
+        if (from > last || calendar.countBusinessDays(from, last + 1) == 0) {
+            return null;
+        }
+        return firingInstant(calendar.isBusinessDay(from) ? from : calendar.addBusinessDays(from, 1));
+    }
+
+    /**
+     * Arms the executor for the next firing instant, or completes the schedule if there is none.
+     */
+    synchronized void arm() {
+        if (cancelled) {
+            return;
+        }
+        Instant now = clock.instant();
+        nextFireTime = nextFireTime(now);
+        if (nextFireTime == null) {
+            done.countDown();
+            return;
+        }
+        schedule(now);
+    }
+
+    /**
+     * Runs the task, unless the wall clock says the executor woke up early, and arms the next firing.
+     */
+    private void fire() {
+        if (cancelled) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (now.isBefore(nextFireTime)) {
+            synchronized (this) {
+                if (!cancelled) {
+                    schedule(now);
+                }
+            }
+            return;
+        }
+        try {
+            task.run();
+        } catch (Throwable t) {
+            failure = t;
+            done.countDown();
+            throw t;
+        }
+        arm();
+    }
+
+    /**
+     * Arms the executor for nextFireTime, failing the schedule if the executor rejects it. Called holding the lock.
+     */
+    private void schedule(Instant now) {
+        try {
+            armed = executor.schedule(this::fire, delayMillis(now), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failure = e;
+            done.countDown();
+        }
+    }
+
+    private Instant firingInstant(int epochDay) {
+        return ZonedDateTime.of(LocalDate.ofEpochDay(epochDay), time, zone).toInstant();
+    }
+
+    private long delayMillis(Instant now) {
+        return Math.max(0, nextFireTime.toEpochMilli() - now.toEpochMilli());
+    }
+
+    //-----------------------------------------------------------------------
+    // FUTURE METHODS
+
+    /**
+     * @return next firing instant, or null if the schedule is complete
+     */
+    public Instant getNextFireTime() {
+        return isDone() ? null : nextFireTime;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        Instant next = nextFireTime;
+        long millis = next == null ? 0 : next.toEpochMilli() - clock.millis();
+        return unit.convert(millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+        if (isDone()) {
+            return false;
+        }
+        cancelled = true;
+        ScheduledFuture<?> current = armed;
+        if (current != null) {
+            current.cancel(mayInterruptIfRunning);
+        }
+        done.countDown();
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    @Override
+    public Void get() throws InterruptedException, ExecutionException {
+        done.await();
+        return report();
+    }
+
+    @Override
+    public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!done.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return report();
+    }
+
+    private Void report() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return null;
+    }
+}
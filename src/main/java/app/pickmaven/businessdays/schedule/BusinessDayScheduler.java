@@ -0,0 +1,85 @@
+package app.pickmaven.businessdays.schedule;
+
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+
+import java.time.Clock;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Runs tasks at a time of day on every business day of a {@code app.pickmaven.businessdays.calendar.CompiledCalendar}.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.schedule.BusinessDayScheduler} wraps a {@code ScheduledExecutorService}; each
+ * schedule keeps exactly one delayed task in the executor's queue, armed for its next business-day firing instant
+ * computed from the calendar. Non-business days never wake the executor up, and any number of schedules, over any
+ * number of calendars and zones, share the single delay queue of the executor.
+ * <p>
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public class BusinessDayScheduler {
+
+    /**
+     * The executor whose delay queue holds the armed schedules.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The clock firing instants are computed from.
+     */
+    private final Clock clock;
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Constructor using the system clock.
+     *
+     * @param executor executor running the tasks, not null
+     */
+    public BusinessDayScheduler(ScheduledExecutorService executor) {
+        this(executor, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor executor running the tasks, not null
+     * @param clock clock firing instants are computed from, not null
+     */
+    public BusinessDayScheduler(ScheduledExecutorService executor, Clock clock) {
+        this.executor = Objects.requireNonNull(executor);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Schedules task at time, in zone, on every business day of calendar starting from the next such instant.
+     * <p>
+     *     The schedule completes once the calendar has no further business day; an exception thrown by the task
+     *     completes it exceptionally, as with {@code scheduleAtFixedRate}.
+     * </p>
+     *
+     * @param task task to run, not null
+     * @param time local time of day of each run, not null
+     * @param calendar business days to run on, not null
+     * @param zone zone time is read in, not null
+     * @return the schedule, which can be cancelled
+     */
+    public BusinessDaySchedule scheduleOnBusinessDays(Runnable task, LocalTime time, CompiledCalendar calendar, ZoneId zone) {
+        BusinessDaySchedule schedule = new BusinessDaySchedule(task, time, calendar, zone, executor, clock);
+        schedule.arm();
+        return schedule;
+    }
+
+    /**
+     * @return the wrapped executor
+     */
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+}
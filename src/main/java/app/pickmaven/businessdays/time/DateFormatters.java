@@ -0,0 +1,64 @@
+package app.pickmaven.businessdays.time;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache of {@code DateTimeFormatter} objects by pattern.
+ *
+ * <p>
+ * {@code DateTimeFormatter.ofPattern(String)} parses the pattern every time it is called; the formatters built here
+ * are shared instead, up to {@code MAX_PATTERNS} distinct patterns. When the cache is full an arbitrary entry is
+ * evicted, which keeps the cache bounded when patterns come from user input.
+ * <p>
+ *
+ * This class is thread-safe.
+ *
+ */
+public final class DateFormatters {
+
+    /**
+     * Maximum number of cached patterns.
+     */
+    public static final int MAX_PATTERNS = 128;
+
+    /**
+     * Cached formatters by pattern.
+     */
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor
+     */
+    private DateFormatters() { }
+
+    /**
+     * Returns the formatter of a pattern, as {@code DateTimeFormatter.ofPattern(String)} does.
+     *
+     * @param pattern the pattern, not null
+     * @return the shared formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            if (FORMATTERS.size() >= MAX_PATTERNS) {
+                FORMATTERS.keySet().stream().findAny().ifPresent(FORMATTERS::remove);
+            }
+            FORMATTERS.putIfAbsent(pattern, formatter);
+        }
+        return formatter;
+    }
+
+    /**
+     * Checks if a pattern denotes the {@code yyyy-MM-dd} form handled by {@code IsoDates}.
+     *
+     * @param pattern the pattern, not null
+     * @return true for {@code yyyy-MM-dd} and {@code uuuu-MM-dd}
+     */
+    public static boolean isIsoLocalDate(String pattern) {
+        return "yyyy-MM-dd".equals(pattern) || "uuuu-MM-dd".equals(pattern);
+    }
+}
@@ -0,0 +1,330 @@
+package app.pickmaven.businessdays.time;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Allocation-free reader and writer of ISO-8601 {@code yyyy-MM-dd} dates.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.time.IsoDates} converts between the ten-character text form of a date, held in a
+ * {@code CharSequence}, a {@code char[]} or a {@code byte[]} of ASCII characters, and its epoch day, with plain
+ * integer arithmetic and without intermediate objects. Only years 0000 to 9999 have that text form.
+ * <p>
+ *
+ * This class is stateless and thread-safe.
+ *
+ */
+public final class IsoDates {
+
+    /**
+     * Length of the {@code yyyy-MM-dd} form.
+     */
+    public static final int LENGTH = 10;
+
+    /**
+     * Epoch day of 0000-01-01, first day having the {@code yyyy-MM-dd} form.
+     */
+    private static final int MIN_EPOCH_DAY = -719528;
+
+    /**
+     * Epoch day of 9999-12-31, last day having the {@code yyyy-MM-dd} form.
+     */
+    private static final int MAX_EPOCH_DAY = 2932896;
+
+    /**
+     * Private constructor
+     */
+    private IsoDates() { }
+
+    //-----------------------------------------------------------------------
+    // PARSING METHODS
+
+    /**
+     * Parses a date in {@code yyyy-MM-dd} form.
+     *
+     * @param text exactly one date, not null
+     * @return the date
+     * @throws DateTimeParseException if text is not a valid {@code yyyy-MM-dd} date
+     */
+    public static LocalDate parse(CharSequence text) {
+        if (text.length() != LENGTH) {
+            throw new DateTimeParseException("Text '" + text + "' is not a yyyy-MM-dd date", text, 0);
+        }
+        return LocalDate.ofEpochDay(parseEpochDay(text, 0));
+    }
+
+    /**
+     * Parses an ISO date through the {@code yyyy-MM-dd} fast path, falling back to
+     * {@code DateTimeFormatter.ISO_DATE} for other lengths, such as dates carrying an offset.
+     *
+     * @param text the date, not null
+     * @return the date
+     */
+    public static LocalDate parseIsoDate(CharSequence text) {
+        return text.length() == LENGTH ? parse(text) : LocalDate.parse(text, DateTimeFormatter.ISO_DATE);
+    }
+
+    /**
+     * Reads the {@code yyyy-MM-dd} date starting at offset.
+     *
+     * @param text text holding the date, not null
+     * @param offset index of the first digit of the year
+     * @return epoch day of the date
+     * @throws DateTimeParseException if the characters are not a valid date
+     */
+    public static int parseEpochDay(CharSequence text, int offset) {
+        checkBounds(text, text.length(), offset);
+        int year = digit(text, text.charAt(offset), offset) * 1000
+                + digit(text, text.charAt(offset + 1), offset + 1) * 100
+                + digit(text, text.charAt(offset + 2), offset + 2) * 10
+                + digit(text, text.charAt(offset + 3), offset + 3);
+        dash(text, text.charAt(offset + 4), offset + 4);
+        int month = digit(text, text.charAt(offset + 5), offset + 5) * 10 + digit(text, text.charAt(offset + 6), offset + 6);
+        dash(text, text.charAt(offset + 7), offset + 7);
+        int day = digit(text, text.charAt(offset + 8), offset + 8) * 10 + digit(text, text.charAt(offset + 9), offset + 9);
+        return epochDay(text, offset, year, month, day);
+    }
+
+    /**
+     * Reads the {@code yyyy-MM-dd} date starting at offset.
+     *
+     * @param chars characters holding the date, not null
+     * @param offset index of the first digit of the year
+     * @return epoch day of the date
+     * @throws DateTimeParseException if the characters are not a valid date
+     */
+    public static int parseEpochDay(char[] chars, int offset) {
+        checkBounds(null, chars.length, offset);
+        int year = digit(chars, chars[offset], offset) * 1000
+                + digit(chars, chars[offset + 1], offset + 1) * 100
+                + digit(chars, chars[offset + 2], offset + 2) * 10
+                + digit(chars, chars[offset + 3], offset + 3);
+        dash(chars, chars[offset + 4], offset + 4);
+        int month = digit(chars, chars[offset + 5], offset + 5) * 10 + digit(chars, chars[offset + 6], offset + 6);
+        dash(chars, chars[offset + 7], offset + 7);
+        int day = digit(chars, chars[offset + 8], offset + 8) * 10 + digit(chars, chars[offset + 9], offset + 9);
+        return epochDay(chars, offset, year, month, day);
+    }
+
+    /**
+     * Reads the {@code yyyy-MM-dd} date, in ASCII bytes, starting at offset.
+     *
+     * @param bytes bytes holding the date, not null
+     * @param offset index of the first digit of the year
+     * @return epoch day of the date
+     * @throws DateTimeParseException if the bytes are not a valid date
+     */
+    public static int parseEpochDay(byte[] bytes, int offset) {
+        checkBounds(null, bytes.length, offset);
+        int year = digit(bytes, bytes[offset], offset) * 1000
+                + digit(bytes, bytes[offset + 1], offset + 1) * 100
+                + digit(bytes, bytes[offset + 2], offset + 2) * 10
+                + digit(bytes, bytes[offset + 3], offset + 3);
+        dash(bytes, bytes[offset + 4], offset + 4);
+        int month = digit(bytes, bytes[offset + 5], offset + 5) * 10 + digit(bytes, bytes[offset + 6], offset + 6);
+        dash(bytes, bytes[offset + 7], offset + 7);
+        int day = digit(bytes, bytes[offset + 8], offset + 8) * 10 + digit(bytes, bytes[offset + 9], offset + 9);
+        return epochDay(bytes, offset, year, month, day);
+    }
+
+    /**
+     * Reads the {@code yyyy-MM-dd} date, in ASCII bytes, starting at an absolute index of a buffer, whose position
+     * is left unchanged; memory-mapped buffers are read in place.
+     *
+     * @param buffer buffer holding the date, not null
+     * @param offset absolute index of the first digit of the year
+     * @return epoch day of the date
+     * @throws DateTimeParseException if the bytes are not a valid date
+     */
+    public static int parseEpochDay(ByteBuffer buffer, int offset) {
+        checkBounds(null, buffer.limit(), offset);
+        int year = digit(buffer, buffer.get(offset), offset) * 1000
+                + digit(buffer, buffer.get(offset + 1), offset + 1) * 100
+                + digit(buffer, buffer.get(offset + 2), offset + 2) * 10
+                + digit(buffer, buffer.get(offset + 3), offset + 3);
+        dash(buffer, buffer.get(offset + 4), offset + 4);
+        int month = digit(buffer, buffer.get(offset + 5), offset + 5) * 10 + digit(buffer, buffer.get(offset + 6), offset + 6);
+        dash(buffer, buffer.get(offset + 7), offset + 7);
+        int day = digit(buffer, buffer.get(offset + 8), offset + 8) * 10 + digit(buffer, buffer.get(offset + 9), offset + 9);
+        return epochDay(buffer, offset, year, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+    // FORMATTING METHODS
+
+    /**
+     * Formats a date in {@code yyyy-MM-dd} form, or as {@code DateTimeFormatter.ISO_LOCAL_DATE} does for years
+     * outside 0000 to 9999, such as {@code +10000-01-01} and {@code -0001-01-01}.
+     *
+     * @param date the date, not null
+     * @return the formatted date
+     */
+    public static String format(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            return date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+        char[] chars = new char[LENGTH];
+        format((int) epochDay, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Writes the {@code yyyy-MM-dd} form of an epoch day starting at offset.
+     *
+     * @param epochDay the day
+     * @param out destination, with room for ten characters from offset
+     * @param offset index of the first character written
+     * @return index following the last character written
+     * @throws DateTimeException if the year of epochDay is outside 0000 to 9999
+     */
+    public static int format(int epochDay, char[] out, int offset) {
+        checkFormattable(epochDay);
+        int ymd = civil(epochDay);
+        int year = ymd >>> 9;
+        int month = (ymd >>> 5) & 15;
+        int day = ymd & 31;
+        out[offset] = (char) ('0' + year / 1000);
+        out[offset + 1] = (char) ('0' + year / 100 % 10);
+        out[offset + 2] = (char) ('0' + year / 10 % 10);
+        out[offset + 3] = (char) ('0' + year % 10);
+        out[offset + 4] = '-';
+        out[offset + 5] = (char) ('0' + month / 10);
+        out[offset + 6] = (char) ('0' + month % 10);
+        out[offset + 7] = '-';
+        out[offset + 8] = (char) ('0' + day / 10);
+        out[offset + 9] = (char) ('0' + day % 10);
+        return offset + LENGTH;
+    }
+
+    /**
+     * Writes the {@code yyyy-MM-dd} form of an epoch day, in ASCII bytes, starting at offset.
+     *
+     * @param epochDay the day
+     * @param out destination, with room for ten bytes from offset
+     * @param offset index of the first byte written
+     * @return index following the last byte written
+     * @throws DateTimeException if the year of epochDay is outside 0000 to 9999
+     */
+    public static int format(int epochDay, byte[] out, int offset) {
+        checkFormattable(epochDay);
+        int ymd = civil(epochDay);
+        int year = ymd >>> 9;
+        int month = (ymd >>> 5) & 15;
+        int day = ymd & 31;
+        out[offset] = (byte) ('0' + year / 1000);
+        out[offset + 1] = (byte) ('0' + year / 100 % 10);
+        out[offset + 2] = (byte) ('0' + year / 10 % 10);
+        out[offset + 3] = (byte) ('0' + year % 10);
+        out[offset + 4] = '-';
+        out[offset + 5] = (byte) ('0' + month / 10);
+        out[offset + 6] = (byte) ('0' + month % 10);
+        out[offset + 7] = '-';
+        out[offset + 8] = (byte) ('0' + day / 10);
+        out[offset + 9] = (byte) ('0' + day % 10);
+        return offset + LENGTH;
+    }
+
+    private static void checkFormattable(int epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Day " + LocalDate.ofEpochDay(epochDay) + " has no yyyy-MM-dd form");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // CALENDAR ARITHMETIC
+
+    /**
+     * Computes the epoch day of a valid ISO date.
+     *
+     * @param year the year
+     * @param month the month, from 1 to 12
+     * @param day the day of month
+     * @return epoch day of the date
+     * @throws DateTimeException if the date is not valid
+     */
+    public static int toEpochDay(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new DateTimeException("Invalid date " + year + "-" + month + "-" + day);
+        }
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * @param epochDay the day
+     * @return the year of epochDay
+     */
+    public static int yearOf(int epochDay) {
+        return civil(epochDay) >> 9;
+    }
+
+    /**
+     * @param year the year
+     * @param month the month, from 1 to 12
+     * @return number of days of the month
+     */
+    public static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Splits an epoch day into year, month and day, packed as {@code year << 9 | month << 5 | day}.
+     */
+    private static int civil(int epochDay) {
+        int z = epochDay + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    //-----------------------------------------------------------------------
+
+    private static void checkBounds(CharSequence text, int length, int offset) {
+        if (offset < 0 || offset > length - LENGTH) {
+            throw new DateTimeParseException("No yyyy-MM-dd date at index " + offset, text == null ? "" : text, offset);
+        }
+    }
+
+    private static int digit(Object source, int c, int index) {
+        if (c < '0' || c > '9') {
+            throw error(source, "Expected a digit", index);
+        }
+        return c - '0';
+    }
+
+    private static void dash(Object source, int c, int index) {
+        if (c != '-') {
+            throw error(source, "Expected '-'", index);
+        }
+    }
+
+    private static int epochDay(Object source, int offset, int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw error(source, "Invalid date " + year + "-" + month + "-" + day, offset);
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    private static DateTimeParseException error(Object source, String message, int index) {
+        CharSequence text = source instanceof CharSequence ? (CharSequence) source : "";
+        return new DateTimeParseException(message + " at index " + index, text, index);
+    }
+}
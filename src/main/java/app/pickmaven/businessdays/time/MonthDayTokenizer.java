@@ -0,0 +1,302 @@
+package app.pickmaven.businessdays.time;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass reader of month-day lists such as {@code "01-01 | 04-25 | 12-25"}.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.time.MonthDayTokenizer} walks the text once, reading each month and day as
+ * digits straight into an epoch day, without splitting the text, boxing numbers or building intermediate lists.
+ * Whitespace around entries and around the month and the day is ignored, and an empty last entry is allowed, as
+ * with {@code String.split}.
+ * <p>
+ *
+ * Delimiters are regular expressions, as accepted by {@code String.split}. A delimiter standing for one literal
+ * string, such as {@code "-"}, {@code "[|]"} or {@code "\\|"}, is matched with plain character comparisons; any
+ * other one goes through a {@code Matcher} created once per call.
+ *
+ * Days are checked against the longest length of their month, so that {@code "02-29"} is accepted in every year
+ * and read as February 28 in a non-leap year, as {@code MonthDay.atYear} does.
+ *
+ * Errors are reported as {@code DateTimeParseException} carrying the index at which the text is not valid.
+ *
+ * This class is immutable and thread-safe.
+ *
+ */
+public final class MonthDayTokenizer {
+
+    /**
+     * Characters giving a meaning to a regular expression.
+     */
+    private static final String METACHARACTERS = "\\[](){}.*+?^$|";
+
+    /**
+     * Delimiter between month and day.
+     */
+    private final Delimiter monthDayDelimiter;
+
+    /**
+     * Delimiter between entries, null when the text holds a single entry.
+     */
+    private final Delimiter dateDelimiter;
+
+    /**
+     * Private constructor
+     */
+    private MonthDayTokenizer(Delimiter monthDayDelimiter, Delimiter dateDelimiter) {
+        this.monthDayDelimiter = monthDayDelimiter;
+        this.dateDelimiter = dateDelimiter;
+    }
+
+    /**
+     * @param monthDayDelimiter regular expression between month and day, not null
+     * @param dateDelimiter regular expression between entries, not null
+     * @return a tokenizer of month-day lists
+     */
+    public static MonthDayTokenizer of(String monthDayDelimiter, String dateDelimiter) {
+        assert monthDayDelimiter != null : "monthDayDelimiter must not be null";
+        assert dateDelimiter != null : "dateDelimiter must not be null";
+        return new MonthDayTokenizer(Delimiter.of(monthDayDelimiter), Delimiter.of(dateDelimiter));
+    }
+
+    /**
+     * @param monthDayDelimiter regular expression between month and day, not null
+     * @return a tokenizer of single month-day entries
+     */
+    public static MonthDayTokenizer of(String monthDayDelimiter) {
+        assert monthDayDelimiter != null : "monthDayDelimiter must not be null";
+        return new MonthDayTokenizer(Delimiter.of(monthDayDelimiter), null);
+    }
+
+    //-----------------------------------------------------------------------
+    // PARSING METHODS
+
+    /**
+     * Reads every entry of a list.
+     *
+     * @param text month-day entries separated by the date delimiter, not null
+     * @param year year of the dates
+     * @return epoch days of the entries, in the order of the text
+     * @throws DateTimeParseException if an entry is not a valid month-day of year
+     */
+    public int[] parseEpochDays(CharSequence text, int year) {
+        if (dateDelimiter == null) {
+            throw new IllegalStateException("This tokenizer reads single entries");
+        }
+        int length = text.length();
+        int[] epochDays = new int[Math.min(16, length / 4 + 1)];
+        int n = 0;
+        Cursor cursor = new Cursor(text);
+        int start = 0;
+        while (true) {
+            int end = cursor.find(dateDelimiter, start, length);
+            int next = cursor.matchEnd;
+            if (end == length && isBlank(text, start, end)) {
+                break;
+            }
+            if (n == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, n * 2);
+            }
+            epochDays[n++] = parseEpochDay(cursor, start, end, year);
+            if (end == length) {
+                break;
+            }
+            start = next;
+        }
+        return n == epochDays.length ? epochDays : Arrays.copyOf(epochDays, n);
+    }
+
+    /**
+     * Reads one entry.
+     *
+     * @param text one month-day entry, not null
+     * @param year year of the date
+     * @return epoch day of the entry
+     * @throws DateTimeParseException if the entry is not a valid month-day of year
+     */
+    public int parseEpochDay(CharSequence text, int year) {
+        return parseEpochDay(new Cursor(text), 0, text.length(), year);
+    }
+
+    /**
+     * Reads the entry between two indexes.
+     */
+    private int parseEpochDay(Cursor cursor, int start, int end, int year) {
+        CharSequence text = cursor.text;
+        int separator = cursor.find(monthDayDelimiter, start, end);
+        if (separator == end) {
+            throw error(text, "Expected a month and a day", skipBlanks(text, start, end));
+        }
+        int afterSeparator = cursor.matchEnd;
+        int month = number(text, start, separator);
+        int day = number(text, afterSeparator, end);
+        if (month < 1 || month > 12) {
+            throw error(text, "Invalid month " + month, skipBlanks(text, start, separator));
+        }
+        if (day < 1 || day > (month == 2 ? 29 : IsoDates.lengthOfMonth(year, month))) {
+            throw error(text, "Invalid day " + day + " of month " + month, skipBlanks(text, afterSeparator, end));
+        }
+        return IsoDates.toEpochDay(year, month, Math.min(day, IsoDates.lengthOfMonth(year, month)));
+    }
+
+    /**
+     * Reads the digits between two indexes, ignoring the whitespace around them.
+     */
+    private static int number(CharSequence text, int start, int end) {
+        int i = skipBlanks(text, start, end);
+        int last = end;
+        while (last > i && text.charAt(last - 1) <= ' ') {
+            last--;
+        }
+        if (i == last) {
+            throw error(text, "Expected a number", i);
+        }
+        int value = 0;
+        for (; i < last; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw error(text, "Expected a digit", i);
+            }
+            value = value * 10 + (c - '0');
+            if (value > 9999) {
+                throw error(text, "Number too long", i);
+            }
+        }
+        return value;
+    }
+
+    private static int skipBlanks(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static boolean isBlank(CharSequence text, int start, int end) {
+        return skipBlanks(text, start, end) == end;
+    }
+
+    private static DateTimeParseException error(CharSequence text, String message, int index) {
+        return new DateTimeParseException(message + " at index " + index, text, index);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A delimiter: a literal string, or a pattern when the regular expression is not one.
+     */
+    private static final class Delimiter {
+
+        private final String literal;
+
+        private final Pattern pattern;
+
+        private Delimiter(String literal, Pattern pattern) {
+            this.literal = literal;
+            this.pattern = pattern;
+        }
+
+        static Delimiter of(String regex) {
+            String literal = literalOf(regex);
+            if (literal != null) {
+                return new Delimiter(literal, null);
+            }
+            return new Delimiter(null, Pattern.compile(regex));
+        }
+
+        /**
+         * @return the string matched by regex when it matches exactly one non-empty string, null otherwise
+         */
+        private static String literalOf(String regex) {
+            if (regex.length() == 3 && regex.charAt(0) == '[' && regex.charAt(2) == ']'
+                    && regex.charAt(1) != '^' && regex.charAt(1) != '\\') {
+                return regex.substring(1, 2);
+            }
+            if (regex.length() == 2 && regex.charAt(0) == '\\' && !Character.isLetterOrDigit(regex.charAt(1))) {
+                return regex.substring(1);
+            }
+            if (regex.isEmpty()) {
+                return null;
+            }
+            for (int i = 0; i < regex.length(); i++) {
+                if (METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                    return null;
+                }
+            }
+            return regex;
+        }
+    }
+
+    /**
+     * Search state over one text: the matcher of a pattern delimiter, created on first use, and the end of the
+     * last match.
+     */
+    private final class Cursor {
+
+        private final CharSequence text;
+
+        private Matcher monthDayMatcher;
+
+        private Matcher dateMatcher;
+
+        private int matchEnd;
+
+        Cursor(CharSequence text) {
+            this.text = text;
+        }
+
+        /**
+         * @return start of the first non-empty match of delimiter in [from, to), or to; matchEnd is set to its end
+         */
+        int find(Delimiter delimiter, int from, int to) {
+            if (delimiter.literal != null) {
+                String literal = delimiter.literal;
+                char first = literal.charAt(0);
+                for (int i = from, last = to - literal.length(); i <= last; i++) {
+                    if (text.charAt(i) == first && regionMatches(literal, i)) {
+                        matchEnd = i + literal.length();
+                        return i;
+                    }
+                }
+                matchEnd = to;
+                return to;
+            }
+            Matcher matcher = matcher(delimiter);
+            matcher.region(from, to);
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) {
+                    matchEnd = matcher.end();
+                    return matcher.start();
+                }
+            }
+            matchEnd = to;
+            return to;
+        }
+
+        private boolean regionMatches(String literal, int offset) {
+            for (int j = 1; j < literal.length(); j++) {
+                if (text.charAt(offset + j) != literal.charAt(j)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Matcher matcher(Delimiter delimiter) {
+            if (delimiter == monthDayDelimiter) {
+                if (monthDayMatcher == null) {
+                    monthDayMatcher = delimiter.pattern.matcher(text);
+                }
+                return monthDayMatcher;
+            }
+            if (dateMatcher == null) {
+                dateMatcher = delimiter.pattern.matcher(text);
+            }
+            return dateMatcher;
+        }
+    }
+}
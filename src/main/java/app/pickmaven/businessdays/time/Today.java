@@ -0,0 +1,177 @@
+package app.pickmaven.businessdays.time;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The current date of a {@code Clock}, cached until the next midnight of the clock's zone.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.time.Today} keeps the current {@code LocalDate} together with the instants of its
+ * start and of the next day's start. A read costs one {@code Clock.millis()} call and two comparisons; zone rules are
+ * only consulted again when the clock crosses midnight, or goes backwards past the start of the cached day, so
+ * long-running processes see the date roll over exactly at the zone's midnight.
+ * <p>
+ *
+ * The instances for the system clock are shared per zone. A fixed or offset {@code Clock} can be injected with
+ * {@code of(Clock)}, which is how relative queries are tested.
+ *
+ * This class is thread-safe.
+ *
+ */
+public final class Today {
+
+    /**
+     * Shared instances over the system clock, by zone.
+     */
+    private static final Map<ZoneId, Today> SYSTEM = new ConcurrentHashMap<>();
+
+    /**
+     * The clock this date is read from.
+     */
+    private final Clock clock;
+
+    /**
+     * The cached day; replaced as a whole on rollover.
+     */
+    private volatile Day day;
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Private constructor
+     *
+     * @param clock the clock to read
+     */
+    private Today(Clock clock) {
+        this.clock = clock;
+        this.day = new Day(clock.millis(), clock.getZone());
+    }
+
+    /**
+     * Returns a {@code Today} reading the given clock.
+     *
+     * @param clock clock to read, not null
+     * @return a new {@code Today}
+     */
+    public static Today of(Clock clock) {
+        return new Today(Objects.requireNonNull(clock));
+    }
+
+    /**
+     * Returns the shared {@code Today} of the system clock in the given zone.
+     *
+     * @param zone the zone, not null
+     * @return shared {@code Today} for zone
+     */
+    public static Today in(ZoneId zone) {
+        return SYSTEM.computeIfAbsent(zone, z -> new Today(Clock.system(z)));
+    }
+
+    /**
+     * Returns the shared {@code Today} of the system clock in the system default zone.
+     *
+     * @return shared {@code Today} for the default zone
+     */
+    public static Today systemDefault() {
+        return in(ZoneId.systemDefault());
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the current date
+     */
+    public LocalDate date() {
+        return current(clock.millis()).date;
+    }
+
+    /**
+     * @return the current date as epoch day
+     */
+    public int epochDay() {
+        return current(clock.millis()).epochDay;
+    }
+
+    /**
+     * @return the current year
+     */
+    public int year() {
+        return current(clock.millis()).date.getYear();
+    }
+
+    /**
+     * Returns the current date-time. On days without offset changes it is derived from the cached start of the day;
+     * on transition days it is resolved through the zone rules.
+     *
+     * @return the current local date-time
+     */
+    public LocalDateTime dateTime() {
+        long now = clock.millis();
+        Day current = current(now);
+        if (current.uniform) {
+            return current.date.atStartOfDay().plusNanos((now - current.startMillis) * 1_000_000L);
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone());
+    }
+
+    /**
+     * @return the clock this date is read from
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return the cached day holding now, refreshed if now left it
+     */
+    private Day current(long now) {
+        Day current = day;
+        if (now < current.startMillis || now >= current.endMillis) {
+            current = new Day(now, clock.getZone());
+            day = current;
+        }
+        return current;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A date with the instants bounding it in a zone.
+     */
+    private static final class Day {
+
+        final LocalDate date;
+
+        final int epochDay;
+
+        final long startMillis;
+
+        final long endMillis;
+
+        /**
+         * True if the day lasts exactly 24 hours from its midnight, so that local times are offsets from its start.
+         */
+        final boolean uniform;
+
+        Day(long now, ZoneId zone) {
+            date = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zone).toLocalDate();
+            epochDay = (int) date.toEpochDay();
+            ZonedDateTime start = date.atStartOfDay(zone);
+            startMillis = start.toInstant().toEpochMilli();
+            endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            ZoneOffsetTransition transition = zone.getRules().nextTransition(start.toInstant());
+            uniform = start.toLocalTime().equals(LocalTime.MIDNIGHT)
+                    && (transition == null || transition.getInstant().toEpochMilli() >= endMillis);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package app.pickmaven.businessdays.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts epoch days and local times of a zone to epoch seconds, with the zone's offsets cached by year.
+ *
+ * <p>
+ * {@code app.pickmaven.businessdays.time.ZoneConverter} resolves a local date-time exactly as
+ * {@code ZonedDateTime.of(LocalDateTime, ZoneId)} does: in a gap the earlier offset applies, which moves the
+ * time forward by the length of the gap, and in an overlap the earlier offset is retained. The zone rules are
+ * consulted once per year; each year keeps its offset transitions as thresholds in local seconds, so converting a
+ * date costs a cache lookup and, on average, less than one comparison. Fixed-offset zones skip the cache.
+ * <p>
+ *
+ * The instances are shared per zone. This class is thread-safe.
+ *
+ */
+public final class ZoneConverter {
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    /**
+     * Shared instances, by zone.
+     */
+    private static final Map<ZoneId, ZoneConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * Offset of a fixed-offset zone, otherwise null.
+     */
+    private final ZoneOffset fixed;
+
+    /**
+     * Offsets of the years converted so far.
+     */
+    private final Map<Integer, YearOffsets> years = new ConcurrentHashMap<>();
+
+    /**
+     * The year converted last, checked before the map.
+     */
+    private volatile YearOffsets last;
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Private constructor
+     *
+     * @param zone the zone
+     */
+    private ZoneConverter(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixed = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    }
+
+    /**
+     * Returns the shared converter of a zone.
+     *
+     * @param zone the zone, not null
+     * @return shared converter for zone
+     */
+    public static ZoneConverter of(ZoneId zone) {
+        return CONVERTERS.computeIfAbsent(Objects.requireNonNull(zone), ZoneConverter::new);
+    }
+
+    /**
+     * Returns the shared converter of the system default zone.
+     *
+     * @return shared converter for the default zone
+     */
+    public static ZoneConverter systemDefault() {
+        return of(ZoneId.systemDefault());
+    }
+
+    /**
+     * @return the zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    //-----------------------------------------------------------------------
+    // SINGLE CONVERSIONS
+
+    /**
+     * @param epochDay the day
+     * @return epoch second of the start of epochDay in this zone
+     */
+    public long toEpochSecond(int epochDay) {
+        return toEpochSecond(epochDay, 0);
+    }
+
+    /**
+     * @param epochDay the day
+     * @param secondOfDay local second of day, from 0 to 86399
+     * @return epoch second of the local date-time in this zone
+     */
+    public long toEpochSecond(int epochDay, int secondOfDay) {
+        assert secondOfDay >= 0 && secondOfDay < SECONDS_PER_DAY : "secondOfDay must be between 0 and 86399";
+        long local = (long) epochDay * SECONDS_PER_DAY + secondOfDay;
+        if (fixed != null) {
+            return local - fixed.getTotalSeconds();
+        }
+        return yearOf(epochDay).toEpochSecond(local);
+    }
+
+    /**
+     * @param date the date, not null
+     * @return the start of date in this zone as {@code Date}
+     */
+    public Date toDate(LocalDate date) {
+        return new Date(toEpochSecond(Math.toIntExact(date.toEpochDay())) * 1000);
+    }
+
+    //-----------------------------------------------------------------------
+    // BULK CONVERSIONS
+
+    /**
+     * Converts the starts of days to epoch seconds.
+     *
+     * @param epochDays the days
+     * @param out destination, at least as long as epochDays
+     */
+    public void toEpochSeconds(int[] epochDays, long[] out) {
+        toEpochSeconds(epochDays, 0, out);
+    }
+
+    /**
+     * Converts the same local time of many days to epoch seconds.
+     *
+     * @param epochDays the days
+     * @param secondOfDay local second of day, from 0 to 86399
+     * @param out destination, at least as long as epochDays
+     */
+    public void toEpochSeconds(int[] epochDays, int secondOfDay, long[] out) {
+        assert secondOfDay >= 0 && secondOfDay < SECONDS_PER_DAY : "secondOfDay must be between 0 and 86399";
+        if (out.length < epochDays.length) {
+            throw new IllegalArgumentException("out holds " + out.length + " values, " + epochDays.length + " needed");
+        }
+        if (fixed != null) {
+            long shift = secondOfDay - fixed.getTotalSeconds();
+            for (int i = 0; i < epochDays.length; i++) {
+                out[i] = (long) epochDays[i] * SECONDS_PER_DAY + shift;
+            }
+            return;
+        }
+        YearOffsets year = null;
+        for (int i = 0; i < epochDays.length; i++) {
+            int epochDay = epochDays[i];
+            if (year == null || epochDay < year.firstEpochDay || epochDay > year.lastEpochDay) {
+                year = yearOf(epochDay);
+            }
+            out[i] = year.toEpochSecond((long) epochDay * SECONDS_PER_DAY + secondOfDay);
+        }
+    }
+
+    /**
+     * Converts the starts of days to {@code Date} objects.
+     *
+     * @param epochDays the days
+     * @return the starts of the days, in order
+     */
+    public Date[] toDates(int[] epochDays) {
+        long[] seconds = new long[epochDays.length];
+        toEpochSeconds(epochDays, seconds);
+        Date[] dates = new Date[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            dates[i] = new Date(seconds[i] * 1000);
+        }
+        return dates;
+    }
+
+    //-----------------------------------------------------------------------
+
+    private YearOffsets yearOf(int epochDay) {
+        YearOffsets year = last;
+        if (year == null || epochDay < year.firstEpochDay || epochDay > year.lastEpochDay) {
+            year = years.computeIfAbsent(IsoDates.yearOf(epochDay), this::compute);
+            last = year;
+        }
+        return year;
+    }
+
+    private YearOffsets compute(int year) {
+        int first = IsoDates.toEpochDay(year, 1, 1);
+        int last = IsoDates.toEpochDay(year, 12, 31);
+        // transitions within two days of the year, enough for any offset
+        long from = (long) (first - 2) * SECONDS_PER_DAY;
+        long to = (long) (last + 3) * SECONDS_PER_DAY;
+
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        ZoneOffsetTransition t = rules.nextTransition(Instant.ofEpochSecond(from));
+        while (t != null && t.toEpochSecond() < to) {
+            transitions.add(t);
+            t = rules.nextTransition(t.getInstant());
+        }
+
+        long[] thresholds = new long[transitions.size()];
+        int[] offsets = new int[transitions.size() + 1];
+        offsets[0] = rules.getOffset(Instant.ofEpochSecond(from)).getTotalSeconds();
+        for (int i = 0; i < thresholds.length; i++) {
+            ZoneOffsetTransition transition = transitions.get(i);
+            int before = transition.getOffsetBefore().getTotalSeconds();
+            int after = transition.getOffsetAfter().getTotalSeconds();
+            // local times before the later of the two wall-clock readings keep the earlier offset
+            thresholds[i] = transition.toEpochSecond() + Math.max(before, after);
+            offsets[i + 1] = after;
+        }
+        return new YearOffsets(first, last, thresholds, offsets);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * The offsets of one year: offsets[i] applies to local seconds before thresholds[i], the last one after all.
+     */
+    private static final class YearOffsets {
+
+        final int firstEpochDay;
+
+        final int lastEpochDay;
+
+        final long[] thresholds;
+
+        final int[] offsets;
+
+        YearOffsets(int firstEpochDay, int lastEpochDay, long[] thresholds, int[] offsets) {
+            this.firstEpochDay = firstEpochDay;
+            this.lastEpochDay = lastEpochDay;
+            this.thresholds = thresholds;
+            this.offsets = offsets;
+        }
+
+        long toEpochSecond(long local) {
+            int i = 0;
+            while (i < thresholds.length && local >= thresholds[i]) {
+                i++;
+            }
+            return local - offsets[i];
+        }
+    }
+}
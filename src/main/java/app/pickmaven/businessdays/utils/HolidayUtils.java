@@ -2,6 +2,9 @@ package app.pickmaven.businessdays.utils;
 
 import app.pickmaven.businessdays.Holiday;
 import app.pickmaven.businessdays.TemporalRange;
+import app.pickmaven.businessdays.time.IsoDates;
+import app.pickmaven.businessdays.time.MonthDayTokenizer;
+import app.pickmaven.businessdays.time.Today;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -17,6 +20,36 @@ import java.util.stream.Collectors;
  */
 public class HolidayUtils {
 
+    /**
+     * First and last years of the Easter table: the whole Gregorian calendar up to 4099.
+     */
+    public static final int EASTER_TABLE_FIRST_YEAR = 1583;
+
+    public static final int EASTER_TABLE_LAST_YEAR = 4099;
+
+    /**
+     * Offsets of Easter Sunday from March 22nd, one byte per year of the table, computed once.
+     */
+    private static final byte[] EASTER_OFFSETS = new byte[EASTER_TABLE_LAST_YEAR - EASTER_TABLE_FIRST_YEAR + 1];
+
+    static {
+        for (int year = EASTER_TABLE_FIRST_YEAR; year <= EASTER_TABLE_LAST_YEAR; year++) {
+            // getEasterDelay counts from March 1st, day 1, so March 22nd is 22
+            EASTER_OFFSETS[year - EASTER_TABLE_FIRST_YEAR] = (byte) (getEasterDelay(year) - 22);
+        }
+    }
+
+    /**
+     * Days from Easter Sunday to the holidays of the bulk accessors.
+     */
+    private static final int GOOD_FRIDAY = -2;
+
+    private static final int ASCENSION = 39;
+
+    private static final int PENTECOST = 49;
+
+    private static final int CORPUS_CHRISTI = 60;
+
     // COMPUTING HOLIDAY METHODS
 
     /**
@@ -26,8 +59,20 @@ public class HolidayUtils {
      * @return Easter date
      */
     public static LocalDate getEaster(final int year) {
-        final int dayOfMarch = getEasterDelay(year);
-        return LocalDate.of(year, 3, 1).plusDays(dayOfMarch - 1);
+        return LocalDate.ofEpochDay(getEasterEpochDay(year));
+    }
+
+    /**
+     * Get Easter for specific year as epoch day, from the precomputed table for the years it covers.
+     *
+     * @param year for computing Easter
+     * @return epoch day of Easter
+     */
+    public static int getEasterEpochDay(final int year) {
+        if (year >= EASTER_TABLE_FIRST_YEAR && year <= EASTER_TABLE_LAST_YEAR) {
+            return IsoDates.toEpochDay(year, 3, 22) + EASTER_OFFSETS[year - EASTER_TABLE_FIRST_YEAR];
+        }
+        return IsoDates.toEpochDay(year, 3, 1) + getEasterDelay(year) - 1;
     }
 
     /**
@@ -37,8 +82,71 @@ public class HolidayUtils {
      * @return Easter Monday date
      */
     public static LocalDate getEasterMonday(final int year) {
-        final int dayOfMarch = getEasterDelay(year);
-        return LocalDate.of(year, 3, 1).plusDays(dayOfMarch);
+        return LocalDate.ofEpochDay(getEasterEpochDay(year) + 1);
+    }
+
+    /**
+     * Get the epoch days of a holiday at a fixed distance from Easter, for every year of a range.
+     *
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @param daysFromEaster days from Easter Sunday to the holiday
+     * @return epoch days of the holiday, one per year in order
+     */
+    public static int[] getEasterRelativeEpochDays(final int fromYear, final int toYear, final int daysFromEaster) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("fromYear " + fromYear + " is after toYear " + toYear);
+        }
+        int[] days = new int[toYear - fromYear + 1];
+        for (int year = fromYear; year <= toYear; year++) {
+            days[year - fromYear] = getEasterEpochDay(year) + daysFromEaster;
+        }
+        return days;
+    }
+
+    /**
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @return epoch days of Easter Sunday, one per year in order
+     */
+    public static int[] getEasterEpochDays(final int fromYear, final int toYear) {
+        return getEasterRelativeEpochDays(fromYear, toYear, 0);
+    }
+
+    /**
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @return epoch days of Good Friday, two days before Easter, one per year in order
+     */
+    public static int[] getGoodFridayEpochDays(final int fromYear, final int toYear) {
+        return getEasterRelativeEpochDays(fromYear, toYear, GOOD_FRIDAY);
+    }
+
+    /**
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @return epoch days of Ascension Day, 39 days after Easter, one per year in order
+     */
+    public static int[] getAscensionEpochDays(final int fromYear, final int toYear) {
+        return getEasterRelativeEpochDays(fromYear, toYear, ASCENSION);
+    }
+
+    /**
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @return epoch days of Pentecost Sunday, 49 days after Easter, one per year in order
+     */
+    public static int[] getPentecostEpochDays(final int fromYear, final int toYear) {
+        return getEasterRelativeEpochDays(fromYear, toYear, PENTECOST);
+    }
+
+    /**
+     * @param fromYear first year
+     * @param toYear last year, inclusive
+     * @return epoch days of Corpus Christi, 60 days after Easter, one per year in order
+     */
+    public static int[] getCorpusChristiEpochDays(final int fromYear, final int toYear) {
+        return getEasterRelativeEpochDays(fromYear, toYear, CORPUS_CHRISTI);
     }
 
     /**
@@ -67,7 +175,7 @@ public class HolidayUtils {
      */
     public static List<Holiday> toHolidayList(List<LocalDate> holidayList) {
         return holidayList.stream()
-                .map(date -> new Holiday(date))
+                .map(Holiday::of)
                 .collect(Collectors.toList());
     }
 
@@ -76,29 +184,44 @@ public class HolidayUtils {
      * @return list of {@code Holiday} from a list of {@code MonthDay}
      */
     public static List<Holiday> toHolidayListByMonthDay(List<MonthDay> holidayList) {
+        int currentYear = Today.systemDefault().year();
         return holidayList.stream()
-                .map(date -> new Holiday(date))
+                .map(date -> Holiday.of(date.atYear(currentYear)))
                 .collect(Collectors.toList());
     }
 
     /**
+     * Reads month-day dates of the current year; see {@code toHolidayList(String, String, String, int)}.
+     *
      * @param dayMonthDelimiter delimiter between month and day
      * @param dateDelimiter delimiter among dates
      * @param inputHolidayList list of date strings
      * @return list of {@code Holiday} from list of dates as strings
+     * @throws java.time.format.DateTimeParseException if an entry is not a valid month and day
      */
     public static List<Holiday> toHolidayList(String dayMonthDelimiter, String dateDelimiter, String inputHolidayList) {
-        String[] holidaysArr = inputHolidayList.split(dateDelimiter);
-        ArrayList<String> holidaysArrList = new ArrayList<String>(Arrays.asList(holidaysArr));
-        int currentYear = LocalDate.now().getYear();
-
-        List<LocalDate> localDateList = holidaysArrList.stream()
-                .map(dateAsString ->
-                        LocalDate.of( currentYear, Integer.parseInt(dateAsString.trim().split(dayMonthDelimiter)[0].trim()),
-                                Integer.parseInt(dateAsString.trim().split(dayMonthDelimiter)[1].trim()) ) )
-                .collect(Collectors.toList());
+        return toHolidayList(dayMonthDelimiter, dateDelimiter, inputHolidayList, Today.systemDefault().year());
+    }
 
-        return toHolidayList(localDateList);
+    /**
+     * Reads month-day dates of a year, in the order of the list. {@code 02-29} is read as February 28 in a non-leap
+     * year, as {@code MonthDay.atYear} does, so {@code "02-28|02-29"} then yields February 28 twice.
+     *
+     * @param dayMonthDelimiter delimiter between month and day
+     * @param dateDelimiter delimiter among dates
+     * @param inputHolidayList list of date strings
+     * @param year year of the dates
+     * @return list of {@code Holiday} from list of dates as strings
+     * @throws java.time.format.DateTimeParseException if an entry is not a valid month and day
+     */
+    public static List<Holiday> toHolidayList(String dayMonthDelimiter, String dateDelimiter, String inputHolidayList,
+                                              int year) {
+        int[] epochDays = MonthDayTokenizer.of(dayMonthDelimiter, dateDelimiter).parseEpochDays(inputHolidayList, year);
+        List<Holiday> holidayList = new ArrayList<>(epochDays.length);
+        for (int epochDay : epochDays) {
+            holidayList.add(Holiday.ofEpochDay(epochDay));
+        }
+        return holidayList;
     }
 
 
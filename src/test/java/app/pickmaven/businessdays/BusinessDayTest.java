@@ -57,6 +57,25 @@ class BusinessDayTest {
         assertEquals( "2019/12/20", b.nextBusinessDay().asString("yyyy/MM/dd") );
     }
 
+    @Test
+    public void givenStartingDate_thenNextWorkingDay_asIsoStringPastYear9999() {
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(9999, 12, 30))
+                .build();
+        assertEquals( "9999-12-31", b.nextBusinessDay().asString("yyyy-MM-dd") );
+
+        b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(9999, 12, 31))
+                .build();
+        assertEquals( "+10000-01-03", b.nextBusinessDay().asString("uuuu-MM-dd") );
+
+        b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(9999, 12, 31))
+                .build();
+        assertEquals( LocalDate.of(10000, 1, 3).format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                b.nextBusinessDay().asString("yyyy-MM-dd") );
+    }
+
     @Test
     public void givenNoHolidays_thenNextWorkingDay_isTomorrow_asDate() throws ParseException {
         BusinessDay b = BusinessDay.Builder.aBusinessDay()
@@ -125,6 +144,58 @@ class BusinessDayTest {
         assertEquals(5, p.getDays());
     }
 
+    @Test
+    public void givenClock_thenRelativeQueries_readItsCurrentDate() {
+        Clock clock = Clock.fixed(Instant.parse("2019-12-18T10:00:00Z"), ZoneOffset.UTC);
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .withClock(clock)
+                .givenHolidays(holidays)
+                .build();
+
+        assertEquals( LocalDate.of(2019, 12, 23), b.nextBusinessDay(3).asLocalDate() );
+        assertEquals( 5, b.asPeriod().getDays() );
+        assertEquals( 2, b.getHolidaysFromNow().size() );
+    }
+
+    @Test
+    public void givenYears_computingEasterMonday_addsEachYear() {
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(2019, 4, 19))
+                .computingEasterMonday(2019, 2020, 2021)
+                .computingEasterMonday()
+                .build();
+
+        assertEquals( 3, b.getHolidays().size() );
+        assertEquals( LocalDate.of(2020, 4, 13), b.getHolidays(2020).get(0).getDate() );
+    }
+
+    @Test
+    public void givenNoYears_computingEasterMonday_keepsNoArgSignature() throws NoSuchMethodException {
+        assertEquals( BusinessDay.Builder.class, BusinessDay.Builder.class.getMethod("computingEasterMonday").getReturnType() );
+        assertEquals( BusinessDay.Builder.class, BusinessDay.Builder.class.getMethod("computingEasterMonday", int[].class).getReturnType() );
+
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(2019, 4, 19))
+                .computingEasterMonday(new int[0])
+                .build();
+        assertEquals( 0, b.getHolidays().size() );
+    }
+
+    @Test
+    public void givenEarlyClose_durationsStopAtClosingTime() {
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(2020, 12, 23))
+                .withEarlyClose(LocalDate.of(2020, 12, 24), LocalTime.of(13, 0))
+                .withClock(Clock.fixed(LocalDateTime.of(2020, 12, 23, 9, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC))
+                .build()
+                .nextBusinessDay();
+
+        assertEquals( LocalTime.of(13, 0), b.getEarlyClose() );
+        assertEquals( Duration.ofHours(28), b.asDuration("17", "30") );
+        assertEquals( Duration.ofHours(15 + 13 + 24),
+                b.businessDuration(LocalDateTime.of(2020, 12, 23, 9, 0), LocalDateTime.of(2020, 12, 28, 0, 0)) );
+    }
+
     // NO HOLIDAYS
 
     @Test
@@ -0,0 +1,101 @@
+package app.pickmaven.businessdays;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+
+/**
+ * Read throughput of {@code ConcurrentHolidays} against a {@code Holidays} guarded by a lock, with 1, 8 and 64
+ * reader threads and one thread updating the calendar continuously.
+ *
+ * <p>
+ * Run from the test classpath. Reader counts can be given as arguments.
+ * <p>
+ */
+public class ConcurrentHolidaysBenchmark {
+
+    private static final long MEASURE_MILLIS = 2000;
+
+    private static final int HOLIDAYS = 2000;
+
+    /**
+     * Keeps the lookups from being optimized away.
+     */
+    static volatile int sink;
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] readerCounts = args.length == 0 ? new int[] {1, 8, 64} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            readerCounts[i] = Integer.parseInt(args[i]);
+        }
+        int first = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+        int[] days = new int[HOLIDAYS];
+        for (int i = 0; i < HOLIDAYS; i++) {
+            days[i] = first + i * 7;
+        }
+
+        for (int readers : readerCounts) {
+            ConcurrentHolidays concurrent = new ConcurrentHolidays();
+            concurrent.addEpochDays(days);
+            double cow = run(readers, concurrent::containsEpochDay,
+                    day -> concurrent.addEpochDays(day), day -> concurrent.remove(new Holiday(LocalDate.ofEpochDay(day))));
+
+            Holidays plain = new Holidays();
+            plain.addEpochDays(days);
+            Object lock = new Object();
+            double locked = run(readers,
+                    day -> { synchronized (lock) { return plain.containsEpochDay(day); } },
+                    day -> { synchronized (lock) { return plain.addEpochDays(day); } },
+                    day -> { synchronized (lock) { return plain.remove(new Holiday(LocalDate.ofEpochDay(day))); } });
+
+            System.out.printf("%2d readers: copy-on-write %8.1f M reads/s, locked %8.1f M reads/s%n", readers, cow, locked);
+        }
+    }
+
+    private static double run(int readers, IntPredicate read, IntPredicate add, IntPredicate remove)
+            throws InterruptedException {
+        int first = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+        int span = HOLIDAYS * 7;
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        CountDownLatch done = new CountDownLatch(readers + 1);
+
+        for (int r = 0; r < readers; r++) {
+            int seed = r;
+            new Thread(() -> {
+                long n = 0;
+                int day = first + seed;
+                int hits = 0;
+                while (running.get()) {
+                    for (int i = 0; i < 1024; i++) {
+                        day = first + (day - first + 12345) % span;
+                        if (read.test(day)) {
+                            hits++;
+                        }
+                    }
+                    n += 1024;
+                }
+                reads.add(n);
+                sink = hits;
+                done.countDown();
+            }).start();
+        }
+        new Thread(() -> {
+            int day = first + 3;
+            while (running.get()) {
+                add.test(day);
+                remove.test(day);
+                day = first + (day - first + 7) % span;
+            }
+            done.countDown();
+        }).start();
+
+        TimeUnit.MILLISECONDS.sleep(MEASURE_MILLIS);
+        running.set(false);
+        done.await();
+        return reads.sum() / (MEASURE_MILLIS * 1000.0);
+    }
+}
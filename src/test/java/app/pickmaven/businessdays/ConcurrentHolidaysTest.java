@@ -0,0 +1,93 @@
+package app.pickmaven.businessdays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentHolidaysTest {
+
+    private ConcurrentHolidays holidays;
+
+    @BeforeEach
+    void setUp() {
+        holidays = new ConcurrentHolidays();
+    }
+
+    @Test
+    void keepsHolidaysSemantics() {
+        holidays.add(Holiday.of(2020, 12, 25));
+        holidays.add(Holiday.of(2020, 02, 14));
+        holidays.add(Holiday.of(2020, 12, 25));
+        assertEquals(2, holidays.size());
+        assertEquals(LocalDate.of(2020, 02, 14), holidays.get(0).getDate());
+
+        assertTrue(holidays.remove(Holiday.of(2020, 02, 14)));
+        assertFalse(holidays.remove(Holiday.of(2020, 02, 14)));
+        assertTrue(holidays.removeIf(hol -> hol.getMonth() == 12));
+        assertEquals(0, holidays.size());
+
+        Holidays plain = new Holidays();
+        plain.add(Holiday.of(2021, 01, 01));
+        assertTrue(holidays.addAll(plain));
+        assertTrue(plain.containsAll(holidays));
+        assertEquals(1, new Holidays(holidays).size());
+        assertTrue(holidays.contains(LocalDate.of(2021, 01, 01)));
+    }
+
+    @Test
+    void viewsAreSnapshots() {
+        holidays.add(Holiday.of(2020, 12, 25));
+        List<Holiday> list = holidays.getHolidays();
+        Holidays year = holidays.ofYear(2020);
+        holidays.add(Holiday.of(2020, 01, 01));
+
+        assertEquals(1, list.size());
+        assertEquals(1, year.size());
+        assertEquals(2, holidays.ofYear(2020).size());
+    }
+
+    @Test
+    void readersNeverSeePartialUpdates() throws InterruptedException {
+        int first = (int) LocalDate.of(2020, 01, 01).toEpochDay();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread[] readers = new Thread[4];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                while (running.get()) {
+                    int[] days = holidays.toEpochDays();
+                    if (days.length % 2 != 0) {
+                        failure.set("odd size " + days.length);
+                    }
+                    for (int i = 1; i < days.length; i++) {
+                        if (days[i - 1] >= days[i]) {
+                            failure.set("unsorted at " + i);
+                        }
+                    }
+                }
+            });
+            readers[r].start();
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            int day = first + 2 * (i % 100);
+            holidays.addEpochDays(day, day + 1);
+            if (i % 3 == 0) {
+                holidays.removeIf(hol -> (hol.getDate().toEpochDay() - first) / 2 == (day - first) / 2);
+            }
+        }
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertEquals(0, holidays.size() % 2);
+    }
+}
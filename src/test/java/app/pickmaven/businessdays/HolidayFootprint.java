@@ -0,0 +1,95 @@
+package app.pickmaven.businessdays;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Heap footprint of 200 calendars of 50 years of holidays, held as lists of fresh {@code Holiday} objects, as
+ * lists of canonical {@code Holiday} objects, and as {@code Holidays}.
+ *
+ * <p>
+ * Run from the test classpath with a fixed heap, e.g. {@code -Xms512m -Xmx512m}, for stable readings.
+ * <p>
+ */
+public class HolidayFootprint {
+
+    private static final int CALENDARS = 200;
+
+    private static final int YEARS = 50;
+
+    public static void main(String[] args) {
+        List<List<LocalDate>> dataset = dataset();
+        long dates = dataset.stream().mapToLong(List::size).sum();
+        System.out.printf("%d calendars, %d holidays%n", CALENDARS, dates);
+
+        report("List<Holiday>, new Holiday(date)", dates, dataset, calendar -> {
+            List<Holiday> list = new ArrayList<>(calendar.size());
+            for (LocalDate date : calendar) {
+                list.add(new Holiday(LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth())));
+            }
+            return list;
+        });
+        report("List<Holiday>, Holiday.of(date)", dates, dataset, calendar -> {
+            List<Holiday> list = new ArrayList<>(calendar.size());
+            for (LocalDate date : calendar) {
+                list.add(Holiday.of(date));
+            }
+            return list;
+        });
+        report("Holidays", dates, dataset, Holidays::new);
+    }
+
+    /**
+     * Builds 200 calendars sharing most of their dates, as calendars of different regions do: ten fixed dates a
+     * year, Easter Monday, and a few dates specific to each calendar.
+     */
+    private static List<List<LocalDate>> dataset() {
+        List<List<LocalDate>> dataset = new ArrayList<>();
+        int[][] fixed = {{1, 1}, {1, 6}, {4, 25}, {5, 1}, {6, 2}, {8, 15}, {11, 1}, {12, 8}, {12, 25}, {12, 26}};
+        for (int c = 0; c < CALENDARS; c++) {
+            List<LocalDate> calendar = new ArrayList<>();
+            for (int year = 2000; year < 2000 + YEARS; year++) {
+                for (int[] md : fixed) {
+                    calendar.add(LocalDate.of(year, md[0], md[1]));
+                }
+                calendar.add(Holiday.getEasterMonday(year).getDate());
+                LocalDate patron = LocalDate.of(year, 1 + c % 12, 1 + c % 28);
+                while (patron.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    patron = patron.plusDays(1);
+                }
+                calendar.add(patron);
+            }
+            dataset.add(calendar);
+        }
+        return dataset;
+    }
+
+    private static void report(String name, long dates, List<List<LocalDate>> dataset, Function<List<LocalDate>, Object> build) {
+        long before = usedAfterGc();
+        List<Object> calendars = new ArrayList<>(CALENDARS);
+        for (List<LocalDate> calendar : dataset) {
+            calendars.add(build.apply(calendar));
+        }
+        long after = usedAfterGc();
+        System.out.printf("%-36s %10d bytes, %6.1f bytes/holiday%n", name, after - before, (double) (after - before) / dates);
+        if (calendars.size() != CALENDARS) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
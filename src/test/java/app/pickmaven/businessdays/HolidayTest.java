@@ -43,6 +43,29 @@ class HolidayTest {
         assertNotNull(holidayFromString.getDate());
     }
 
+    @Test
+    void canonicalInstances() {
+        assertSame(Holiday.of(2019, 12, 12), Holiday.of(date));
+        assertSame(Holiday.of(date), Holiday.ofEpochDay((int) date.toEpochDay()));
+        assertEquals(holiday, Holiday.of(date));
+        assertEquals(java.util.Objects.hash(date), Holiday.of(date).hashCode());
+        assertEquals(holiday.hashCode(), Holiday.of(date).hashCode());
+    }
+
+    @Test
+    void outOfRangeInstancesAreNotRetained() {
+        Holiday discovery = Holiday.of(1492, 10, 12);
+        assertNotSame(discovery, Holiday.of(LocalDate.of(1492, 10, 12)));
+        assertEquals(discovery, Holiday.ofEpochDay((int) LocalDate.of(1492, 10, 12).toEpochDay()));
+        assertNotSame(Holiday.of(2500, 1, 1), Holiday.of(2500, 1, 1));
+
+        java.lang.ref.WeakReference<Holiday> reference = new java.lang.ref.WeakReference<>(Holiday.of(3000, 1, 1));
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get());
+    }
+
 
 
 }
\ No newline at end of file
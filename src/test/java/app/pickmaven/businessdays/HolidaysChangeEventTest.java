@@ -0,0 +1,81 @@
+package app.pickmaven.businessdays;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidaysChangeEventTest {
+
+    @Test
+    void updatesPublishTheChangedDays() {
+        Holidays holidays = new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 25)));
+        List<HolidaysChangeEvent> events = new ArrayList<>();
+        holidays.addListener(events::add);
+
+        holidays.add(Holiday.of(LocalDate.of(2020, 04, 25)));
+        holidays.add(Holiday.of(LocalDate.of(2020, 04, 25)));
+        holidays.remove(Holiday.of(LocalDate.of(2020, 01, 01)));
+        holidays.addEarlyClose(LocalDate.of(2020, 12, 24), LocalTime.NOON);
+        holidays.removeIf(holiday -> holiday.getDate().getMonthValue() == 12);
+
+        assertEquals(4, events.size());
+        assertSame(holidays, events.get(0).getSource());
+        assertArrayEquals(new int[] { (int) LocalDate.of(2020, 04, 25).toEpochDay() }, events.get(0).getAddedEpochDays());
+        assertArrayEquals(new int[] { (int) LocalDate.of(2020, 01, 01).toEpochDay() }, events.get(1).getRemovedEpochDays());
+        assertEquals(LocalDate.of(2020, 12, 24), events.get(2).getFrom());
+        assertEquals(0, events.get(2).getAddedEpochDays().length);
+        assertEquals(LocalDate.of(2020, 12, 25), events.get(3).getTo());
+    }
+
+    @Test
+    void overlapsTestsTheChangedDaysOnly() {
+        Holidays holidays = new Holidays();
+        List<HolidaysChangeEvent> events = new ArrayList<>();
+        holidays.addListener(events::add);
+
+        holidays.addEpochDays((int) LocalDate.of(2020, 01, 01).toEpochDay(), (int) LocalDate.of(2020, 12, 25).toEpochDay());
+
+        HolidaysChangeEvent event = events.get(0);
+        assertTrue(event.overlaps(LocalDate.of(2019, 12, 1), LocalDate.of(2020, 01, 01)));
+        assertTrue(event.overlaps(LocalDate.of(2020, 12, 25), LocalDate.of(2020, 12, 25)));
+        assertFalse(event.overlaps(LocalDate.of(2020, 01, 02), LocalDate.of(2020, 12, 24)));
+        assertEquals("app.pickmaven.businessdays.HolidaysChangeEvent{added=2, removed=0, changed=2, from=2020-01-01, to=2020-12-25}", event.toString());
+    }
+
+    @Test
+    void copiesAndRemovedListenersAreNotNotified() {
+        Holidays holidays = new Holidays();
+        List<HolidaysChangeEvent> events = new ArrayList<>();
+        HolidaysListener listener = events::add;
+        holidays.addListener(listener);
+
+        new Holidays(holidays).add(Holiday.of(LocalDate.of(2020, 01, 01)));
+        holidays.addAll(new Holidays());
+        assertTrue(holidays.removeListener(listener));
+        holidays.add(Holiday.of(LocalDate.of(2020, 01, 01)));
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void concurrentHolidaysPublishOneEventPerUpdate() {
+        ConcurrentHolidays holidays = new ConcurrentHolidays();
+        List<HolidaysChangeEvent> events = new ArrayList<>();
+        holidays.addListener(events::add);
+
+        holidays.addAll(new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 25))));
+        holidays.addPartialDay(LocalDate.of(2020, 12, 24), 0.5);
+        holidays.removeEarlyClose(LocalDate.of(2020, 12, 24));
+
+        assertEquals(3, events.size());
+        assertSame(holidays, events.get(0).getSource());
+        assertEquals(2, events.get(0).getAddedEpochDays().length);
+        assertArrayEquals(new int[] { (int) LocalDate.of(2020, 12, 24).toEpochDay() }, events.get(2).getChangedEpochDays());
+    }
+}
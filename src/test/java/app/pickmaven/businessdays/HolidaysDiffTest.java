@@ -0,0 +1,40 @@
+package app.pickmaven.businessdays;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidaysDiffTest {
+
+    @Test
+    void reportsAddedAndRemovedDays() {
+        Holidays older = new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 04, 25),
+                LocalDate.of(2020, 12, 25), LocalDate.of(2020, 12, 26)));
+        Holidays newer = new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 06, 02),
+                LocalDate.of(2020, 12, 25)));
+
+        HolidaysDiff diff = HolidaysDiff.of(older, newer);
+
+        assertEquals(3, diff.size());
+        assertEquals(1, diff.getAdded().size());
+        assertTrue(diff.getAdded().contains(LocalDate.of(2020, 06, 02)));
+        assertEquals(2, diff.getRemoved().size());
+        assertTrue(diff.getRemoved().contains(LocalDate.of(2020, 04, 25)));
+        assertTrue(diff.getRemoved().contains(LocalDate.of(2020, 12, 26)));
+        assertEquals("app.pickmaven.businessdays.HolidaysDiff{added=1, removed=2}", diff.toString());
+    }
+
+    @Test
+    void sameDaysGiveAnEmptyDiff() {
+        Holidays holidays = new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 25)));
+
+        assertTrue(HolidaysDiff.of(holidays, new Holidays(holidays)).isEmpty());
+        assertTrue(HolidaysDiff.of(new Holidays(), new Holidays()).isEmpty());
+        assertEquals(2, HolidaysDiff.of(new Holidays(), holidays).getAdded().size());
+        assertEquals(2, HolidaysDiff.of(holidays, new Holidays()).getRemoved().size());
+        assertEquals(1, HolidaysDiff.of(holidays.subSet(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 06, 01)), holidays).size());
+    }
+}
@@ -0,0 +1,74 @@
+package app.pickmaven.businessdays;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidaysMergeTest {
+
+    @Test
+    void mergesSourcesWithOverlapStatistics() {
+        Holidays first = new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 25)));
+        List<LocalDate> second = Arrays.asList(LocalDate.of(2020, 12, 25), LocalDate.of(2020, 04, 25), LocalDate.of(2020, 12, 25));
+        Holidays third = new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01)));
+
+        HolidaysMerge merge = HolidaysMerge.Builder.aHolidaysMerge()
+                .add(first)
+                .add(second)
+                .add(third)
+                .add(new Holidays())
+                .build();
+
+        Holidays merged = merge.getHolidays();
+        assertEquals(3, merged.size());
+        assertEquals(LocalDate.of(2020, 01, 01), merged.get(0).getDate());
+        assertEquals(LocalDate.of(2020, 04, 25), merged.get(1).getDate());
+        assertEquals(LocalDate.of(2020, 12, 25), merged.get(2).getDate());
+        assertEquals(2, merge.getDuplicates());
+
+        HolidaysMerge.SourceStatistics stats = merge.getSources().get(0);
+        assertEquals(2, stats.getSize());
+        assertEquals(2, stats.getOverlapping());
+        assertTrue(stats.isRedundant());
+        assertEquals(1, merge.getSources().get(1).getExclusive());
+        assertTrue(merge.getSources().get(2).isRedundant());
+        assertEquals(0, merge.getSources().get(3).getSize());
+    }
+
+    @Test
+    void matchesSortedUnionOfRandomSources() {
+        Random random = new Random(7);
+        Holidays[] sources = new Holidays[9];
+        TreeSet<LocalDate> expected = new TreeSet<>();
+        for (int s = 0; s < sources.length; s++) {
+            List<LocalDate> dates = new ArrayList<>();
+            for (int i = 0; i < random.nextInt(200); i++) {
+                dates.add(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(400)));
+            }
+            expected.addAll(dates);
+            sources[s] = new Holidays(dates);
+        }
+        Holidays merged = HolidaysMerge.of(sources).getHolidays();
+        assertEquals(new ArrayList<>(expected), merged.stream().map(Holiday::getDate).collect(java.util.stream.Collectors.toList()));
+    }
+
+    @Test
+    void givenHolidaysMergesSources() {
+        Holidays first = new Holidays(Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2019, 12, 26)));
+        Holidays second = new Holidays(Arrays.asList(LocalDate.of(2019, 12, 26), LocalDate.of(2020, 01, 01)));
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(first, second)
+                .givenHolidays(first)
+                .build();
+        assertEquals(3, b.getHolidays().size());
+    }
+
+    @Test
+    void givenHolidaysKeepsSingleSourceSignature() throws NoSuchMethodException {
+        assertEquals(BusinessDay.Builder.class,
+                BusinessDay.Builder.class.getMethod("givenHolidays", Holidays.class).getReturnType());
+    }
+}
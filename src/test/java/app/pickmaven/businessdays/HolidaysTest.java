@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -87,6 +89,108 @@ class HolidaysTest {
         assertTrue(otherHolidays.containsAll(holidays));
     }
 
+    @Test
+    void keepsDateOrderWithoutDuplicates() {
+        holidays.add(Holiday.of(2020, 12, 25));
+        holidays.add(holiday);
+        holidays.add(Holiday.of(2020, 02, 14));
+        holidays.add(Holiday.of(2019, 01, 01));
+
+        assertEquals(3, holidays.size());
+        assertEquals(LocalDate.of(2019, 01, 01), holidays.get(0).getDate());
+        assertEquals(holiday, holidays.get(1));
+        assertEquals(LocalDate.of(2020, 12, 25).toEpochDay(), holidays.epochDayAt(2));
+        assertTrue(holidays.contains(LocalDate.of(2020, 12, 25)));
+        assertFalse(holidays.remove(Holiday.of(2020, 12, 24)));
+    }
+
+    @Test
+    void addAllMergesSortedHolidays() {
+        holidays.add(holiday);
+        holidays.add(Holiday.of(2020, 12, 25));
+        Holidays other = new Holidays();
+        other.add(Holiday.of(2020, 01, 01));
+        other.add(Holiday.of(2020, 12, 25));
+
+        assertTrue(holidays.addAll(other));
+        assertFalse(holidays.addAll(other));
+        assertEquals(3, holidays.size());
+        assertEquals(LocalDate.of(2020, 01, 01), holidays.get(0).getDate());
+
+        assertTrue(holidays.addEpochDays((int) LocalDate.of(2021, 01, 01).toEpochDay(), (int) LocalDate.of(2020, 01, 01).toEpochDay()));
+        assertEquals(4, holidays.size());
+    }
+
+    @Test
+    void getHolidaysIsSnapshot() {
+        holidays.add(holiday);
+        List<Holiday> snapshot = holidays.getHolidays();
+        holidays.add(Holiday.of(2020, 12, 25));
+        holidays.removeIf(hol -> hol.getMonth() == 2);
+
+        assertEquals(1, snapshot.size());
+        assertEquals(holiday, snapshot.get(0));
+        assertEquals(1, holidays.size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(holiday));
+    }
+
+    @Test
+    void rangeViews() {
+        holidays = new Holidays(java.util.Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2020, 01, 01),
+                LocalDate.of(2020, 02, 14), LocalDate.of(2020, 12, 25), LocalDate.of(2021, 01, 01), LocalDate.of(2022, 01, 01)));
+
+        assertEquals(2, holidays.subSet(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 25)).size());
+        assertEquals(1, holidays.subSet(LocalDate.of(2020, 01, 01), false, LocalDate.of(2020, 12, 25), false).size());
+        assertEquals(3, holidays.tailSet(LocalDate.of(2020, 12, 25)).size());
+        assertEquals(2, holidays.tailSet(LocalDate.of(2020, 12, 25), false).size());
+        assertEquals(1, holidays.headSet(LocalDate.of(2020, 01, 01)).size());
+        assertEquals(LocalDate.of(2020, 01, 01), holidays.ofYear(2020).get(0).getDate());
+        assertEquals(3, holidays.ofYear(2020).size());
+        assertEquals(3, holidays.ofYears(2021, 2019, 2022, 2021).size());
+        assertEquals(4, holidays.ofYears(2020, 2021).size());
+        assertEquals(0, holidays.ofYear(2030).size());
+        assertTrue(holidays.containsAll(holidays.ofYear(2020)));
+    }
+
+    @Test
+    void rangeViewsDetachOnUpdate() {
+        holidays = new Holidays(java.util.Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 02, 14), LocalDate.of(2021, 01, 01)));
+        Holidays year = holidays.ofYear(2020);
+        year.add(Holiday.of(2020, 12, 25));
+        year.remove(Holiday.of(2020, 01, 01));
+
+        assertEquals(2, year.size());
+        assertFalse(year.contains(LocalDate.of(2021, 01, 01)));
+        assertEquals(3, holidays.size());
+        assertFalse(holidays.contains(LocalDate.of(2020, 12, 25)));
+        assertTrue(holidays.contains(LocalDate.of(2020, 01, 01)));
+    }
+
+    @Test
+    void earlyCloses() {
+        holidays = new Holidays(java.util.Arrays.asList(LocalDate.of(2020, 12, 25), LocalDate.of(2021, 01, 01)));
+        holidays.addEarlyClose(LocalDate.of(2020, 12, 24), LocalTime.of(13, 0));
+        holidays.addPartialDay(LocalDate.of(2020, 12, 31), 0.5);
+
+        assertEquals(2, holidays.size());
+        assertTrue(holidays.isPartialDay(LocalDate.of(2020, 12, 24)));
+        assertEquals(LocalTime.NOON, holidays.getEarlyClose(LocalDate.of(2020, 12, 31)));
+        assertNull(holidays.getEarlyClose(LocalDate.of(2020, 12, 23)));
+        assertEquals(2, holidays.getEarlyCloses().size());
+
+        Holidays december = holidays.subSet(LocalDate.of(2020, 12, 1), LocalDate.of(2020, 12, 31));
+        assertEquals(1, december.getEarlyCloses().size());
+        december.addEarlyClose(LocalDate.of(2020, 12, 24), LocalTime.of(12, 0));
+        assertEquals(LocalTime.of(13, 0), holidays.getEarlyClose(LocalDate.of(2020, 12, 24)));
+
+        Holidays merged = new Holidays();
+        merged.addAll(december);
+        merged.addAll(holidays);
+        assertEquals(LocalTime.NOON, merged.getEarlyClose(LocalDate.of(2020, 12, 24)));
+        assertTrue(holidays.removeEarlyClose(LocalDate.of(2020, 12, 24)));
+        assertFalse(holidays.isPartialDay(LocalDate.of(2020, 12, 24)));
+    }
+
     @Test
     void holidaysByMonthDayList() {
         String delimiter = "-";
@@ -105,6 +209,17 @@ class HolidaysTest {
         assertEquals(5, holidays.size());
     }
 
+    @Test
+    void holidaysByMonthDayList_leapDay() {
+        Holidays holidays = new Holidays("-", "[|]", "02-28 | 02-29", 2019);
+        assertEquals(1, holidays.size());
+        assertTrue(holidays.contains(MonthDay.of(2, 29).atYear(2019)));
+
+        holidays = new Holidays("-", "[|]", "02-28 | 02-29", 2020);
+        assertEquals(2, holidays.size());
+        assertTrue(holidays.contains(MonthDay.of(2, 29).atYear(2020)));
+    }
+
 
     @Test
     public void holidaysByPublicHolidayAPI() {
@@ -0,0 +1,104 @@
+package app.pickmaven.businessdays.api;
+
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ICalendarImporterTest {
+
+    private static final String CALENDAR = "BEGIN:VCALENDAR\r\n" +
+            "PRODID:-//Google Inc//Google Calendar 70.9054//EN\r\n" +
+            "VERSION:2.0\r\n" +
+            "BEGIN:VEVENT\r\n" +
+            "DTSTART;VALUE=DATE:20201225\r\n" +
+            "DTEND;VALUE=DATE:20201227\r\n" +
+            "SUMMARY:Christmas and St. Stephen\r\n" +
+            "DESCRIPTION:A long description folded over\r\n" +
+            "  several lines\\, with DTSTART:19990101 inside\r\n" +
+            "END:VEVENT\r\n" +
+            "BEGIN:VEVENT\r\n" +
+            "RRULE:FREQ=YEARLY;BYMONTH=11;BYDAY=4TH\r\n" +
+            "DTSTART;TZID=\"America/New_York\":20181122T000000\r\n" +
+            "SUMMARY:Thanksgiving\r\n" +
+            "END:VEVENT\r\n" +
+            "BEGIN:VEVENT\r\n" +
+            "DTSTART;VALUE=DATE:20190501\r\n" +
+            "RRU\r\n" +
+            " LE:FREQ=YEARLY;COUNT=2\r\n" +
+            "END:VEVENT\r\n" +
+            "BEGIN:VEVENT\n" +
+            "DTSTART:20200525T120000Z\n" +
+            "RRULE:FREQ=YEARLY;INTERVAL=2;BYMONTH=5;BYDAY=-1MO;UNTIL=20241231\n" +
+            "END:VEVENT\n" +
+            "BEGIN:VEVENT\r\n" +
+            "DTSTART;VALUE=DATE:20300101\r\n" +
+            "END:VEVENT\r\n" +
+            "END:VCALENDAR";
+
+    @Test
+    void importsEventsAndYearlyRecurrences() throws IOException {
+        for (int bufferSize : new int[] {16, 17, 64, ICalendarImporter.DEFAULT_BUFFER_SIZE}) {
+            Holidays holidays = new ICalendarImporter(2019, 2022).withBufferSize(bufferSize).importHolidays(channel(CALENDAR));
+
+            assertEquals(4 + 2 + 2 + 2, holidays.size());
+            assertTrue(holidays.contains(LocalDate.of(2020, 12, 26)));
+            assertFalse(holidays.contains(LocalDate.of(2020, 12, 27)));
+            assertTrue(holidays.contains(LocalDate.of(2019, 11, 28)));
+            assertTrue(holidays.contains(LocalDate.of(2022, 11, 24)));
+            assertTrue(holidays.contains(LocalDate.of(2020, 5, 1)));
+            assertFalse(holidays.contains(LocalDate.of(2021, 5, 1)));
+            assertTrue(holidays.contains(LocalDate.of(2020, 5, 25)));
+            assertTrue(holidays.contains(LocalDate.of(2022, 5, 30)));
+            assertFalse(holidays.contains(LocalDate.of(2021, 5, 31)));
+        }
+    }
+
+    @Test
+    void errorsCarryTheLine() {
+        IOException e = assertThrows(IOException.class, () -> new ICalendarImporter(2020, 2020)
+                .importHolidays(channel("BEGIN:VEVENT\r\nSUMMARY:x\r\nDTSTART:2020-12-25\r\nEND:VEVENT\r\n")));
+        assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+
+        assertThrows(IOException.class, () -> new ICalendarImporter(2020, 2020)
+                .importHolidays(channel("BEGIN:VEVENT\r\nDTSTART:20201225\r\n")));
+    }
+
+    @Test
+    void otherRecurrencesYieldTheirFirstOccurrence() throws IOException {
+        Holidays holidays = new ICalendarImporter(2020, 2021).importHolidays(channel("BEGIN:VCALENDAR\r\n" +
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200106\r\nRRULE:FREQ=WEEKLY;BYDAY=MO,WE\r\nEND:VEVENT\r\n" +
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200131\r\nRRULE:FREQ=MONTHLY;BYMONTHDAY=-1\r\nEND:VEVENT\r\n" +
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200301\r\nRRULE:FREQ=YEARLY;BYMONTH=3,9;BYMONTHDAY=1\r\nEND:VEVENT\r\n" +
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200430\r\nRRULE:FREQ=YEARLY;BYMONTHDAY=-1\r\nEND:VEVENT\r\n" +
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200601\r\nRRULE:FREQ=YEARLY;BYMONTH=6;BYDAY=MO\r\nEND:VEVENT\r\n" +
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200701\r\nRRULE:FREQ=YEARLY;BYYEARDAY=183\r\nEND:VEVENT\r\n" +
+                "END:VCALENDAR"));
+
+        assertEquals(6, holidays.size());
+        assertTrue(holidays.contains(LocalDate.of(2020, 1, 6)));
+        assertTrue(holidays.contains(LocalDate.of(2020, 1, 31)));
+        assertTrue(holidays.contains(LocalDate.of(2020, 3, 1)));
+        assertTrue(holidays.contains(LocalDate.of(2020, 4, 30)));
+        assertTrue(holidays.contains(LocalDate.of(2020, 6, 1)));
+        assertTrue(holidays.contains(LocalDate.of(2020, 7, 1)));
+    }
+
+    @Test
+    void invalidYearlyRulesCarryTheLine() {
+        IOException e = assertThrows(IOException.class, () -> new ICalendarImporter(2020, 2021).importHolidays(channel(
+                "BEGIN:VEVENT\r\nDTSTART;VALUE=DATE:20200201\r\nRRULE:FREQ=YEARLY;BYMONTH=2;BYMONTHDAY=30\r\nEND:VEVENT\r\n")));
+        assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+    }
+
+    private static ReadableByteChannel channel(String text) {
+        return Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,83 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.epochDay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessDayBuffersTest {
+
+    CompiledCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2019, 12, 26))))
+                .build()
+                .compile(LocalDate.of(2019, 01, 01), LocalDate.of(2030, 12, 31));
+    }
+
+    @Test
+    void addBusinessDays_directBuffers() {
+        IntBuffer dates = ByteBuffer.allocateDirect(3 * Integer.BYTES).asIntBuffer();
+        IntBuffer offsets = ByteBuffer.allocateDirect(3 * Integer.BYTES).asIntBuffer();
+        IntBuffer out = ByteBuffer.allocateDirect(3 * Integer.BYTES).asIntBuffer();
+        dates.put(epochDay(2019, 12, 20)).put(epochDay(2019, 12, 20)).put(epochDay(2019, 12, 23)).flip();
+        offsets.put(0).put(1).put(-1).flip();
+
+        assertEquals(3, BusinessDayBuffers.addBusinessDays(calendar, dates, offsets, out));
+        assertEquals(0, dates.remaining());
+        assertEquals(epochDay(2019, 12, 20), out.get(0));
+        assertEquals(epochDay(2019, 12, 23), out.get(1));
+        assertEquals(epochDay(2019, 12, 20), out.get(2));
+    }
+
+    @Test
+    void addBusinessDays_longDates() {
+        LongBuffer dates = LongBuffer.wrap(new long[] { 0, epochDay(2019, 12, 20), epochDay(2019, 12, 23) });
+        dates.position(1);
+        IntBuffer offsets = IntBuffer.wrap(new int[] { 2, 2 });
+        LongBuffer out = LongBuffer.allocate(2);
+
+        BusinessDayBuffers.addBusinessDays(calendar, dates, offsets, out);
+        assertEquals(epochDay(2019, 12, 24), out.get(0));
+        assertEquals(epochDay(2019, 12, 27), out.get(1));
+    }
+
+    @Test
+    void countBusinessDays() {
+        IntBuffer from = IntBuffer.wrap(new int[] { epochDay(2019, 12, 23), epochDay(2019, 12, 30) });
+        IntBuffer to = IntBuffer.wrap(new int[] { epochDay(2019, 12, 30), epochDay(2019, 12, 23) });
+        IntBuffer out = IntBuffer.allocate(2);
+
+        BusinessDayBuffers.countBusinessDays(calendar, from, to, out);
+        assertEquals(3, out.get(0));
+        assertEquals(-3, out.get(1));
+    }
+
+    @Test
+    void isBusinessDay() {
+        IntBuffer dates = IntBuffer.wrap(new int[] { epochDay(2019, 12, 24), epochDay(2019, 12, 25) });
+        ByteBuffer out = ByteBuffer.allocate(2);
+
+        BusinessDayBuffers.isBusinessDay(calendar, dates, out);
+        assertEquals(1, out.get(0));
+        assertEquals(0, out.get(1));
+    }
+
+    @Test
+    void outputTooSmall() {
+        IntBuffer dates = IntBuffer.wrap(new int[] { epochDay(2019, 12, 24), epochDay(2019, 12, 25) });
+        assertThrows(IllegalArgumentException.class,
+                () -> BusinessDayBuffers.addBusinessDays(calendar, dates, 1, IntBuffer.allocate(1)));
+    }
+}
@@ -0,0 +1,62 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.compile;
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.epochDay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarDiffTest {
+
+    @Test
+    void reportsOpenedAndClosedDays() {
+        CompiledCalendar older = compile(new Holidays(Arrays.asList(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 25))),
+                LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31));
+        CompiledCalendar newer = compile(new Holidays(Arrays.asList(LocalDate.of(2020, 12, 25), LocalDate.of(2021, 12, 31))),
+                LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31));
+
+        CalendarDiff diff = CalendarDiff.of(older, newer);
+
+        assertArrayEquals(new int[] { epochDay(2020, 01, 01) }, diff.getOpenedEpochDays());
+        assertArrayEquals(new int[] { epochDay(2021, 12, 31) }, diff.getClosedEpochDays());
+        assertEquals(epochDay(2020, 01, 01), diff.getFirstChangedEpochDay());
+        assertTrue(CalendarDiff.of(older, older).isEmpty());
+        assertEquals(Integer.MAX_VALUE, CalendarDiff.of(older, older).getFirstChangedEpochDay());
+    }
+
+    @Test
+    void comparesTheIntersectionOfMisalignedRanges() {
+        CompiledCalendar older = compile(new Holidays(), LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 31));
+        CompiledCalendar newer = compile(new Holidays(Arrays.asList(LocalDate.of(2019, 12, 31), LocalDate.of(2020, 03, 03),
+                LocalDate.of(2020, 12, 31))), LocalDate.of(2019, 12, 01), LocalDate.of(2020, 12, 30));
+
+        CalendarDiff diff = CalendarDiff.of(older, newer);
+
+        assertEquals(0, diff.getOpenedEpochDays().length);
+        assertArrayEquals(new int[] { epochDay(2020, 03, 03) }, diff.getClosedEpochDays());
+        assertEquals("app.pickmaven.businessdays.calendar.CalendarDiff{opened=0, closed=1, from=2020-03-03}", diff.toString());
+    }
+
+    @Test
+    void matchesADayByDayComparison() {
+        CompiledCalendar older = compile(new Holidays(), LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31));
+        CompiledCalendar newer = CompiledCalendar.of(LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31), day -> day % 3 != 0);
+
+        CalendarDiff diff = CalendarDiff.of(older, newer);
+
+        int opened = 0;
+        int closed = 0;
+        for (int day = older.getFirstEpochDay(); day <= older.getLastEpochDay(); day++) {
+            if (!older.isBusinessDay(day) && newer.isBusinessDay(day)) {
+                assertEquals(day, diff.getOpenedEpochDays()[opened++]);
+            } else if (older.isBusinessDay(day) && !newer.isBusinessDay(day)) {
+                assertEquals(day, diff.getClosedEpochDays()[closed++]);
+            }
+        }
+        assertEquals(opened + closed, diff.size());
+    }
+}
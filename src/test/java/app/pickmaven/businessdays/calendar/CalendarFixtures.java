@@ -0,0 +1,27 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Helpers shared by the tests of the compiled calendars.
+ */
+final class CalendarFixtures {
+
+    private CalendarFixtures() { }
+
+    static int epochDay(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    static CompiledCalendar compile(Holidays holidays, LocalDate from, LocalDate to) {
+        return BusinessDay.Builder.aBusinessDay().givenHolidays(holidays).build().compile(from, to);
+    }
+
+    static CompiledCalendar compile(List<LocalDate> holidays, LocalDate from, LocalDate to) {
+        return compile(new Holidays(holidays), from, to);
+    }
+}
@@ -0,0 +1,75 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.compile;
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.epochDay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarHistoryTest {
+
+    static final LocalDate FROM = LocalDate.of(2024, 01, 01);
+    static final LocalDate TO = LocalDate.of(2026, 12, 31);
+
+    CalendarHistory history;
+
+    @BeforeEach
+    void setUp() {
+        history = new CalendarHistory("IT");
+        history.record(Instant.parse("2024-11-01T00:00:00Z"), compile(Arrays.asList(LocalDate.of(2025, 12, 25)), FROM, TO));
+        history.record(Instant.parse("2025-02-15T00:00:00Z"), compile(Arrays.asList(LocalDate.of(2025, 12, 25), LocalDate.of(2025, 03, 04)), FROM, TO));
+        history.record(Instant.parse("2025-03-03T00:00:00Z"), compile(Arrays.asList(LocalDate.of(2025, 12, 25)), FROM, TO));
+    }
+
+    @Test
+    void asOfAnswersWithTheVersionValidAtTheInstant() {
+        int tradeDate = epochDay(2025, 03, 03);
+
+        assertEquals(epochDay(2025, 03, 06), history.asOf(Instant.parse("2025-03-01T00:00:00Z")).addBusinessDays(tradeDate, 2));
+        assertEquals(epochDay(2025, 03, 05), history.asOf(Instant.parse("2025-03-03T00:00:00Z")).addBusinessDays(tradeDate, 2));
+        assertEquals(epochDay(2025, 03, 05), history.asOf(Instant.parse("2025-01-01T00:00:00Z")).addBusinessDays(tradeDate, 2));
+        assertSame(history.current(), history.asOf(Instant.parse("2030-01-01T00:00:00Z")));
+        assertThrows(IllegalArgumentException.class, () -> history.asOf(Instant.parse("2024-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void versionsShareTheWordsThatDidNotChange() {
+        assertEquals(3, history.size());
+        assertEquals(1, history.fullVersions());
+        RegionalCalendar holiday = history.asOf(Instant.parse("2025-03-01T00:00:00Z"));
+        assertSame(history.current().getRoot(), holiday.getRoot());
+        assertEquals(1, holiday.deltaWords());
+        assertEquals(0, history.current().deltaWords());
+
+        history.record(Instant.parse("2025-06-01T00:00:00Z"), BusinessDay.Builder.aBusinessDay().build().compile(FROM, LocalDate.of(2027, 12, 31)));
+        assertEquals(2, history.fullVersions());
+        assertThrows(IllegalArgumentException.class, () -> history.record(Instant.parse("2025-06-01T00:00:00Z"), compile(new Holidays(), FROM, TO)));
+    }
+
+    @Test
+    void versionsMatchTheirCompiledCalendars() {
+        CompiledCalendar compiled = compile(Arrays.asList(LocalDate.of(2025, 12, 25), LocalDate.of(2025, 03, 04)), FROM, TO);
+        RegionalCalendar version = history.asOf(Instant.parse("2025-03-01T00:00:00Z"));
+        int first = compiled.getFirstEpochDay();
+        int last = compiled.getLastEpochDay();
+
+        for (int day = first; day <= last; day++) {
+            assertEquals(compiled.isBusinessDay(day), version.isBusinessDay(day));
+            if (day + 10 < last) {
+                assertEquals(compiled.addBusinessDays(day, 3), version.addBusinessDays(day, 3));
+            }
+            if (day - 10 > first) {
+                assertEquals(compiled.addBusinessDays(day, -3), version.addBusinessDays(day, -3));
+            }
+        }
+        assertEquals(compiled.addBusinessDays(first, compiled.size() - 1), version.addBusinessDays(first, compiled.size() - 1));
+        assertThrows(IllegalArgumentException.class, () -> version.addBusinessDays(first, compiled.size() + 1));
+    }
+}
@@ -0,0 +1,78 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.CategorizedHolidays;
+import app.pickmaven.businessdays.HolidayCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.epochDay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategorizedCalendarTest {
+
+    CategorizedHolidays holidays;
+    CategorizedCalendar calendars;
+
+    @BeforeEach
+    void setUp() {
+        holidays = CategorizedHolidays.Builder.aCategorizedHolidays()
+                .add(LocalDate.of(2020, 12, 25), HolidayCategory.PUBLIC, HolidayCategory.BANK)
+                .add(LocalDate.of(2020, 12, 24), HolidayCategory.BANK)
+                .add(LocalDate.of(2020, 12, 31), HolidayCategory.SETTLEMENT)
+                .add(LocalDate.of(2020, 12, 31), HolidayCategory.OBSERVANCE)
+                .add(LocalDate.of(2020, 11, 11), HolidayCategory.OBSERVANCE)
+                .build();
+        CompiledCalendar base = BusinessDay.Builder.aBusinessDay()
+                .withEarlyClose(LocalDate.of(2020, 12, 24), LocalTime.NOON)
+                .build()
+                .compile(LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31));
+        calendars = CategorizedCalendar.of(base, holidays);
+    }
+
+    @Test
+    void categories() {
+        assertEquals(4, holidays.size());
+        assertEquals(HolidayCategory.maskOf(HolidayCategory.SETTLEMENT, HolidayCategory.OBSERVANCE),
+                holidays.categoriesOf(LocalDate.of(2020, 12, 31)));
+        assertEquals(EnumSet.of(HolidayCategory.PUBLIC, HolidayCategory.BANK), holidays.getCategories(LocalDate.of(2020, 12, 25)));
+        assertEquals(0, holidays.categoriesOf(LocalDate.of(2020, 12, 30)));
+        assertEquals(2, holidays.getHolidays(HolidayCategory.BANK).size());
+        assertEquals(4, holidays.getHolidays(HolidayCategory.ALL).size());
+        assertEquals(0, holidays.getHolidays().size());
+    }
+
+    @Test
+    void derivedCalendars() {
+        CompiledCalendar bank = calendars.calendar(HolidayCategory.BANK);
+        CompiledCalendar settlement = calendars.calendar(HolidayCategory.PUBLIC, HolidayCategory.SETTLEMENT);
+
+        assertSame(calendars.getBase(), calendars.calendar());
+        assertSame(bank, calendars.calendar(HolidayCategory.BANK.mask()));
+        assertEquals(calendars.getBase().size() - 2, bank.size());
+        assertFalse(bank.isBusinessDay(epochDay(2020, 12, 24)));
+        assertTrue(bank.isBusinessDay(epochDay(2020, 12, 31)));
+        assertEquals(0, bank.partialDays());
+        assertTrue(settlement.isPartialDay(epochDay(2020, 12, 24)));
+        assertFalse(settlement.isBusinessDay(epochDay(2020, 12, 31)));
+        assertEquals(calendars.getBase().size() - 4, calendars.calendar(HolidayCategory.ALL).size());
+    }
+
+    @Test
+    void derivedCalendars_matchFilteredHolidays() {
+        for (int mask = 0; mask <= HolidayCategory.ALL; mask++) {
+            CompiledCalendar expected = BusinessDay.Builder.aBusinessDay()
+                    .givenHolidays(holidays.getHolidays(mask))
+                    .build()
+                    .compile(LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31));
+            CompiledCalendar derived = calendars.calendar(mask);
+            for (int day = derived.getFirstEpochDay(); day <= derived.getLastEpochDay(); day++) {
+                assertEquals(expected.isBusinessDay(day), derived.isBusinessDay(day));
+            }
+        }
+    }
+}
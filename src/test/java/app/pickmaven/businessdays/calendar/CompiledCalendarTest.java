@@ -0,0 +1,113 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.epochDay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledCalendarTest {
+
+    BusinessDay businessDay;
+    CompiledCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        List<LocalDate> holidayList = new ArrayList<LocalDate>(){{
+            add(LocalDate.of(2019, 04, 25));
+            add(LocalDate.of(2019, 12, 25));
+            add(LocalDate.of(2019, 12, 26));
+        }};
+        businessDay = BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(new Holidays(holidayList))
+                .build();
+        calendar = businessDay.compile(LocalDate.of(2019, 01, 01), LocalDate.of(2020, 12, 31));
+    }
+
+    @Test
+    void isBusinessDay() {
+        assertFalse(calendar.isBusinessDay(epochDay(2019, 12, 25)));
+        assertFalse(calendar.isBusinessDay(epochDay(2019, 12, 28)));
+        assertTrue(calendar.isBusinessDay(epochDay(2019, 12, 27)));
+    }
+
+    @Test
+    void addBusinessDays_matchesBusinessDay() {
+        for (LocalDate date = LocalDate.of(2019, 01, 01); date.isBefore(LocalDate.of(2020, 11, 01)); date = date.plusDays(1)) {
+            LocalDate expected = BusinessDay.Builder.aBusinessDay()
+                    .fromStartingDate(date)
+                    .givenHolidays(businessDay.getHolidays())
+                    .build()
+                    .nextBusinessDay(3)
+                    .asLocalDate();
+            assertEquals(expected.toEpochDay(), calendar.addBusinessDays((int) date.toEpochDay(), 3));
+        }
+    }
+
+    @Test
+    void addBusinessDays_backwards() {
+        assertEquals(epochDay(2019, 12, 24), calendar.addBusinessDays(epochDay(2019, 12, 27), -1));
+        assertEquals(epochDay(2019, 12, 20), calendar.addBusinessDays(epochDay(2019, 12, 27), -3));
+    }
+
+    @Test
+    void addBusinessDays_outsideRange() {
+        assertThrows(IllegalArgumentException.class, () -> calendar.addBusinessDays(epochDay(2020, 12, 30), 5));
+        assertThrows(IllegalArgumentException.class, () -> calendar.isBusinessDay(epochDay(2021, 01, 04)));
+    }
+
+    @Test
+    void countBusinessDays() {
+        assertEquals(3, calendar.countBusinessDays(epochDay(2019, 12, 23), epochDay(2019, 12, 30)));
+        assertEquals(262, calendar.countBusinessDays(epochDay(2020, 01, 01), epochDay(2020, 12, 31) + 1));
+        assertEquals(calendar.size(), calendar.countBusinessDays(calendar.getFirstEpochDay(), calendar.getLastEpochDay() + 1));
+    }
+
+    @Test
+    void countBusinessDays_bulk() {
+        int[] from = new int[37];
+        int[] to = new int[37];
+        int[] out = new int[37];
+        for (int i = 0; i < from.length; i++) {
+            from[i] = epochDay(2019, 01, 01) + i * 11;
+            to[i] = calendar.getLastEpochDay() + 1 - i * 7;
+        }
+
+        calendar.countBusinessDays(from, to, out);
+        for (int i = 0; i < from.length; i++) {
+            assertEquals(calendar.countBusinessDays(from[i], to[i]), out[i]);
+        }
+    }
+
+    @Test
+    void partialDays() {
+        CompiledCalendar partial = BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(businessDay.getHolidays())
+                .withEarlyClose(LocalDate.of(2019, 12, 24), LocalTime.of(13, 0))
+                .withEarlyClose(LocalDate.of(2019, 12, 25), LocalTime.of(13, 0))
+                .build()
+                .compile(LocalDate.of(2019, 01, 01), LocalDate.of(2020, 12, 31));
+
+        assertEquals(1, partial.partialDays());
+        assertTrue(partial.isPartialDay(epochDay(2019, 12, 24)));
+        assertEquals(13 * 3600, partial.closingSecondOfDay(epochDay(2019, 12, 24)));
+        assertEquals(0, partial.closingSecondOfDay(epochDay(2019, 12, 25)));
+        assertEquals(CompiledCalendar.SECONDS_PER_DAY, partial.closingSecondOfDay(epochDay(2019, 12, 27)));
+
+        assertEquals(3 * 3600, partial.businessSeconds(epochDay(2019, 12, 24), 10 * 3600, epochDay(2019, 12, 27), 0));
+        assertEquals(6 * 3600 + 13 * 3600, partial.businessSeconds(epochDay(2019, 12, 23), 18 * 3600, epochDay(2019, 12, 27), 0));
+        assertEquals(-3 * 3600, partial.businessSeconds(epochDay(2019, 12, 27), 0, epochDay(2019, 12, 24), 10 * 3600));
+        assertEquals((long) calendar.size() * CompiledCalendar.SECONDS_PER_DAY,
+                calendar.businessSeconds(calendar.getFirstEpochDay(), 0, calendar.getLastEpochDay() + 1, 0));
+        assertEquals((long) calendar.size() * CompiledCalendar.SECONDS_PER_DAY - 11 * 3600,
+                partial.businessSeconds(partial.getFirstEpochDay(), 0, partial.getLastEpochDay() + 1, 0));
+        assertEquals(1, CompiledCalendar.joint(partial, calendar).partialDays());
+    }
+}
@@ -0,0 +1,83 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayFileLoaderTest {
+
+    Path directory;
+    CompiledCalendar base;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("holidays");
+        directory.toFile().deleteOnExit();
+        write("it.csv", "date,name\n2020-01-01,Capodanno\n2020-04-25,Liberazione\r\n\n# comment\n2020-12-25\n2030-01-01\n");
+        write("it-bz.csv", "2020-01-01\n2020-04-25\n2020-12-25\n2020-12-26\n2020-08-15;Ferragosto");
+        write("empty.csv", "");
+        for (int i = 0; i < 20; i++) {
+            write("region" + i + ".csv", LocalDate.of(2020, 1, 1).plusDays(i * 7) + "\n");
+        }
+        base = BusinessDay.Builder.aBusinessDay().build().compile(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 31));
+    }
+
+    @Test
+    void loadsEachFileIntoACalendar() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            HolidayFileLoader.Result result = HolidayFileLoader.Builder.aHolidayFileLoader()
+                    .withBaseCalendar(base)
+                    .withPool(pool)
+                    .build()
+                    .load(directory, "*.csv");
+
+            assertEquals(23, result.getCalendars().size());
+            CompiledCalendar italy = result.getCalendar("it");
+            CompiledCalendar expected = BusinessDay.Builder.aBusinessDay()
+                    .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 4, 25), LocalDate.of(2020, 12, 25))))
+                    .build()
+                    .compile(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 12, 31));
+            for (int day = base.getFirstEpochDay(); day <= base.getLastEpochDay(); day++) {
+                assertEquals(expected.isBusinessDay(day), italy.isBusinessDay(day));
+            }
+            assertEquals(base.size() - 2, result.getCalendar("it-bz").size()); // 04-25, 08-15 and 12-26 are Saturdays
+            assertEquals(base.size(), result.getCalendar("empty").size());
+
+            HolidayFileLoader.FileStatistics statistics = result.getStatistics().get(result.getStatistics().size() - 1);
+            assertEquals("region9", statistics.getName());
+            assertEquals(1, statistics.getRows());
+            assertEquals(5, result.getStatistics().get(1).getRows());
+            assertEquals(4, result.getStatistics().get(2).getRows());
+            assertTrue(result.getStatistics().get(1).getNanos() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void errorsCarryFileAndLine() throws IOException {
+        write("bad.csv", "2020-01-01\n2020-02-30\n");
+        HolidayFileLoader loader = HolidayFileLoader.Builder.aHolidayFileLoader().withBaseCalendar(base).build();
+
+        IOException e = assertThrows(IOException.class, () -> loader.load(Arrays.asList(directory.resolve("it.csv"), directory.resolve("bad.csv"))));
+        assertTrue(e.getMessage().contains("bad.csv:2"), e.getMessage());
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        file.toFile().deleteOnExit();
+    }
+}
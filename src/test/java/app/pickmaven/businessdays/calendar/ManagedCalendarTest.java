@@ -0,0 +1,160 @@
+package app.pickmaven.businessdays.calendar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.compile;
+import static app.pickmaven.businessdays.calendar.CalendarFixtures.epochDay;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ManagedCalendarTest {
+
+    static final LocalDate FROM = LocalDate.of(2020, 01, 01);
+    static final LocalDate TO = LocalDate.of(2020, 12, 31);
+
+    List<List<LocalDate>> fetches;
+    AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        fetches = new ArrayList<>();
+        fetches.add(Arrays.asList(LocalDate.of(2020, 12, 25)));
+        fetches.add(Arrays.asList(LocalDate.of(2020, 12, 25), LocalDate.of(2020, 12, 24)));
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void sameInstantVersionsAreRecordedInOrder() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Instant now = Instant.parse("2020-06-01T00:00:00Z");
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+        CalendarHistory history = new CalendarHistory("IT");
+        ManagedCalendar calendar = ManagedCalendar.Builder.aManagedCalendar()
+                .named("IT")
+                .withSource(() -> compile(fetches.get(calls.getAndIncrement()), FROM, TO))
+                .withExecutor(executor)
+                .withHistory(history)
+                .withClock(clock)
+                .build();
+        List<CalendarChangeEvent> events = new ArrayList<>();
+        calendar.addListener(events::add);
+        CompiledCalendar first = calendar.get();
+
+        // a second version published while the clock stands still is recorded just after the first
+        CompiledCalendar second = calendar.refresh().get(5, TimeUnit.SECONDS);
+        calendar.publish(first);
+
+        assertEquals(2, calls.get());
+        assertSame(first, calendar.get());
+        assertFalse(calendar.isRefreshing());
+        assertEquals(2, events.size());
+        assertEquals(3, history.size());
+        assertEquals(now, history.getValidFrom(0));
+        assertEquals(now.plusNanos(1), history.getValidFrom(1));
+        assertEquals(now.plusNanos(2), history.getValidFrom(2));
+        assertTrue(history.asOf(now).isBusinessDay(LocalDate.of(2020, 12, 24)));
+        assertFalse(history.asOf(now.plusNanos(1)).isBusinessDay(LocalDate.of(2020, 12, 24)));
+        assertFalse(second.isBusinessDay((int) LocalDate.of(2020, 12, 24).toEpochDay()));
+        executor.shutdown();
+    }
+
+    @Test
+    void refreshesJoinTheRunningOne() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ManagedCalendar calendar = ManagedCalendar.Builder.aManagedCalendar()
+                .named("IT")
+                .withInitialCalendar(compile(fetches.get(0), FROM, TO))
+                .withSource(() -> {
+                    started.countDown();
+                    release.await();
+                    return compile(fetches.get(1), FROM, TO);
+                })
+                .withExecutor(executor)
+                .build();
+        List<CalendarChangeEvent> events = new ArrayList<>();
+        calendar.addListener(events::add);
+        CompiledCalendar first = calendar.get();
+
+        CompletableFuture<CompiledCalendar> refresh = calendar.refresh();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertSame(refresh, calendar.refresh());
+        assertSame(first, calendar.get());
+        release.countDown();
+
+        CompiledCalendar second = refresh.get(5, TimeUnit.SECONDS);
+        assertSame(second, calendar.get());
+        assertFalse(second.isBusinessDay(epochDay(2020, 12, 24)));
+        assertTrue(first.isBusinessDay(epochDay(2020, 12, 24)));
+        assertEquals(1, events.size());
+        assertEquals("IT", events.get(0).getName());
+        assertArrayEquals(new int[] { epochDay(2020, 12, 24) }, events.get(0).getDiff().getClosedEpochDays());
+        assertNotSame(refresh, calendar.refresh());
+        executor.shutdown();
+    }
+
+    @Test
+    void failedBuildsKeepTheCurrentVersion() throws Exception {
+        CalendarHistory history = new CalendarHistory("IT");
+        Instant[] now = { Instant.parse("2020-06-01T00:00:00Z") };
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        ManagedCalendar calendar = ManagedCalendar.Builder.aManagedCalendar()
+                .named("IT")
+                .withSource(() -> {
+                    if (calls.get() == 1) {
+                        calls.incrementAndGet();
+                        throw new IOException("service unavailable");
+                    }
+                    return compile(fetches.get(Math.min(calls.getAndIncrement(), 1)), FROM, TO);
+                })
+                .withExecutor(Runnable::run)
+                .withHistory(history)
+                .withClock(clock)
+                .build();
+        CompiledCalendar first = calendar.get();
+
+        now[0] = Instant.parse("2020-07-01T00:00:00Z");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> calendar.refresh().get());
+        assertTrue(e.getCause() instanceof IOException);
+        assertSame(first, calendar.get());
+
+        CompiledCalendar second = calendar.refresh().get();
+        assertSame(second, calendar.get());
+        assertEquals(2, history.size());
+        assertTrue(history.asOf(Instant.parse("2020-06-15T00:00:00Z")).isBusinessDay(epochDay(2020, 12, 24)));
+        assertFalse(history.asOf(Instant.parse("2020-07-01T00:00:00Z")).isBusinessDay(epochDay(2020, 12, 24)));
+        assertThrows(IllegalStateException.class, () -> ManagedCalendar.Builder.aManagedCalendar().build());
+    }
+}
@@ -0,0 +1,80 @@
+package app.pickmaven.businessdays.calendar;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionalCalendarTest {
+
+    RegionalCalendar italy;
+    RegionalCalendar lazio;
+    RegionalCalendar rome;
+
+    @BeforeEach
+    void setUp() {
+        CompiledCalendar national = BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 6, 2),
+                        LocalDate.of(2020, 12, 25), LocalDate.of(2021, 1, 1), LocalDate.of(2021, 6, 2))))
+                .build()
+                .compile(LocalDate.of(2020, 01, 01), LocalDate.of(2021, 12, 31));
+        italy = RegionalCalendar.of("IT", national);
+        lazio = italy.child("IT-62").build();
+        rome = lazio.child("IT-RM")
+                .closing(LocalDate.of(2020, 6, 29), LocalDate.of(2021, 6, 29))
+                .opening(LocalDate.of(2020, 6, 2))
+                .build();
+    }
+
+    @Test
+    void childStoresOnlyItsDelta() {
+        assertEquals(0, lazio.deltaWords());
+        assertSame(italy.getRoot(), lazio.compile());
+        assertEquals(2, rome.deltaWords()); // 2020-06-02 and 2020-06-29 share a word
+        assertSame(lazio, rome.getParent());
+        assertEquals(italy.size() - 1, rome.size());
+        assertEquals(italy.getRoot().size() - 1, rome.compile().size());
+        assertFalse(rome.isBusinessDay(LocalDate.of(2020, 6, 29)));
+        assertTrue(rome.isBusinessDay(LocalDate.of(2020, 6, 2)));
+        assertFalse(rome.isBusinessDay(LocalDate.of(2020, 12, 25)));
+        assertTrue(italy.isBusinessDay(LocalDate.of(2020, 6, 29)));
+    }
+
+    @Test
+    void grandChildFoldsTheDeltaOfItsAncestors() {
+        RegionalCalendar office = rome.child("IT-RM-HQ")
+                .opening(LocalDate.of(2020, 6, 29))
+                .closing(LocalDate.of(2020, 6, 2), LocalDate.of(2020, 12, 24))
+                .build();
+
+        assertEquals(2, office.deltaWords());
+        assertTrue(office.isBusinessDay(LocalDate.of(2020, 6, 29)));
+        assertFalse(office.isBusinessDay(LocalDate.of(2020, 6, 2)));
+        assertFalse(office.isBusinessDay(LocalDate.of(2021, 6, 29)));
+        assertEquals(italy.size() - 2, office.size());
+        assertEquals("app.pickmaven.businessdays.calendar.RegionalCalendar{region=IT/IT-62/IT-RM/IT-RM-HQ, businessDays="
+                + office.size() + ", deltaWords=2}", office.toString());
+    }
+
+    @Test
+    void queriesMatchTheMaterializedCalendar() {
+        RegionalCalendar office = rome.child("IT-RM-HQ")
+                .closing(new Holidays(Arrays.asList(LocalDate.of(2020, 3, 2), LocalDate.of(2021, 3, 1))))
+                .build();
+        CompiledCalendar compiled = office.compile();
+        int first = office.getFirstEpochDay();
+        int last = office.getLastEpochDay();
+
+        assertEquals(compiled.size(), office.size());
+        for (int day = first; day <= last; day++) {
+            assertEquals(compiled.isBusinessDay(day), office.isBusinessDay(day));
+            assertEquals(compiled.countBusinessDays(first, day), office.countBusinessDays(first, day));
+            assertEquals(compiled.countBusinessDays(day, last + 1), office.countBusinessDays(day, last + 1));
+        }
+    }
+}
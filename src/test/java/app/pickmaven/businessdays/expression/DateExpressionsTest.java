@@ -0,0 +1,127 @@
+package app.pickmaven.businessdays.expression;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import app.pickmaven.businessdays.calendar.BusinessDayConvention;
+import app.pickmaven.businessdays.calendar.CalendarChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateExpressionsTest {
+
+    DateExpressions expressions;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate from = LocalDate.of(2019, 01, 01);
+        LocalDate to = LocalDate.of(2021, 12, 31);
+        expressions = new DateExpressions()
+                .register("IT", BusinessDay.Builder.aBusinessDay()
+                        .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2019, 12, 26))))
+                        .build()
+                        .compile(from, to))
+                .register("US", BusinessDay.Builder.aBusinessDay()
+                        .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2019, 12, 31))))
+                        .build()
+                        .compile(from, to));
+    }
+
+    @Test
+    void businessDays_onJointCalendar() {
+        assertEquals(LocalDate.of(2019, 12, 24), expressions.evaluate("T+2 BD on IT", LocalDate.of(2019, 12, 20)));
+        assertEquals(LocalDate.of(2019, 12, 30), expressions.evaluate("T+2 BD on IT", LocalDate.of(2019, 12, 24)));
+        assertEquals(LocalDate.of(2019, 12, 31), expressions.evaluate("T+2 BD on IT", LocalDate.of(2019, 12, 27)));
+        assertEquals(LocalDate.of(2020, 01, 01), expressions.evaluate("T+2 BD on IT\u222aUS", LocalDate.of(2019, 12, 27)));
+        assertEquals(LocalDate.of(2019, 12, 20), expressions.evaluate("t-2bd on it|us", LocalDate.of(2019, 12, 24)));
+    }
+
+    @Test
+    void calendarDays_withConvention() {
+        assertEquals(LocalDate.of(2019, 11, 29), expressions.evaluate("T+1 CD MODFOLLOWING on IT", LocalDate.of(2019, 11, 29)));
+        assertEquals(LocalDate.of(2019, 12, 2), expressions.evaluate("T+1 CD FOLLOWING on IT", LocalDate.of(2019, 11, 29)));
+        assertEquals(LocalDate.of(2019, 11, 29), expressions.evaluate("T+2 CD MF on IT", LocalDate.of(2019, 11, 28)));
+        assertEquals(LocalDate.of(2019, 12, 1), expressions.evaluate("T+2 CD", LocalDate.of(2019, 11, 29)));
+    }
+
+    @Test
+    void plansAreCached() {
+        DatePlan plan = expressions.compile("T+2 BD MODFOLLOWING on IT\u222aUS");
+        assertSame(plan, expressions.compile("T+2 BD MODFOLLOWING on IT\u222aUS"));
+        assertEquals(BusinessDayConvention.MODIFIED_FOLLOWING, plan.getConvention());
+        assertSame(plan.getCalendar(), expressions.compile("T+3 BD on US, IT").getCalendar());
+        assertEquals(2, expressions.cachedPlans());
+    }
+
+    @Test
+    void replacingACalendarDropsOnlyThePlansUsingIt() {
+        DatePlan italy = expressions.compile("T+2 BD on IT");
+        DatePlan joint = expressions.compile("T+2 BD on IT\u222aUS");
+        DatePlan us = expressions.compile("T+2 BD on US");
+        List<CalendarChangeEvent> events = new ArrayList<>();
+        expressions.addListener(events::add);
+
+        expressions.register("it", BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2020, 01, 06))))
+                .build()
+                .compile(LocalDate.of(2019, 01, 01), LocalDate.of(2021, 12, 31)));
+
+        assertEquals(1, expressions.cachedPlans());
+        assertSame(us, expressions.compile("T+2 BD on US"));
+        assertNotSame(italy, expressions.compile("T+2 BD on IT"));
+        assertNotSame(joint, expressions.compile("T+2 BD on IT\u222aUS"));
+        assertEquals(LocalDate.of(2019, 12, 27), expressions.evaluate("T+2 BD on IT", LocalDate.of(2019, 12, 24)));
+        assertEquals(1, events.size());
+        assertEquals("IT", events.get(0).getName());
+        assertEquals(LocalDate.of(2019, 12, 26).toEpochDay(), events.get(0).getFromEpochDay());
+        assertEquals(LocalDate.of(2020, 01, 06).toEpochDay(), events.get(0).getToEpochDay());
+        assertTrue(events.get(0).overlaps(LocalDate.of(2020, 01, 01), LocalDate.of(2020, 01, 31)));
+        assertFalse(events.get(0).overlaps(LocalDate.of(2020, 02, 01), LocalDate.of(2020, 12, 31)));
+    }
+
+    @Test
+    void defaultCalendar() {
+        assertThrows(DateTimeParseException.class, () -> expressions.compile("T+2 BD"));
+        expressions.withDefaultCalendar("US");
+        assertEquals(LocalDate.of(2019, 12, 27), expressions.evaluate("T+2 BD", LocalDate.of(2019, 12, 24)));
+    }
+
+    @Test
+    void malformedExpressions() {
+        DateTimeParseException e = assertThrows(DateTimeParseException.class, () -> expressions.compile("T+2 XD on IT"));
+        assertEquals(4, e.getErrorIndex());
+        assertThrows(DateTimeParseException.class, () -> expressions.compile("X+2 BD on IT"));
+        assertThrows(DateTimeParseException.class, () -> expressions.compile("T+2 BD on IT\u222a"));
+        assertThrows(IllegalArgumentException.class, () -> expressions.compile("T+2 BD on FR"));
+    }
+
+    @Test
+    void offsetsBeyondIntAreRejected() {
+        assertEquals(Integer.MAX_VALUE, expressions.compile("T+2147483647 CD on IT").getOffset());
+        DateTimeParseException e = assertThrows(DateTimeParseException.class, () -> expressions.compile("T+2147483648 BD on IT"));
+        assertEquals(11, e.getErrorIndex());
+        e = assertThrows(DateTimeParseException.class, () -> expressions.compile("T+4294967298 BD on IT"));
+        assertEquals(11, e.getErrorIndex());
+        e = assertThrows(DateTimeParseException.class, () -> expressions.compile("T+9999999999 BD"));
+        assertEquals(11, e.getErrorIndex());
+        e = assertThrows(DateTimeParseException.class, () -> expressions.compile("T+99999999999 BD on IT"));
+        assertEquals(11, e.getErrorIndex());
+    }
+
+    @Test
+    void cachedPlansAreBounded() {
+        for (int i = 0; i < DateExpressions.MAX_CACHED_PLANS + 10; i++) {
+            expressions.compile("T+" + i + " CD on IT");
+        }
+        assertEquals(DateExpressions.MAX_CACHED_PLANS, expressions.cachedPlans());
+        assertEquals(LocalDate.of(2019, 12, 27), expressions.evaluate("T+2 BD on US", LocalDate.of(2019, 12, 24)));
+        assertEquals(DateExpressions.MAX_CACHED_PLANS, expressions.cachedPlans());
+    }
+}
@@ -0,0 +1,90 @@
+package app.pickmaven.businessdays.rules;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayRuleSetTest {
+
+    private HolidayRuleSet us;
+
+    @BeforeEach
+    void setUp() {
+        us = HolidayRuleSet.of(
+                HolidayRule.fixed(Month.JANUARY, 1).observed(WeekendShift.NEAREST_WEEKDAY),
+                HolidayRule.lastWeekday(DayOfWeek.MONDAY, Month.MAY),
+                HolidayRule.fixed(Month.JUNE, 19).effectiveFrom(LocalDate.of(2021, 6, 17)).observed(WeekendShift.NEAREST_WEEKDAY),
+                HolidayRule.fixed(Month.JULY, 4).observed(WeekendShift.NEAREST_WEEKDAY),
+                HolidayRule.nthWeekday(4, DayOfWeek.THURSDAY, Month.NOVEMBER),
+                HolidayRule.easterOffset(-2));
+    }
+
+    @Test
+    void expandsRules() {
+        assertEquals(LocalDate.of(2019, 11, 28), HolidayRule.nthWeekday(4, DayOfWeek.THURSDAY, Month.NOVEMBER).dateIn(2019));
+        assertEquals(LocalDate.of(2020, 5, 25), HolidayRule.lastWeekday(DayOfWeek.MONDAY, Month.MAY).dateIn(2020));
+        assertEquals(LocalDate.of(2020, 4, 10), HolidayRule.easterOffset(-2).dateIn(2020));
+        assertEquals(LocalDate.of(2020, 7, 3), HolidayRule.fixed(Month.JULY, 4).observed(WeekendShift.NEAREST_WEEKDAY).dateIn(2020));
+        assertEquals(LocalDate.of(2021, 7, 5), HolidayRule.fixed(Month.JULY, 4).observed(WeekendShift.FOLLOWING_MONDAY).dateIn(2021));
+        assertEquals(LocalDate.of(2020, 7, 4), HolidayRule.fixed(Month.JULY, 4).observed(WeekendShift.SUNDAY_TO_MONDAY).dateIn(2020));
+        assertNull(HolidayRule.fixed(Month.FEBRUARY, 29).dateIn(2021));
+        assertNull(HolidayRule.nthWeekday(5, DayOfWeek.MONDAY, Month.FEBRUARY).dateIn(2021));
+        assertEquals(LocalDate.of(2021, 3, 29), HolidayRule.nthWeekday(5, DayOfWeek.MONDAY, Month.MARCH).dateIn(2021));
+    }
+
+    @Test
+    void expandsYearsOnDemand() {
+        assertEquals(0, us.cachedYears());
+        assertTrue(us.isHoliday(LocalDate.of(2021, 6, 18)));
+        assertEquals(1, us.cachedYears());
+        assertFalse(us.isHoliday(LocalDate.of(2020, 6, 19)));
+        assertEquals(2, us.cachedYears());
+
+        // New Year's Day 2022 falls on a Saturday and is observed in 2021
+        assertTrue(us.isHoliday(LocalDate.of(2021, 12, 31)));
+        Holidays y2022 = us.getHolidays(2022);
+        assertFalse(y2022.contains(LocalDate.of(2022, 1, 1)));
+        assertEquals(5, y2022.size());
+        assertEquals(7, us.getHolidays(2021).size());
+        assertEquals(12, us.getHolidays(2021, 2022).size());
+    }
+
+    @Test
+    void businessDayChecksRules() {
+        BusinessDay b = BusinessDay.Builder.aBusinessDay()
+                .fromStartingDate(LocalDate.of(2019, 11, 27))
+                .givenHolidayRules(us)
+                .build();
+        assertEquals(LocalDate.of(2019, 11, 29), b.nextBusinessDay().asLocalDate());
+    }
+
+    @Test
+    void lunarRules() {
+        HolidayRule eidAlFitr = HolidayRule.hijri(10, 1);
+        assertEquals(LocalDate.of(2020, 5, 24), eidAlFitr.dateIn(2020));
+        assertEquals(LocalDate.of(2023, 4, 21), eidAlFitr.dateIn(2023));
+        assertEquals(LocalDate.of(2020, 7, 31), HolidayRule.hijri(12, 10).dateIn(2020));
+
+        // 1 Muharram fell twice in 2008, on January 10th and December 29th
+        HolidayRuleSet newYear = HolidayRuleSet.of(HolidayRule.hijri(1, 1));
+        int[] days = newYear.epochDaysIn(2008);
+        assertEquals(2, days.length);
+        assertEquals(LocalDate.of(2008, 1, 10), LocalDate.ofEpochDay(days[0]));
+        assertEquals(LocalDate.of(2008, 12, 29), LocalDate.ofEpochDay(days[1]));
+        assertEquals(2, HolidayRuleSet.of(HolidayRule.hijri(1, 1).observed(WeekendShift.SUNDAY_TO_MONDAY)).epochDaysIn(2008).length);
+        assertNull(eidAlFitr.dateIn(2500));
+
+        assertEquals(LocalDate.of(2024, 2, 10), HolidayRule.chineseNewYear(0).dateIn(2024));
+        assertEquals(LocalDate.of(2034, 2, 19), HolidayRule.chineseNewYear(0).dateIn(2034));
+        assertEquals(LocalDate.of(1900, 1, 31), HolidayRule.chineseNewYear(0).dateIn(1900));
+        assertEquals(LocalDate.of(2025, 1, 28), HolidayRule.chineseNewYear(-1).dateIn(2025));
+        assertNull(HolidayRule.chineseNewYear(0).dateIn(2101));
+    }
+}
@@ -0,0 +1,130 @@
+package app.pickmaven.businessdays.schedule;
+
+import app.pickmaven.businessdays.BusinessDay;
+import app.pickmaven.businessdays.Holidays;
+import app.pickmaven.businessdays.calendar.CompiledCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessDaySchedulerTest {
+
+    ZoneId rome = ZoneId.of("Europe/Rome");
+    CompiledCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = BusinessDay.Builder.aBusinessDay()
+                .givenHolidays(new Holidays(Arrays.asList(LocalDate.of(2019, 12, 25), LocalDate.of(2019, 12, 26))))
+                .build()
+                .compile(LocalDate.of(2019, 01, 01), LocalDate.of(2019, 12, 31));
+    }
+
+    @Test
+    void nextFireTime_skipsHolidaysAndWeekends() {
+        BusinessDaySchedule schedule = schedule(Clock.systemUTC());
+        Instant tuesdayEvening = ZonedDateTime.of(2019, 12, 24, 19, 0, 0, 0, rome).toInstant();
+        Instant tuesdayMorning = ZonedDateTime.of(2019, 12, 24, 9, 0, 0, 0, rome).toInstant();
+        Instant saturday = ZonedDateTime.of(2019, 12, 28, 9, 0, 0, 0, rome).toInstant();
+
+        assertEquals(ZonedDateTime.of(2019, 12, 27, 18, 0, 0, 0, rome).toInstant(), schedule.nextFireTime(tuesdayEvening));
+        assertEquals(ZonedDateTime.of(2019, 12, 24, 18, 0, 0, 0, rome).toInstant(), schedule.nextFireTime(tuesdayMorning));
+        assertEquals(ZonedDateTime.of(2019, 12, 30, 18, 0, 0, 0, rome).toInstant(), schedule.nextFireTime(saturday));
+    }
+
+    @Test
+    void nextFireTime_outsideCalendar() {
+        BusinessDaySchedule schedule = schedule(Clock.systemUTC());
+        Instant before = ZonedDateTime.of(2018, 12, 31, 19, 0, 0, 0, rome).toInstant();
+        Instant lastDay = ZonedDateTime.of(2019, 12, 31, 19, 0, 0, 0, rome).toInstant();
+
+        assertEquals(ZonedDateTime.of(2019, 01, 01, 18, 0, 0, 0, rome).toInstant(), schedule.nextFireTime(before));
+        assertNull(schedule.nextFireTime(lastDay));
+    }
+
+    @Test
+    void armsOneDelayedTask_andCancels() throws InterruptedException {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        Clock clock = Clock.fixed(ZonedDateTime.of(2019, 12, 24, 19, 0, 0, 0, rome).toInstant(), rome);
+        BusinessDaySchedule schedule = new BusinessDayScheduler(executor, clock)
+                .scheduleOnBusinessDays(() -> { }, LocalTime.of(18, 0), calendar, rome);
+
+        assertEquals(ZonedDateTime.of(2019, 12, 27, 18, 0, 0, 0, rome).toInstant(), schedule.getNextFireTime());
+        assertEquals(71, schedule.getDelay(TimeUnit.HOURS));
+        assertTrue(schedule.cancel(false));
+        assertTrue(schedule.isDone());
+        assertThrows(CancellationException.class, schedule::get);
+        executor.shutdown();
+    }
+
+    @Test
+    void runsTask_whenDue() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        Instant firing = ZonedDateTime.of(2019, 12, 27, 18, 0, 0, 0, rome).toInstant();
+        AtomicReference<Instant> now = new AtomicReference<>(firing.minusMillis(100));
+        CountDownLatch ran = new CountDownLatch(1);
+
+        BusinessDaySchedule schedule = new BusinessDayScheduler(executor, steppedClock(now))
+                .scheduleOnBusinessDays(ran::countDown, LocalTime.of(18, 0), calendar, rome);
+        assertEquals(firing, schedule.getNextFireTime());
+        now.set(firing);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(schedule.cancel(false));
+        executor.shutdown();
+    }
+
+    @Test
+    void failsWhenExecutorShutsDownBetweenFirings() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        Instant firing = ZonedDateTime.of(2019, 12, 27, 18, 0, 0, 0, rome).toInstant();
+        AtomicReference<Instant> now = new AtomicReference<>(firing.minusMillis(100));
+        BusinessDaySchedule schedule = new BusinessDayScheduler(executor, steppedClock(now))
+                .scheduleOnBusinessDays(executor::shutdown, LocalTime.of(18, 0), calendar, rome);
+        now.set(firing);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> schedule.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertTrue(schedule.isDone());
+        assertNull(schedule.getNextFireTime());
+        assertFalse(schedule.cancel(false));
+    }
+
+    /**
+     * A clock standing still at the instant held by now, moved by the test.
+     */
+    private Clock steppedClock(AtomicReference<Instant> now) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return rome;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+    }
+
+    private BusinessDaySchedule schedule(Clock clock) {
+        return new BusinessDaySchedule(() -> { }, LocalTime.of(18, 0), calendar, rome, null, clock);
+    }
+}
@@ -0,0 +1,74 @@
+package app.pickmaven.businessdays.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IsoDatesTest {
+
+    @Test
+    void roundTripsEveryDayOfFourCenturies() {
+        char[] chars = new char[IsoDates.LENGTH];
+        byte[] bytes = new byte[IsoDates.LENGTH];
+        for (LocalDate d = LocalDate.of(1800, 1, 1); d.getYear() < 2200; d = d.plusDays(1)) {
+            int epochDay = (int) d.toEpochDay();
+            String expected = d.toString();
+
+            IsoDates.format(epochDay, chars, 0);
+            assertEquals(expected, new String(chars));
+            IsoDates.format(epochDay, bytes, 0);
+            assertEquals(expected, new String(bytes, StandardCharsets.US_ASCII));
+
+            assertEquals(epochDay, IsoDates.parseEpochDay(chars, 0));
+            assertEquals(epochDay, IsoDates.parseEpochDay(bytes, 0));
+            assertEquals(epochDay, IsoDates.parseEpochDay(expected, 0));
+            assertEquals(d.getYear(), IsoDates.yearOf(epochDay));
+        }
+    }
+
+    @Test
+    void readsAtOffset() {
+        assertEquals(LocalDate.of(2019, 12, 25).toEpochDay(), IsoDates.parseEpochDay("xx2019-12-25|", 2));
+        assertEquals(LocalDate.of(2020, 2, 29), IsoDates.parse("2020-02-29"));
+        assertEquals(LocalDate.of(2020, 2, 29), IsoDates.parseIsoDate("2020-02-29+01:00"));
+        assertEquals("0001-01-01", IsoDates.format(LocalDate.of(1, 1, 1)));
+    }
+
+    @Test
+    void formatsYearsOutsideFourDigits() {
+        assertEquals("0000-01-01", IsoDates.format(LocalDate.of(0, 1, 1)));
+        assertEquals("9999-12-31", IsoDates.format(LocalDate.of(9999, 12, 31)));
+        assertEquals("+10000-01-01", IsoDates.format(LocalDate.of(10000, 1, 1)));
+        assertEquals("-0001-12-31", IsoDates.format(LocalDate.of(-1, 12, 31)));
+        assertEquals(LocalDate.MAX.toString(), IsoDates.format(LocalDate.MAX));
+
+        char[] chars = new char[IsoDates.LENGTH];
+        assertThrows(DateTimeException.class, () -> IsoDates.format((int) LocalDate.of(10000, 1, 1).toEpochDay(), chars, 0));
+        assertThrows(DateTimeException.class, () -> IsoDates.format(-719529, new byte[IsoDates.LENGTH], 0));
+    }
+
+    @Test
+    void reportsErrorIndex() {
+        DateTimeParseException e = assertThrows(DateTimeParseException.class, () -> IsoDates.parseEpochDay("2019/12-25", 0));
+        assertEquals(4, e.getErrorIndex());
+        e = assertThrows(DateTimeParseException.class, () -> IsoDates.parseEpochDay("2019-1a-25", 0));
+        assertEquals(6, e.getErrorIndex());
+        assertThrows(DateTimeParseException.class, () -> IsoDates.parse("2019-02-29"));
+        assertThrows(DateTimeParseException.class, () -> IsoDates.parse("2019-13-01"));
+        assertThrows(DateTimeParseException.class, () -> IsoDates.parseEpochDay("2019-12-2", 0));
+    }
+
+    @Test
+    void formattersAreShared() {
+        assertSame(DateFormatters.ofPattern("dd/MM/yyyy"), DateFormatters.ofPattern("dd/MM/yyyy"));
+        for (int i = 0; i < 2 * DateFormatters.MAX_PATTERNS; i++) {
+            DateFormatters.ofPattern("'" + i + "'yyyy");
+        }
+        assertEquals("2019", LocalDate.of(2019, 1, 1).format(DateFormatters.ofPattern("yyyy")));
+    }
+}
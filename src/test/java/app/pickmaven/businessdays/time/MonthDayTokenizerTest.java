@@ -0,0 +1,74 @@
+package app.pickmaven.businessdays.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthDayTokenizerTest {
+
+    @Test
+    void literalDelimiters() {
+        int[] expected = {(int) LocalDate.of(2020, 1, 1).toEpochDay(), (int) LocalDate.of(2020, 2, 14).toEpochDay(), (int) LocalDate.of(2020, 12, 25).toEpochDay()};
+
+        assertArrayEquals(expected, MonthDayTokenizer.of("-", "[|]").parseEpochDays(" 01 - 01 | 02-14 | 12-25", 2020));
+        assertArrayEquals(expected, MonthDayTokenizer.of("/", "\\|").parseEpochDays("1/1|2/14|12/25|", 2020));
+        assertArrayEquals(expected, MonthDayTokenizer.of("-", ", ").parseEpochDays("01-01, 02-14, 12-25", 2020));
+        assertEquals(0, MonthDayTokenizer.of("-", ",").parseEpochDays("  ", 2020).length);
+        assertEquals((int) LocalDate.of(2020, 2, 29).toEpochDay(), MonthDayTokenizer.of("-").parseEpochDay("02 -29", 2020));
+    }
+
+    @Test
+    void regexDelimiters() {
+        int[] expected = {(int) LocalDate.of(2019, 4, 25).toEpochDay(), (int) LocalDate.of(2019, 8, 15).toEpochDay(), (int) LocalDate.of(2019, 12, 26).toEpochDay()};
+
+        assertArrayEquals(expected, MonthDayTokenizer.of("[-/]", "\\s*[;,]\\s*").parseEpochDays("04-25; 08/15 ,12-26", 2019));
+        assertArrayEquals(expected, MonthDayTokenizer.of("\\.", "\\s+").parseEpochDays("4.25 8.15\n12.26", 2019));
+    }
+
+    @Test
+    void manyEntries() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            LocalDate date = LocalDate.ofEpochDay((int) LocalDate.of(2020, 1, 1).toEpochDay() + i % 366);
+            text.append(date.getMonthValue()).append('-').append(date.getDayOfMonth()).append('|');
+        }
+        int[] epochDays = MonthDayTokenizer.of("-", "[|]").parseEpochDays(text, 2020);
+
+        assertEquals(20000, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals((int) LocalDate.of(2020, 1, 1).toEpochDay() + i % 366, epochDays[i]);
+        }
+    }
+
+    @Test
+    void errorsCarryTheirPosition() {
+        MonthDayTokenizer tokenizer = MonthDayTokenizer.of("-", "[|]");
+
+        assertEquals(9, assertThrows(DateTimeParseException.class,
+                () -> tokenizer.parseEpochDays("01-01 | 0x-14", 2020)).getErrorIndex());
+        assertEquals(8, assertThrows(DateTimeParseException.class,
+                () -> tokenizer.parseEpochDays("01-01 | 13-01", 2019)).getErrorIndex());
+        assertEquals(11, assertThrows(DateTimeParseException.class,
+                () -> tokenizer.parseEpochDays("01-01 | 02-30", 2020)).getErrorIndex());
+        assertEquals(9, assertThrows(DateTimeParseException.class,
+                () -> tokenizer.parseEpochDays("01-01 |  | 02-14", 2019)).getErrorIndex());
+        assertEquals(6, assertThrows(DateTimeParseException.class,
+                () -> tokenizer.parseEpochDays("01-01|0214", 2019)).getErrorIndex());
+    }
+
+    @Test
+    void leapDayIsClampedInOtherYears() {
+        MonthDayTokenizer tokenizer = MonthDayTokenizer.of("-", "[|]");
+
+        assertEquals((int) LocalDate.of(2019, 2, 28).toEpochDay(), MonthDayTokenizer.of("-").parseEpochDay("02-29", 2019));
+        assertEquals((int) LocalDate.of(1900, 2, 28).toEpochDay(), MonthDayTokenizer.of("-").parseEpochDay("02-29", 1900));
+        assertEquals((int) LocalDate.of(2000, 2, 29).toEpochDay(), MonthDayTokenizer.of("-").parseEpochDay("02-29", 2000));
+        assertArrayEquals(new int[] {(int) LocalDate.of(2019, 2, 28).toEpochDay(), (int) LocalDate.of(2019, 3, 1).toEpochDay()},
+                tokenizer.parseEpochDays("02-29 | 03-01", 2019));
+        assertEquals(9, assertThrows(DateTimeParseException.class,
+                () -> tokenizer.parseEpochDays("01-01|02-30", 2019)).getErrorIndex());
+    }
+}
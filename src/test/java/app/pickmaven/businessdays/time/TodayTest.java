@@ -0,0 +1,70 @@
+package app.pickmaven.businessdays.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodayTest {
+
+    ZoneId rome = ZoneId.of("Europe/Rome");
+
+    @Test
+    void rollsOverAtZoneMidnight() {
+        MutableClock clock = new MutableClock(ZonedDateTime.of(2019, 12, 31, 23, 59, 59, 0, rome).toInstant(), rome);
+        Today today = Today.of(clock);
+        assertEquals(LocalDate.of(2019, 12, 31), today.date());
+        assertEquals(2019, today.year());
+
+        clock.instant = clock.instant.plusSeconds(1);
+        assertEquals(LocalDate.of(2020, 01, 01), today.date());
+        assertEquals(LocalDate.of(2020, 01, 01).toEpochDay(), today.epochDay());
+        assertEquals(2020, today.year());
+
+        clock.instant = clock.instant.minusSeconds(1);
+        assertEquals(LocalDate.of(2019, 12, 31), today.date());
+    }
+
+    @Test
+    void dateTime() {
+        MutableClock clock = new MutableClock(ZonedDateTime.of(2019, 12, 20, 8, 30, 0, 0, rome).toInstant(), rome);
+        Today today = Today.of(clock);
+        assertEquals(LocalDateTime.of(2019, 12, 20, 8, 30), today.dateTime());
+
+        clock.instant = ZonedDateTime.of(2019, 10, 27, 8, 30, 0, 0, rome).toInstant();
+        assertEquals(LocalDateTime.of(2019, 10, 27, 8, 30), today.dateTime());
+    }
+
+    @Test
+    void systemInstancesAreShared() {
+        assertSame(Today.in(rome), Today.in(rome));
+        assertEquals(LocalDate.now(rome), Today.in(rome).date());
+    }
+
+    private static class MutableClock extends Clock {
+
+        Instant instant;
+        final ZoneId zone;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
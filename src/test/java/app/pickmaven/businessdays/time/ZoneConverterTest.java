@@ -0,0 +1,55 @@
+package app.pickmaven.businessdays.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneConverterTest {
+
+    static final String[] ZONES = {"Europe/Rome", "America/New_York", "America/Sao_Paulo", "Australia/Lord_Howe",
+            "Asia/Kolkata", "UTC", "Pacific/Apia"};
+
+    @Test
+    void matchesZonedDateTimeAcrossTransitions() {
+        int[] secondsOfDay = {0, 3600 + 1800, 2 * 3600 + 1800, 12 * 3600, 23 * 3600 + 59 * 60};
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneConverter converter = ZoneConverter.of(zone);
+            for (LocalDate d = LocalDate.of(2009, 1, 1); d.getYear() < 2013; d = d.plusDays(1)) {
+                for (int s : secondsOfDay) {
+                    long expected = ZonedDateTime.of(d, LocalTime.ofSecondOfDay(s), zone).toEpochSecond();
+                    assertEquals(expected, converter.toEpochSecond((int) d.toEpochDay(), s), id + " " + d + " " + s);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bulkConversion() {
+        ZoneId zone = ZoneId.of("Europe/Rome");
+        int[] days = new int[1000];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = (int) LocalDate.of(2018, 1, 1).toEpochDay() + i * 3;
+        }
+        long[] seconds = new long[days.length];
+        ZoneConverter.of(zone).toEpochSeconds(days, 9 * 3600, seconds);
+        Date[] dates = ZoneConverter.of(zone).toDates(days);
+        for (int i = 0; i < days.length; i++) {
+            LocalDate d = LocalDate.ofEpochDay(days[i]);
+            assertEquals(d.atTime(9, 0).atZone(zone).toEpochSecond(), seconds[i]);
+            assertEquals(Date.from(d.atStartOfDay().atZone(zone).toInstant()), dates[i]);
+        }
+    }
+
+    @Test
+    void convertersAreShared() {
+        assertSame(ZoneConverter.of(ZoneId.of("Europe/Rome")), ZoneConverter.of(ZoneId.of("Europe/Rome")));
+        assertEquals(ZoneId.systemDefault(), ZoneConverter.systemDefault().getZone());
+    }
+}
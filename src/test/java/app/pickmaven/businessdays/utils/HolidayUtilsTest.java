@@ -0,0 +1,56 @@
+package app.pickmaven.businessdays.utils;
+
+import app.pickmaven.businessdays.Holiday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayUtilsTest {
+
+    /**
+     * The anonymous Gregorian algorithm (Meeus/Jones/Butcher), as an independent reference.
+     */
+    private static LocalDate referenceEaster(int year) {
+        int a = year % 19, b = year / 100, c = year % 100, d = b / 4, e = b % 4;
+        int f = (b + 8) / 25, g = (b - f + 1) / 3, h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4, k = c % 4, l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31, day = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(year, month, day);
+    }
+
+    @Test
+    void easterTableCoversTheGregorianCalendar() {
+        int[] easters = HolidayUtils.getEasterEpochDays(HolidayUtils.EASTER_TABLE_FIRST_YEAR, HolidayUtils.EASTER_TABLE_LAST_YEAR);
+        for (int year = HolidayUtils.EASTER_TABLE_FIRST_YEAR; year <= HolidayUtils.EASTER_TABLE_LAST_YEAR; year++) {
+            LocalDate expected = referenceEaster(year);
+            assertEquals(expected, LocalDate.ofEpochDay(easters[year - HolidayUtils.EASTER_TABLE_FIRST_YEAR]));
+            assertEquals(expected, HolidayUtils.getEaster(year));
+            assertEquals(expected.plusDays(1), HolidayUtils.getEasterMonday(year));
+        }
+        assertEquals(referenceEaster(4200), HolidayUtils.getEaster(4200));
+    }
+
+    @Test
+    void easterRelativeHolidays() {
+        assertEquals(LocalDate.of(2020, 4, 10), LocalDate.ofEpochDay(HolidayUtils.getGoodFridayEpochDays(2020, 2021)[0]));
+        assertEquals(LocalDate.of(2021, 4, 2), LocalDate.ofEpochDay(HolidayUtils.getGoodFridayEpochDays(2020, 2021)[1]));
+        assertEquals(LocalDate.of(2020, 5, 21), LocalDate.ofEpochDay(HolidayUtils.getAscensionEpochDays(2020, 2020)[0]));
+        assertEquals(LocalDate.of(2020, 5, 31), LocalDate.ofEpochDay(HolidayUtils.getPentecostEpochDays(2020, 2020)[0]));
+        assertEquals(LocalDate.of(2020, 6, 11), LocalDate.ofEpochDay(HolidayUtils.getCorpusChristiEpochDays(2020, 2020)[0]));
+        assertThrows(IllegalArgumentException.class, () -> HolidayUtils.getEasterEpochDays(2021, 2020));
+    }
+
+    @Test
+    void toHolidayList_clampsLeapDayInOtherYears() {
+        assertEquals(Arrays.asList(Holiday.of(2019, 2, 28), Holiday.of(2019, 2, 28)),
+                HolidayUtils.toHolidayList("-", "[|]", "02-28|02-29", 2019));
+        assertEquals(Arrays.asList(Holiday.of(2020, 2, 28), Holiday.of(2020, 2, 29)),
+                HolidayUtils.toHolidayList("-", "[|]", "02-28|02-29", 2020));
+        assertThrows(DateTimeParseException.class, () -> HolidayUtils.toHolidayList("-", "[|]", "02-30", 2020));
+    }
+}